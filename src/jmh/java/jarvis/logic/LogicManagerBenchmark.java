@@ -0,0 +1,116 @@
+package jarvis.logic;
+
+import static jarvis.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static jarvis.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static jarvis.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static jarvis.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.logic.commands.AddConsultCommand;
+import jarvis.logic.commands.CommandResult;
+import jarvis.logic.commands.FindStudentCommand;
+import jarvis.logic.commands.MarkTaskCommand;
+import jarvis.logic.commands.exceptions.CommandException;
+import jarvis.logic.parser.exceptions.ParseException;
+import jarvis.model.ModelManager;
+import jarvis.model.Student;
+import jarvis.model.StudentBook;
+import jarvis.model.UserPrefs;
+import jarvis.storage.JsonLessonBookStorage;
+import jarvis.storage.JsonStudentBookStorage;
+import jarvis.storage.JsonTaskBookStorage;
+import jarvis.storage.JsonUserPrefsStorage;
+import jarvis.storage.StorageManager;
+import jarvis.storage.TextJournalStorage;
+import jarvis.storage.WriteBehindStorage;
+import jarvis.testutil.BenchmarkData;
+
+/**
+ * Benchmarks executing commands end to end, from parsing to saving, with {@code size} lessons and tasks.
+ * The student book holds at most {@code StudentBook#MAX_STUDENTS} students.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LogicManagerBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private WriteBehindStorage storage;
+    private LogicManager logic;
+    private String clashingConsultCommand;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Student> students = BenchmarkData.getStudents(StudentBook.MAX_STUDENTS);
+        ModelManager model = new ModelManager(BenchmarkData.getStudentBook(students),
+                BenchmarkData.getTaskBook(size),
+                BenchmarkData.getLessonBook(BenchmarkData.getConsults(size, students)), new UserPrefs());
+
+        Path dataFolder = Files.createTempDirectory("jarvis-benchmark");
+        storage = new WriteBehindStorage(new StorageManager(
+                new JsonStudentBookStorage(dataFolder.resolve("studentbook.json")),
+                new JsonTaskBookStorage(dataFolder.resolve("taskbook.json")),
+                new JsonLessonBookStorage(dataFolder.resolve("lessonbook.json")),
+                new TextJournalStorage(dataFolder.resolve("journal.txt")),
+                new JsonUserPrefsStorage(dataFolder.resolve("preferences.json"))));
+        logic = new LogicManager(model, storage);
+
+        LocalDateTime middleLessonStart = BenchmarkData.getTimePeriod(size / 2).getStart();
+        clashingConsultCommand = AddConsultCommand.COMMAND_WORD + " "
+                + PREFIX_START_DATE + middleLessonStart.toLocalDate() + " "
+                + PREFIX_START_TIME + middleLessonStart.toLocalTime() + " "
+                + PREFIX_END_TIME + middleLessonStart.toLocalTime().plusMinutes(30) + " "
+                + PREFIX_STUDENT_INDEX + "1";
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        storage.close();
+    }
+
+    @Benchmark
+    public CommandResult markTask() throws CommandException, ParseException {
+        return logic.execute(MarkTaskCommand.COMMAND_WORD + " 1");
+    }
+
+    @Benchmark
+    public CommandResult findStudent() throws CommandException, ParseException {
+        return logic.execute(FindStudentCommand.COMMAND_WORD + " student");
+    }
+
+    /**
+     * Adds a consultation that clashes with a lesson, which is rejected after checking every part of the command.
+     */
+    @Benchmark
+    public String addClashingConsult() throws ParseException {
+        try {
+            return logic.execute(clashingConsultCommand).getFeedbackToUser();
+        } catch (CommandException ce) {
+            return ce.getMessage();
+        }
+    }
+}
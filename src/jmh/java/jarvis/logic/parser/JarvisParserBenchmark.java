@@ -0,0 +1,66 @@
+package jarvis.logic.parser;
+
+import static jarvis.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static jarvis.logic.parser.CliSyntax.PREFIX_LESSON;
+import static jarvis.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static jarvis.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static jarvis.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.logic.commands.AddConsultCommand;
+import jarvis.logic.commands.Command;
+import jarvis.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing a command with {@code size} student indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JarvisParserBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private final JarvisParser parser = new JarvisParser();
+    private String commandText;
+    private String arguments;
+
+    @Setup
+    public void setUp() {
+        StringBuilder argumentsBuilder = new StringBuilder(" " + PREFIX_LESSON + "Consultation on recursion "
+                + PREFIX_START_DATE + "2022-10-14 " + PREFIX_START_TIME + "12:00 " + PREFIX_END_TIME + "14:00");
+        for (int i = 1; i <= size; i++) {
+            argumentsBuilder.append(" ").append(PREFIX_STUDENT_INDEX).append(i);
+        }
+        arguments = argumentsBuilder.toString();
+        commandText = AddConsultCommand.COMMAND_WORD + arguments;
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIX_LESSON, PREFIX_START_DATE, PREFIX_START_TIME,
+                PREFIX_END_TIME, PREFIX_STUDENT_INDEX);
+    }
+}
@@ -0,0 +1,63 @@
+package jarvis.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.testutil.BenchmarkData;
+import jarvis.testutil.StudentBuilder;
+
+/**
+ * Benchmarks editing a student in a {@code LessonBook} of {@code size} lessons shared by
+ * {@code StudentBook#MAX_STUDENTS} students.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LessonBookBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private LessonBook lessonBook;
+    private Student currentStudent;
+    private Student otherStudent;
+
+    @Setup
+    public void setUp() {
+        List<Student> students = BenchmarkData.getStudents(StudentBook.MAX_STUDENTS);
+        lessonBook = BenchmarkData.getLessonBook(BenchmarkData.getConsults(size, students));
+        currentStudent = students.get(0);
+        otherStudent = new StudentBuilder(currentStudent).withName("Edited Student").build();
+    }
+
+    /**
+     * Replaces a student with an edited copy, alternating between the two so that every invocation edits the student.
+     */
+    @Benchmark
+    public void setStudent() {
+        lessonBook.setStudent(currentStudent, otherStudent);
+        Student editedStudent = otherStudent;
+        otherStudent = currentStudent;
+        currentStudent = editedStudent;
+    }
+
+    @Benchmark
+    public void setStudent_sameStudent() {
+        lessonBook.setStudent(currentStudent, currentStudent);
+    }
+}
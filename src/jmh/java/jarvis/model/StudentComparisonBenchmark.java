@@ -0,0 +1,69 @@
+package jarvis.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.testutil.BenchmarkData;
+
+/**
+ * Benchmarks sorting {@code size} students in their natural order, against sorting them with the comparison that
+ * lowercases and formats the names and matric numbers on every call, which {@code Student#compareTo} used to do.
+ * Running both in the same fork shows the gain from comparing the keys the names and matric numbers keep.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StudentComparisonBenchmark {
+
+    private static final Comparator<Student> UNCACHED_ORDER = (first, second) -> {
+        int result = first.getName().toString().toLowerCase().compareTo(second.getName().toString().toLowerCase());
+        if (result == 0) {
+            return first.getMatricNum().toString().compareTo(second.getMatricNum().toString());
+        }
+        return result;
+    };
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private List<Student> students;
+
+    @Setup
+    public void setUp() {
+        students = BenchmarkData.getStudents(size);
+        // sorting an already sorted list would only take one pass
+        Collections.reverse(students);
+    }
+
+    @Benchmark
+    public List<Student> sortWithCachedKeys() {
+        List<Student> sortedStudents = new ArrayList<>(students);
+        Collections.sort(sortedStudents);
+        return sortedStudents;
+    }
+
+    @Benchmark
+    public List<Student> sortWithUncachedKeys() {
+        List<Student> sortedStudents = new ArrayList<>(students);
+        sortedStudents.sort(UNCACHED_ORDER);
+        return sortedStudents;
+    }
+}
@@ -0,0 +1,67 @@
+package jarvis.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.testutil.BenchmarkData;
+import jarvis.testutil.LessonBuilder;
+
+/**
+ * Benchmarks adding lessons to, and finding clashes in, a {@code UniqueLessonList} of {@code size} lessons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniqueLessonListBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private final UniqueLessonList uniqueLessonList = new UniqueLessonList();
+    private Lesson lessonToAdd;
+    private Lesson clashingLesson;
+
+    @Setup
+    public void setUp() {
+        List<Student> students = BenchmarkData.getStudents(StudentBook.MAX_STUDENTS);
+        uniqueLessonList.setLessons(BenchmarkData.getConsults(size, students));
+
+        // fits in the gap after the middle lesson
+        TimePeriod middle = BenchmarkData.getTimePeriod(size / 2);
+        lessonToAdd = new LessonBuilder().withStudents(students.subList(0, 2))
+                .withTimePeriod(new TimePeriod(middle.getStart().plusHours(1), middle.getEnd().plusHours(1)))
+                .buildConsult();
+        clashingLesson = new LessonBuilder().withStudents(students.subList(0, 2))
+                .withTimePeriod(new TimePeriod(middle.getStart().plusMinutes(30), middle.getEnd().plusMinutes(30)))
+                .buildConsult();
+    }
+
+    /**
+     * Adds a lesson in the middle of the list, and removes it again so that every invocation sees the same list.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        uniqueLessonList.add(lessonToAdd);
+        uniqueLessonList.remove(lessonToAdd);
+    }
+
+    @Benchmark
+    public boolean hasPeriodClash() {
+        return uniqueLessonList.hasPeriodClash(clashingLesson);
+    }
+}
@@ -0,0 +1,67 @@
+package jarvis.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jarvis.commons.util.JsonUtil;
+import jarvis.model.LessonBook;
+import jarvis.model.Student;
+import jarvis.model.StudentBook;
+import jarvis.testutil.BenchmarkData;
+
+/**
+ * Benchmarks converting a {@code LessonBook} of {@code size} lessons to and from JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonSerializableLessonBookBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<Student> students;
+    private LessonBook lessonBook;
+    private String json;
+
+    @Setup
+    public void setUp() throws IOException {
+        students = BenchmarkData.getStudents(StudentBook.MAX_STUDENTS);
+        lessonBook = BenchmarkData.getLessonBook(BenchmarkData.getConsults(size, students));
+        json = JsonUtil.toJsonString(new JsonSerializableLessonBook(lessonBook.getLessonList(), students));
+    }
+
+    /**
+     * Converts the lesson book to its JSON adapters and back, as done when saving in the background.
+     */
+    @Benchmark
+    public LessonBook adaptedRoundTrip() throws IOException {
+        return new JsonSerializableLessonBook(lessonBook.getLessonList(), students).toModelType(students);
+    }
+
+    @Benchmark
+    public String write() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableLessonBook(lessonBook.getLessonList(), students));
+    }
+
+    @Benchmark
+    public LessonBook read() throws IOException {
+        return JsonUtil.fromJsonString(json, JsonSerializableLessonBook.class).toModelType(students);
+    }
+}
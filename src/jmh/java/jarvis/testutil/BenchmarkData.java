@@ -0,0 +1,98 @@
+package jarvis.testutil;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jarvis.model.Lesson;
+import jarvis.model.LessonBook;
+import jarvis.model.Student;
+import jarvis.model.StudentBook;
+import jarvis.model.Task;
+import jarvis.model.TaskBook;
+import jarvis.model.TimePeriod;
+
+/**
+ * A utility class that builds data sets of a given size for the benchmarks.
+ */
+public class BenchmarkData {
+    /** Start of the first lesson. Each lesson is an hour long and starts two hours after the previous one. */
+    public static final LocalDateTime FIRST_LESSON_START = LocalDateTime.of(2022, 1, 3, 8, 0);
+
+    private BenchmarkData() {} // prevents instantiation
+
+    /**
+     * Returns {@code count} students with distinct names and matric numbers.
+     */
+    public static List<Student> getStudents(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(new StudentBuilder()
+                    .withName("Student " + i)
+                    .withMatricNum(String.format("A%07dZ", i))
+                    .build());
+        }
+        return students;
+    }
+
+    /**
+     * Returns a student book with the first {@code StudentBook#MAX_STUDENTS} of {@code students}.
+     */
+    public static StudentBook getStudentBook(List<Student> students) {
+        StudentBook studentBook = new StudentBook();
+        for (Student student : students.subList(0, Math.min(students.size(), StudentBook.MAX_STUDENTS))) {
+            studentBook.addStudent(student);
+        }
+        return studentBook;
+    }
+
+    /**
+     * Returns the time period of the lesson at {@code position} in the lessons returned by
+     * {@link #getConsults(int, List)}.
+     */
+    public static TimePeriod getTimePeriod(int position) {
+        LocalDateTime start = FIRST_LESSON_START.plusHours(2L * position);
+        return new TimePeriod(start, start.plusHours(1));
+    }
+
+    /**
+     * Returns {@code count} consultations that do not clash, each attended by two of {@code students}.
+     */
+    public static List<Lesson> getConsults(int count, List<Student> students) {
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lessons.add(new LessonBuilder()
+                    .withStudents(Arrays.asList(students.get(i % students.size()),
+                            students.get((i + 1) % students.size())))
+                    .withTimePeriod(getTimePeriod(i))
+                    .buildConsult());
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns a lesson book with {@code lessons}.
+     */
+    public static LessonBook getLessonBook(List<Lesson> lessons) {
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.setLessons(lessons);
+        return lessonBook;
+    }
+
+    /**
+     * Returns a task book with {@code count} tasks, half of which have deadlines.
+     */
+    public static TaskBook getTaskBook(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TaskBuilder taskBuilder = new TaskBuilder().withDesc("Task " + i);
+            tasks.add(i % 2 == 0
+                    ? taskBuilder.withDeadline(FIRST_LESSON_START.toLocalDate().plusDays(i)).build()
+                    : taskBuilder.withoutDeadline().build());
+        }
+        TaskBook taskBook = new TaskBook();
+        taskBook.setTasks(tasks);
+        return taskBook;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Objects;
 import java.util.logging.Logger;
 
 import jarvis.commons.core.LogsCenter;
+import jarvis.commons.core.StorageFormat;
 import jarvis.commons.util.FileUtil;
 import javafx.application.Application;
 
@@ -17,6 +18,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private StorageFormat convertDataFormat;
+    private String restoreBackupId;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +29,30 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the format the data files should be converted to before starting, or null if they should not be
+     * converted.
+     */
+    public StorageFormat getConvertDataFormat() {
+        return convertDataFormat;
+    }
+
+    public void setConvertDataFormat(StorageFormat convertDataFormat) {
+        this.convertDataFormat = convertDataFormat;
+    }
+
+    /**
+     * Returns the id of the backup the data files should be restored from before starting, {@code latest} for the
+     * newest backup, or null if no backup should be restored.
+     */
+    public String getRestoreBackupId() {
+        return restoreBackupId;
+    }
+
+    public void setRestoreBackupId(String restoreBackupId) {
+        this.restoreBackupId = restoreBackupId;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +67,20 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String convertDataParameter = namedParameters.get("convert-data");
+        if (convertDataParameter != null) {
+            try {
+                appParameters.setConvertDataFormat(StorageFormat.valueOf(convertDataParameter.toUpperCase()));
+            } catch (IllegalArgumentException iae) {
+                logger.warning("Invalid data format " + convertDataParameter + ". Data files will not be converted.");
+            }
+        }
+
+        String restoreParameter = namedParameters.get("restore");
+        if (restoreParameter != null && !restoreParameter.isBlank()) {
+            appParameters.setRestoreBackupId(restoreParameter.trim());
+        }
+
         return appParameters;
     }
 
@@ -54,7 +95,9 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getConvertDataFormat(), otherAppParameters.getConvertDataFormat())
+                && Objects.equals(getRestoreBackupId(), otherAppParameters.getRestoreBackupId());
     }
 
     @Override
@@ -2,14 +2,24 @@ package jarvis;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import jarvis.commons.core.Config;
+import jarvis.commons.core.DataLoadStatus;
+import jarvis.commons.core.DurabilityMode;
 import jarvis.commons.core.LogsCenter;
+import jarvis.commons.core.StorageBackend;
+import jarvis.commons.core.StorageFormat;
 import jarvis.commons.core.Version;
 import jarvis.commons.exceptions.DataConversionException;
 import jarvis.commons.util.ConfigUtil;
+import jarvis.commons.util.JsonUtil;
 import jarvis.commons.util.StringUtil;
 import jarvis.logic.Logic;
 import jarvis.logic.LogicManager;
@@ -19,26 +29,35 @@ import jarvis.model.ModelManager;
 import jarvis.model.ReadOnlyLessonBook;
 import jarvis.model.ReadOnlyStudentBook;
 import jarvis.model.ReadOnlyTaskBook;
-import jarvis.model.ReadOnlyUserPrefs;
 import jarvis.model.StudentBook;
 import jarvis.model.TaskBook;
 import jarvis.model.UserPrefs;
 import jarvis.model.util.SampleLessonUtil;
 import jarvis.model.util.SampleStudentUtil;
 import jarvis.model.util.SampleTaskUtil;
-import jarvis.storage.JsonLessonBookStorage;
+import jarvis.storage.BackupStorage;
+import jarvis.storage.ChunkedBackupStorage;
+import jarvis.storage.JournalStorage;
 import jarvis.storage.JsonStudentBookStorage;
 import jarvis.storage.JsonTaskBookStorage;
 import jarvis.storage.JsonUserPrefsStorage;
 import jarvis.storage.LessonBookStorage;
+import jarvis.storage.MvStoreLessonBookStorage;
+import jarvis.storage.MvStoreStudentBookStorage;
+import jarvis.storage.MvStoreTaskBookStorage;
+import jarvis.storage.SegmentedLessonBookStorage;
 import jarvis.storage.Storage;
+import jarvis.storage.StorageFormatConverter;
 import jarvis.storage.StorageManager;
 import jarvis.storage.StudentBookStorage;
 import jarvis.storage.TaskBookStorage;
+import jarvis.storage.TextJournalStorage;
 import jarvis.storage.UserPrefsStorage;
+import jarvis.storage.WriteBehindStorage;
 import jarvis.ui.Ui;
 import jarvis.ui.UiManager;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -50,11 +69,29 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** Number of threads used to read the data files. The lesson book is only read after the student book. */
+    private static final int LOADER_THREADS = 2;
+    private static final String BACKUP_FOLDER_NAME = "backups";
+    private static final String LATEST_BACKUP_ID = "latest";
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected BackupStorage backupStorage;
+
+    private CompletableFuture<ReadOnlyStudentBook> studentBookLoad;
+    private CompletableFuture<ReadOnlyTaskBook> taskBookLoad;
+    private CompletableFuture<ReadOnlyLessonBook> lessonBookLoad;
+
+    // set by the loader threads before the books are put into the model
+    private volatile DataLoadStatus studentBookStatus = DataLoadStatus.LOADED;
+    private volatile DataLoadStatus taskBookStatus = DataLoadStatus.LOADED;
+    private volatile DataLoadStatus lessonBookStatus = DataLoadStatus.LOADED;
+
+    /** Completes on the JavaFX application thread once all the books are in the model and the journal is replayed. */
+    private CompletableFuture<Void> dataLoad;
 
     @Override
     public void init() throws Exception {
@@ -63,66 +100,254 @@ public class MainApp extends Application {
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        initJson(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        StudentBookStorage studentBookStorage = new JsonStudentBookStorage(userPrefs.getStudentBookFilePath());
-        TaskBookStorage taskBookStorage = new JsonTaskBookStorage(userPrefs.getTaskBookFilePath());
-        LessonBookStorage lessonBookStorage = new JsonLessonBookStorage(userPrefs.getLessonBookFilePath());
-        storage = new StorageManager(studentBookStorage, taskBookStorage, lessonBookStorage, userPrefsStorage);
+        if (appParameters.getConvertDataFormat() != null) {
+            convertData(userPrefsStorage, userPrefs, appParameters.getConvertDataFormat());
+        }
+        StorageFormat storageFormat = userPrefs.getStorageFormat();
+        StudentBookStorage studentBookStorage =
+                new JsonStudentBookStorage(userPrefs.getStudentBookFilePath(), storageFormat);
+        TaskBookStorage taskBookStorage = new JsonTaskBookStorage(userPrefs.getTaskBookFilePath(), storageFormat);
+        LessonBookStorage lessonBookStorage =
+                new SegmentedLessonBookStorage(userPrefs.getLessonBookFilePath(), storageFormat);
+        if (userPrefs.getStorageBackend() == StorageBackend.DATABASE) {
+            // the data files are only read to import them the first time the databases are used
+            studentBookStorage = new MvStoreStudentBookStorage(userPrefs.getStudentBookFilePath(), studentBookStorage);
+            taskBookStorage = new MvStoreTaskBookStorage(userPrefs.getTaskBookFilePath(), taskBookStorage);
+            lessonBookStorage = new MvStoreLessonBookStorage(userPrefs.getLessonBookFilePath(), lessonBookStorage);
+        }
+        DurabilityMode durabilityMode = config.getDurabilityMode();
+        JournalStorage journalStorage = new TextJournalStorage(userPrefs.getJournalFilePath(),
+                durabilityMode == DurabilityMode.EVERY_COMMAND);
+        StorageManager storageManager = new StorageManager(studentBookStorage, taskBookStorage, lessonBookStorage,
+                journalStorage, userPrefsStorage);
+        WriteBehindStorage writeBehindStorage = durabilityMode == DurabilityMode.INTERVAL
+                ? new WriteBehindStorage(storageManager, config.getSyncIntervalMillis())
+                : new WriteBehindStorage(storageManager);
+        storage = writeBehindStorage;
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        if (config.getBackupsKept() > 0) {
+            backupStorage = initBackupStorage(userPrefs, config.getBackupsKept());
+            if (appParameters.getRestoreBackupId() != null) {
+                restoreBackup(backupStorage, appParameters.getRestoreBackupId());
+            }
+            if (config.getBackupIntervalMinutes() > 0) {
+                writeBehindStorage.scheduleBackups(backupStorage, config.getBackupIntervalMinutes() * 60 * 1000);
+            }
+        } else if (appParameters.getRestoreBackupId() != null) {
+            logger.warning("Backups are turned off, so no backup can be restored");
+        }
+
+        startReadingBooks(storage);
 
+        // the books are put into the model as they are read, after the main window is shown
+        model = new ModelManager(new StudentBook(), new TaskBook(), new LessonBook(), userPrefs);
         logic = new LogicManager(model, storage);
-
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s student, task and lesson books and
-     * {@code userPrefs}. <br> The data from the sample student, task or lesson book will be used instead if
-     * {@code storage}'s student, task or lesson book is not found, or an empty student, task or lesson book will
-     * be used instead if errors occur when reading {@code storage}'s student, task or lesson book.
+     * Starts reading {@code storage}'s student, task and lesson books in the background.
+     * The student and task books are read concurrently, while the lesson book is read once the student book is
+     * available, since its lessons refer to the students in the student book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyStudentBook> studentBookOptional;
-        Optional<ReadOnlyTaskBook> taskBookOptional;
-        Optional<ReadOnlyLessonBook> lessonBookOptional;
-        ReadOnlyStudentBook initialStudentData = new StudentBook();
-        ReadOnlyTaskBook initialTaskData = new TaskBook();
-        ReadOnlyLessonBook initialLessonData = new LessonBook();
+    private void startReadingBooks(Storage storage) {
+        ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "data-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        studentBookLoad = CompletableFuture.supplyAsync(() -> readStudentBook(storage), loader);
+        taskBookLoad = CompletableFuture.supplyAsync(() -> readTaskBook(storage), loader);
+        lessonBookLoad = studentBookLoad.thenApplyAsync(studentBook -> readLessonBook(storage, studentBook), loader);
+        CompletableFuture.allOf(studentBookLoad, taskBookLoad, lessonBookLoad)
+                .whenComplete((unused, throwable) -> loader.shutdown());
+    }
+
+    /**
+     * Returns {@code storage}'s student book. <br> The sample student book will be used instead if the file is not
+     * found, or an empty student book will be used instead if errors occur when reading it.
+     */
+    private ReadOnlyStudentBook readStudentBook(Storage storage) {
         try {
-            studentBookOptional = storage.readStudentBook();
+            Optional<ReadOnlyStudentBook> studentBookOptional = storage.readStudentBook();
             if (!studentBookOptional.isPresent()) {
                 logger.info("Student data file not found. Will be starting with a sample student book");
+                studentBookStatus = DataLoadStatus.SAMPLE_DATA;
             }
-            initialStudentData = studentBookOptional.orElseGet(SampleStudentUtil::getSampleStudentBook);
+            return studentBookOptional.orElseGet(SampleStudentUtil::getSampleStudentBook);
+        } catch (DataConversionException e) {
+            logger.warning("Student data file not in the correct format. Will be starting with an empty student book");
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the student data file. "
+                    + "Will be starting with an empty student book");
+        }
+        studentBookStatus = DataLoadStatus.FAILED;
+        return new StudentBook();
+    }
 
-            taskBookOptional = storage.readTaskBook();
+    /**
+     * Returns {@code storage}'s task book. <br> The sample task book will be used instead if the file is not found,
+     * or an empty task book will be used instead if errors occur when reading it.
+     */
+    private ReadOnlyTaskBook readTaskBook(Storage storage) {
+        try {
+            Optional<ReadOnlyTaskBook> taskBookOptional = storage.readTaskBook();
             if (!taskBookOptional.isPresent()) {
                 logger.info("Task data file not found. Will be starting with a sample task book");
+                taskBookStatus = DataLoadStatus.SAMPLE_DATA;
             }
-            initialTaskData = taskBookOptional.orElseGet(SampleTaskUtil::getSampleTaskBook);
+            return taskBookOptional.orElseGet(SampleTaskUtil::getSampleTaskBook);
+        } catch (DataConversionException e) {
+            logger.warning("Task data file not in the correct format. Will be starting with an empty task book");
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the task data file. Will be starting with an empty task book");
+        }
+        taskBookStatus = DataLoadStatus.FAILED;
+        return new TaskBook();
+    }
 
-            lessonBookOptional = storage.readLessonBook();
+    /**
+     * Returns {@code storage}'s lesson book, with its lessons referring to the students in {@code studentBook}.
+     * <br> The sample lesson book will be used instead if the file is not found, or an empty lesson book will be
+     * used instead if errors occur when reading it.
+     */
+    private ReadOnlyLessonBook readLessonBook(Storage storage, ReadOnlyStudentBook studentBook) {
+        try {
+            Optional<ReadOnlyLessonBook> lessonBookOptional = storage.readLessonBook(studentBook);
             if (!lessonBookOptional.isPresent()) {
                 logger.info("Lesson data file not found. Will be starting with a sample lesson book");
+                lessonBookStatus = DataLoadStatus.SAMPLE_DATA;
             }
-            initialLessonData = lessonBookOptional.orElseGet(SampleLessonUtil::getSampleLessonBook);
+            return lessonBookOptional.orElseGet(SampleLessonUtil::getSampleLessonBook);
         } catch (DataConversionException e) {
-            logger.warning("Data file(s) not in the correct format. Will be starting with empty book(s)");
+            logger.warning("Lesson data file not in the correct format. Will be starting with an empty lesson book");
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file(s). Will be starting with empty book(s)");
+            logger.warning("Problem while reading from the lesson data file. "
+                    + "Will be starting with an empty lesson book");
+        }
+        lessonBookStatus = DataLoadStatus.FAILED;
+        return new LessonBook();
+    }
+
+    /**
+     * Puts each book into the model on the JavaFX application thread as soon as it is read, so that the lists
+     * shown fill in one by one. Once every book is in, the journal is replayed and commands are accepted.
+     */
+    private void showBooksWhenRead() {
+        CompletableFuture<Void> studentBookShown =
+                studentBookLoad.thenAcceptAsync(model::setStudentBook, Platform::runLater);
+        CompletableFuture<Void> taskBookShown = taskBookLoad.thenAcceptAsync(model::setTaskBook, Platform::runLater);
+        // only read after the student book, so it is put into the model after the student book too
+        CompletableFuture<Void> lessonBookShown =
+                lessonBookLoad.thenAcceptAsync(model::setLessonBook, Platform::runLater);
+
+        dataLoad = CompletableFuture.allOf(studentBookShown, taskBookShown, lessonBookShown)
+                .thenRunAsync(this::finishLoading, Platform::runLater);
+        dataLoad.exceptionally(throwable -> {
+            logger.severe("Failed to load data: " + StringUtil.getDetails(throwable));
+            // the stage that failed may not have run on the JavaFX application thread
+            Platform.runLater(ui::showDataLoadFailed);
+            return null;
+        });
+    }
+
+    /**
+     * Replays the journal on top of the books that were read and lets the user start entering commands.
+     */
+    private void finishLoading() {
+        // the books in the model are the ones that were read, apart from sample data which is saved on compaction
+        model.markBooksAsSaved();
+        if (lessonBookStatus == DataLoadStatus.LOADED) {
+            model.markLessonBookAsWritten();
+        }
+        logic.setDataLoadStatuses(studentBookStatus, taskBookStatus, lessonBookStatus);
+        try {
+            logic.recoverFromJournal();
+        } catch (IOException e) {
+            logger.warning("Problem while replaying the journal. Changes since the last save may be missing: "
+                    + StringUtil.getDetails(e));
+        }
+        ui.showDataLoaded();
+        logger.info("Finished loading data");
+    }
+
+    /**
+     * Converts the data files to {@code storageFormat} and saves it as the format to use in {@code userPrefs}.
+     * The data files are left in their current format if they cannot be converted.
+     */
+    private void convertData(UserPrefsStorage userPrefsStorage, UserPrefs userPrefs, StorageFormat storageFormat) {
+        if (userPrefs.getStorageFormat() == storageFormat) {
+            logger.info("Data files are already in " + storageFormat + " format");
+            return;
+        }
+
+        try {
+            new StorageFormatConverter(userPrefs).convert(userPrefs.getStorageFormat(), storageFormat);
+            userPrefs.setStorageFormat(storageFormat);
+            userPrefsStorage.saveUserPrefs(userPrefs);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert data files to " + storageFormat + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code BackupStorage} that keeps {@code backupsKept} backups of the data files in {@code userPrefs},
+     * in a folder next to the student data file.
+     */
+    private BackupStorage initBackupStorage(UserPrefs userPrefs, int backupsKept) {
+        List<Path> sourcePaths = new ArrayList<>();
+        // the folders of the data files also hold the databases and the quarantine files
+        for (Path filePath : List.of(userPrefs.getStudentBookFilePath(), userPrefs.getTaskBookFilePath(),
+                userPrefs.getLessonBookFilePath())) {
+            Path folderPath = filePath.toAbsolutePath().getParent();
+            if (!sourcePaths.contains(folderPath)) {
+                sourcePaths.add(folderPath);
+            }
+        }
+        sourcePaths.add(SegmentedLessonBookStorage.getManifestPath(userPrefs.getLessonBookFilePath(),
+                userPrefs.getStorageFormat()).toAbsolutePath().getParent());
+        // listed on its own so that restoring a backup taken before the journal existed deletes it
+        sourcePaths.add(userPrefs.getJournalFilePath().toAbsolutePath());
+        Path backupFolderPath = userPrefs.getStudentBookFilePath().toAbsolutePath().resolveSibling(BACKUP_FOLDER_NAME);
+        return new ChunkedBackupStorage(backupFolderPath, sourcePaths, backupsKept);
+    }
+
+    /**
+     * Replaces the data files with the ones in the backup with id {@code backupId}, or the newest backup if
+     * {@code backupId} is {@code latest}. The data files are left unchanged if the backup cannot be restored.
+     */
+    private void restoreBackup(BackupStorage backupStorage, String backupId) {
+        try {
+            List<String> backupIds = backupStorage.getBackupIds();
+            String backupIdUsed = backupId;
+            if (backupId.equalsIgnoreCase(LATEST_BACKUP_ID)) {
+                if (backupIds.isEmpty()) {
+                    logger.warning("No backups found in " + backupStorage.getBackupFolderPath());
+                    return;
+                }
+                backupIdUsed = backupIds.get(backupIds.size() - 1);
+            }
+            backupStorage.restoreBackup(backupIdUsed);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to restore backup " + backupId + ", the data files are left unchanged: "
+                    + StringUtil.getDetails(e));
         }
-        return new ModelManager(initialStudentData, initialTaskData, initialLessonData, userPrefs);
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    private void initJson(Config config) {
+        JsonUtil.setPrettyPrinting(config.isDataPrettyPrinted());
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -195,6 +420,7 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting JARVIS " + MainApp.VERSION);
         ui.start(primaryStage);
+        showBooksWhenRead();
     }
 
     @Override
@@ -205,5 +431,25 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (dataLoad == null || !dataLoad.isDone() || dataLoad.isCompletedExceptionally()) {
+            // the books in the model are incomplete and must not overwrite the data files
+            logger.warning("Data was not fully loaded, the data files are left unchanged");
+            return;
+        }
+        try {
+            // the journal is kept if compaction fails, so it has to be on the storage device first
+            storage.syncJournal();
+            logic.compactJournal();
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data, changes remain in the journal " + StringUtil.getDetails(e));
+        }
+        if (backupStorage != null) {
+            try {
+                backupStorage.backUp();
+            } catch (IOException e) {
+                logger.warning("Failed to back up data files " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
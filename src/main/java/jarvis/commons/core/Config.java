@@ -15,6 +15,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isDataPrettyPrinted = true;
+    private DurabilityMode durabilityMode = DurabilityMode.EVERY_COMMAND;
+    private long syncIntervalMillis = 1000;
+    private int backupsKept = 10;
+    private long backupIntervalMinutes = 30;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +37,56 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isDataPrettyPrinted() {
+        return isDataPrettyPrinted;
+    }
+
+    public void setDataPrettyPrinted(boolean isDataPrettyPrinted) {
+        this.isDataPrettyPrinted = isDataPrettyPrinted;
+    }
+
+    public DurabilityMode getDurabilityMode() {
+        return durabilityMode;
+    }
+
+    public void setDurabilityMode(DurabilityMode durabilityMode) {
+        this.durabilityMode = durabilityMode;
+    }
+
+    /**
+     * Returns the interval between forcing the journal onto the storage device in {@code DurabilityMode#INTERVAL}.
+     */
+    public long getSyncIntervalMillis() {
+        return syncIntervalMillis;
+    }
+
+    public void setSyncIntervalMillis(long syncIntervalMillis) {
+        this.syncIntervalMillis = syncIntervalMillis;
+    }
+
+    /**
+     * Returns the number of backups of the data files to keep, or 0 if no backups are taken.
+     */
+    public int getBackupsKept() {
+        return backupsKept;
+    }
+
+    public void setBackupsKept(int backupsKept) {
+        this.backupsKept = backupsKept;
+    }
+
+    /**
+     * Returns the interval between backups of the data files while the app is running, or 0 if a backup is only
+     * taken when the app exits.
+     */
+    public long getBackupIntervalMinutes() {
+        return backupIntervalMinutes;
+    }
+
+    public void setBackupIntervalMinutes(long backupIntervalMinutes) {
+        this.backupIntervalMinutes = backupIntervalMinutes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +99,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isDataPrettyPrinted == o.isDataPrettyPrinted
+                && durabilityMode == o.durabilityMode
+                && syncIntervalMillis == o.syncIntervalMillis
+                && backupsKept == o.backupsKept
+                && backupIntervalMinutes == o.backupIntervalMinutes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isDataPrettyPrinted, durabilityMode, syncIntervalMillis,
+                backupsKept, backupIntervalMinutes);
     }
 
     @Override
@@ -57,6 +118,11 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nData files pretty printed : " + isDataPrettyPrinted);
+        sb.append("\nDurability mode : " + durabilityMode);
+        sb.append("\nSync interval (ms) : " + syncIntervalMillis);
+        sb.append("\nBackups kept : " + backupsKept);
+        sb.append("\nBackup interval (min) : " + backupIntervalMinutes);
         return sb.toString();
     }
 
@@ -0,0 +1,13 @@
+package jarvis.commons.core;
+
+/**
+ * How a book was loaded when the app started, which decides whether its data file may be rewritten.
+ */
+public enum DataLoadStatus {
+    /** The book was read from its data file. */
+    LOADED,
+    /** The data file was not found, so sample data is used, which is saved to a new data file. */
+    SAMPLE_DATA,
+    /** The data file could not be read, so an empty book is used, which must never overwrite the data file. */
+    FAILED
+}
@@ -0,0 +1,15 @@
+package jarvis.commons.core;
+
+/**
+ * How often the commands recorded in the journal are forced onto the storage device, trading the time taken by each
+ * command against how many commands can be lost if the computer crashes.
+ * The data files themselves are always replaced atomically, so they are never left half-written.
+ */
+public enum DurabilityMode {
+    /** The journal is forced after every command that changes the data. */
+    EVERY_COMMAND,
+    /** The journal is forced in the background at a fixed interval. */
+    INTERVAL,
+    /** The journal is only forced when the app exits. */
+    ON_EXIT
+}
@@ -0,0 +1,14 @@
+package jarvis.commons.core;
+
+/**
+ * Where the student, task and lesson books are kept.
+ */
+public enum StorageBackend {
+    /** One data file for each book, in the {@code StorageFormat} set in the user prefs. */
+    FILES,
+    /**
+     * One embedded MVStore database for each book, with a row for each student, task or lesson, so that saving only
+     * writes the rows that changed.
+     */
+    DATABASE
+}
@@ -0,0 +1,43 @@
+package jarvis.commons.core;
+
+import java.nio.file.Path;
+
+/**
+ * The formats the data files can be saved in.
+ */
+public enum StorageFormat {
+    /** Text JSON, which is easy to read and edit by hand. */
+    JSON("json"),
+    /** Smile, a binary form of JSON that is smaller and faster to read and write. */
+    SMILE("sml");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the path a data file configured to be at {@code filePath} is saved at in this format.
+     * JSON files are saved at the configured path, so that existing data files are still found. Files in other
+     * formats are saved next to it, with the file extension of their format.
+     */
+    public Path getDataFilePath(Path filePath) {
+        return this == JSON ? filePath : getFilePath(filePath);
+    }
+
+    /**
+     * Returns {@code filePath} with its file extension replaced by the extension of this format.
+     * The extension is added if {@code filePath} does not have one.
+     */
+    public Path getFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + "." + fileExtension);
+    }
+}
@@ -1,10 +1,18 @@
 package jarvis.commons.util;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +20,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +84,119 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * @see #writeToFileAtomically(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Replaces the contents of a file with the output of {@code contentWriter}.
+     * Will create the file if it does not exist yet.
+     *
+     * The output is written to a temporary file next to the file, forced onto the storage device and then renamed
+     * over the file, so the file holds either its old or its new contents in full even if the app crashes midway.
+     * The folder of the file is then forced too where the platform allows it, so the rename itself is not lost.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            // the channel is only closed after it is forced, even if the writer closes the stream it is given
+            contentWriter.write(new UnclosableOutputStream(Channels.newOutputStream(channel)));
+            channel.force(true);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceFolderToStorage(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of a folder, i.e. the files created, renamed or deleted in it, onto the storage device.
+     * Does nothing on platforms where folders cannot be opened for this, such as Windows.
+     */
+    private static void forceFolderToStorage(Path folder) {
+        if (folder == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(folder, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // the rename has still been made, it is only not guaranteed to survive a crash
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        appendToFile(file, content, false);
+    }
+
+    /**
+     * Appends given string to the end of a file, forcing it onto the storage device before returning if
+     * {@code isForced} is true.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content, boolean isForced) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (isForced) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Forces any changes to a file that are still held by the operating system onto the storage device.
+     * Does nothing if the file does not exist.
+     */
+    public static void forceToStorage(Path file) throws IOException {
+        if (!isFileExists(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Represents a function that writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * An output stream that is only flushed when closed, leaving the underlying stream open.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
@@ -3,7 +3,9 @@ package jarvis.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -11,16 +13,22 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 import jarvis.commons.core.LogsCenter;
+import jarvis.commons.core.StorageFormat;
 import jarvis.commons.exceptions.DataConversionException;
 
 /**
@@ -30,22 +38,74 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
-    private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
-            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
-            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
-            .registerModule(new SimpleModule("SimpleModule")
-                    .addSerializer(Level.class, new ToStringSerializer())
-                    .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
+    private static ObjectMapper objectMapper = createObjectMapper(new JsonFactory());
+    private static ObjectMapper smileObjectMapper = createObjectMapper(new SmileFactory());
+
+    private static boolean isPrettyPrinting = true;
+
+    /**
+     * Sets whether JSON files are saved with indentation and line breaks.
+     * Files saved without them are smaller and faster to save, but harder to edit by hand.
+     */
+    public static void setPrettyPrinting(boolean isPrettyPrinting) {
+        JsonUtil.isPrettyPrinting = isPrettyPrinting;
+    }
+
+    /**
+     * Returns an {@code ObjectMapper} that reads and writes the format of {@code factory}, with the same settings
+     * for every format.
+     */
+    private static ObjectMapper createObjectMapper(JsonFactory factory) {
+        return new ObjectMapper(factory).findAndRegisterModules()
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .registerModule(new SimpleModule("SimpleModule")
+                        .addSerializer(Level.class, new ToStringSerializer())
+                        .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
+    }
+
+    private static ObjectMapper getObjectMapper(StorageFormat format) {
+        return format == StorageFormat.SMILE ? smileObjectMapper : objectMapper;
+    }
+
+    private static ObjectWriter getFileWriter(StorageFormat format) {
+        // binary formats have no layout to pretty print
+        return isPrettyPrinting && format == StorageFormat.JSON
+                ? objectMapper.writerWithDefaultPrettyPrinter()
+                : getObjectMapper(format).writer();
+    }
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToFile(jsonFile, objectToSerialize, StorageFormat.JSON);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        return deserializeObjectFromFile(jsonFile, classOfObjectToDeserialize, StorageFormat.JSON);
+    }
+
+    /**
+     * Writes {@code objectToSerialize} to {@code file} in {@code format} as it is converted, without building the
+     * whole document in memory first.
+     */
+    static <T> void serializeObjectToFile(Path file, T objectToSerialize, StorageFormat format) throws IOException {
+        // the generator buffers its output, so the stream does not need to be buffered
+        FileUtil.writeToFileAtomically(file,
+                outputStream -> getFileWriter(format).writeValue(outputStream, objectToSerialize));
+    }
+
+    /**
+     * Reads an instance of {@code classOfObjectToDeserialize} from {@code file} in {@code format} as it is parsed,
+     * without reading the whole file into memory first.
+     */
+    static <T> T deserializeObjectFromFile(Path file, Class<T> classOfObjectToDeserialize, StorageFormat format)
+            throws IOException {
+        // the parser buffers its input, so the stream does not need to be buffered
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return getObjectMapper(format).readValue(inputStream, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -64,16 +124,51 @@ public class JsonUtil {
             return Optional.empty();
         }
 
-        T jsonFile;
+        return Optional.of(readFile(filePath, classOfObjectToDeserialize, StorageFormat.JSON));
+    }
+
+    /**
+     * Returns the object saved in {@code format} in the given file, or {@code Optional.empty()} if neither the file
+     * nor a copy of it in another format is found.
+     * A copy in another format, i.e. with the file extension of that format, is never read in place of the file,
+     * since it may be older than the data the user expects. Such copies are only read when converting the data
+     * files between formats.
+     * @param filePath cannot be null.
+     * @param classOfObjectToDeserialize the file has to correspond to the structure in the class given here.
+     * @throws DataConversionException if the file format is not as expected, or if the file is not found but a copy
+     *     of it in another format is.
+     */
+    public static <T> Optional<T> readDataFile(Path filePath, Class<T> classOfObjectToDeserialize,
+            StorageFormat format) throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        if (Files.exists(filePath)) {
+            return Optional.of(readFile(filePath, classOfObjectToDeserialize, format));
+        }
+
+        for (StorageFormat otherFormat : StorageFormat.values()) {
+            Path otherFilePath = otherFormat.getFilePath(filePath);
+            if (otherFormat != format && Files.exists(otherFilePath)) {
+                logger.warning("Data file " + filePath + " not found, but " + otherFilePath + " is. Set storageFormat "
+                        + "in the preferences file to " + otherFormat + " to read it");
+                throw new DataConversionException(new NoSuchFileException(filePath.toString(), otherFilePath.toString(),
+                        "only found in " + otherFormat + " format"));
+            }
+        }
+
+        logger.info("Data file " + filePath + " not found");
+        return Optional.empty();
+    }
 
+    private static <T> T readFile(Path filePath, Class<T> classOfObjectToDeserialize, StorageFormat format)
+            throws DataConversionException {
         try {
-            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
+            return deserializeObjectFromFile(filePath, classOfObjectToDeserialize, format);
         } catch (IOException e) {
-            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            logger.warning("Error reading from " + format + " file " + filePath + ": " + e);
             throw new DataConversionException(e);
         }
-
-        return Optional.of(jsonFile);
     }
 
     /**
@@ -84,12 +179,45 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveDataFile(jsonFile, filePath, StorageFormat.JSON);
+    }
+
+    /**
+     * Saves the object to the specified file in {@code format}.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveDataFile(T objectToSave, Path filePath, StorageFormat format) throws IOException {
         requireNonNull(filePath);
-        requireNonNull(jsonFile);
+        requireNonNull(objectToSave);
+        requireNonNull(format);
+
+        serializeObjectToFile(filePath, objectToSave, format);
+    }
+
+    /**
+     * Returns the contents of a data file holding {@code objectToSave} in {@code format}, without saving it.
+     * @throws IOException if the object could not be converted
+     */
+    public static <T> byte[] toDataFileBytes(T objectToSave, StorageFormat format) throws IOException {
+        requireNonNull(objectToSave);
+        requireNonNull(format);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        return getFileWriter(format).writeValueAsBytes(objectToSave);
     }
 
+    /**
+     * Converts the contents of a data file in {@code format}, as returned by
+     * {@link #toDataFileBytes(Object, StorageFormat)}, into an instance of {@code classOfObjectToDeserialize}.
+     * @throws IOException if the contents are not in the expected format
+     */
+    public static <T> T fromDataFileBytes(byte[] bytes, Class<T> classOfObjectToDeserialize, StorageFormat format)
+            throws IOException {
+        requireNonNull(bytes);
+        requireNonNull(format);
+
+        return getObjectMapper(format).readValue(bytes, classOfObjectToDeserialize);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +238,22 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a tree of JSON nodes, holding the same fields as its JSON data
+     * string representation, so that the fields can be stored apart.
+     */
+    public static <T> ObjectNode toJsonTree(T instance) {
+        return objectMapper.valueToTree(instance);
+    }
+
+    /**
+     * Converts a tree of JSON nodes, as returned by {@link #toJsonTree(Object)}, into an instance of a class.
+     * @throws IOException if the tree is not in the expected format
+     */
+    public static <T> T fromJsonTree(JsonNode tree, Class<T> instanceClass) throws IOException {
+        return objectMapper.treeToValue(tree, instanceClass);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,7 +1,10 @@
 package jarvis.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
+import jarvis.commons.core.DataLoadStatus;
 import jarvis.commons.core.GuiSettings;
 import jarvis.logic.commands.CommandResult;
 import jarvis.logic.commands.exceptions.CommandException;
@@ -27,6 +30,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Records how each book was loaded. The data files of books replaced by sample data are rewritten on the next
+     * compaction, while the data files of books that failed to load are never rewritten.
+     */
+    void setDataLoadStatuses(DataLoadStatus studentBookStatus, DataLoadStatus taskBookStatus,
+                             DataLoadStatus lessonBookStatus);
+
+    /**
+     * Replays the commands recorded in the journal on top of the books loaded from storage,
+     * then folds them into a fresh snapshot of the books.
+     * @throws IOException If an error occurs while reading the journal or saving the books.
+     */
+    void recoverFromJournal() throws IOException;
+
+    /**
+     * Saves the books that changed since the last snapshot and clears the journal.
+     * @throws IOException If an error occurs while saving the books or clearing the journal.
+     */
+    void compactJournal() throws IOException;
+
+    /**
+     * Sets the handler to be notified with an error message when data fails to be saved in the background.
+     * The handler may be called from any thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the StudentBook.
      *
@@ -1,14 +1,20 @@
 package jarvis.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import jarvis.commons.core.DataLoadStatus;
 import jarvis.commons.core.GuiSettings;
 import jarvis.commons.core.LogsCenter;
 import jarvis.logic.commands.Command;
 import jarvis.logic.commands.CommandResult;
+import jarvis.logic.commands.ListAllCommand;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.logic.parser.JarvisParser;
 import jarvis.logic.parser.exceptions.ParseException;
@@ -27,12 +33,33 @@ import javafx.collections.ObservableList;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+
+    /** Size in bytes beyond which the journal is folded into a fresh snapshot of the books. */
+    public static final long JOURNAL_COMPACTION_THRESHOLD = 64 * 1024;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final JarvisParser jarvisParser;
 
+    /**
+     * Commands executed since the journal was last appended to. They are only written out together with the next
+     * command that modifies a book, since index-based commands depend on the filters they have applied.
+     */
+    private final List<String> pendingCommands = new ArrayList<>();
+
+    // Whether the saved copy of each book is older than the journal, i.e. needs to be rewritten on compaction.
+    private boolean isStudentBookSnapshotStale = false;
+    private boolean isTaskBookSnapshotStale = false;
+    private boolean isLessonBookSnapshotStale = false;
+
+    // Whether each book failed to load, in which case the empty book used in its place must never be saved over
+    // its data file.
+    private boolean hasStudentBookFailedToLoad = false;
+    private boolean hasTaskBookFailedToLoad = false;
+    private boolean hasLessonBookFailedToLoad = false;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -46,23 +73,21 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
-        List<Lesson> allLessonList = model.getFilteredLessonList();
-        for (Lesson l : allLessonList) {
-            if (l.hasTimingConflict()) {
-                l.unmarkClash();
-                model.setLesson(l, l);
-            }
-        }
-
         CommandResult commandResult;
-        Command command = jarvisParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = executeCommand(commandText);
+        } catch (CommandException ce) {
+            // a failed command may still have changed the displayed lists
+            pendingCommands.add(commandText);
+            throw ce;
+        }
+        pendingCommands.add(commandText);
 
         try {
-            storage.saveStudentBook(model.getStudentBook());
-            storage.saveTaskBook(model.getTaskBook());
-            storage.saveLessonBook(model.getLessonBook());
+            saveChanges();
+            if (commandResult.isExit()) {
+                storage.flush();
+            }
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -70,6 +95,123 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void setDataLoadStatuses(DataLoadStatus studentBookStatus, DataLoadStatus taskBookStatus,
+                                    DataLoadStatus lessonBookStatus) {
+        isStudentBookSnapshotStale |= studentBookStatus == DataLoadStatus.SAMPLE_DATA;
+        isTaskBookSnapshotStale |= taskBookStatus == DataLoadStatus.SAMPLE_DATA;
+        isLessonBookSnapshotStale |= lessonBookStatus == DataLoadStatus.SAMPLE_DATA;
+        hasStudentBookFailedToLoad = studentBookStatus == DataLoadStatus.FAILED;
+        hasTaskBookFailedToLoad = taskBookStatus == DataLoadStatus.FAILED;
+        hasLessonBookFailedToLoad = lessonBookStatus == DataLoadStatus.FAILED;
+    }
+
+    @Override
+    public void recoverFromJournal() throws IOException {
+        List<String> journal = storage.readJournal();
+        if (journal.isEmpty()) {
+            return;
+        }
+
+        logger.info("Replaying " + journal.size() + " command(s) from journal " + storage.getJournalFilePath());
+        for (String commandText : journal) {
+            try {
+                executeCommand(commandText);
+            } catch (CommandException ce) {
+                // the command failed the same way when it was first executed
+                logger.fine("Replayed command failed: " + commandText);
+            } catch (ParseException pe) {
+                logger.warning("Skipping malformed journal entry: " + commandText);
+            }
+        }
+        model.updateFilteredStudentList(Model.PREDICATE_SHOW_ALL_STUDENTS);
+        model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
+        model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
+
+        isStudentBookSnapshotStale |= model.getStudentBook().hasUnsavedChanges();
+        isTaskBookSnapshotStale |= model.getTaskBook().hasUnsavedChanges();
+        isLessonBookSnapshotStale |= model.getLessonBook().hasUnsavedChanges();
+        compactJournal();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Books that failed to load are not saved, and the changes made to them are discarded with the journal.
+     */
+    @Override
+    public void compactJournal() throws IOException {
+        if (isStudentBookSnapshotStale && !hasStudentBookFailedToLoad) {
+            storage.saveStudentBook(model.getStudentBook(), storage.getStudentBookFilePath());
+        }
+        isStudentBookSnapshotStale = false;
+        if (isTaskBookSnapshotStale && !hasTaskBookFailedToLoad) {
+            storage.saveTaskBook(model.getTaskBook(), storage.getTaskBookFilePath());
+        }
+        isTaskBookSnapshotStale = false;
+        if (isLessonBookSnapshotStale && !hasLessonBookFailedToLoad) {
+            storage.saveLessonBook(model.getLessonBook(), model.getStudentBook(), storage.getLessonBookFilePath());
+            model.markLessonBookAsWritten();
+        }
+        isLessonBookSnapshotStale = false;
+        storage.clearJournal();
+        pendingCommands.clear();
+        model.markBooksAsSaved();
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        storage.setSaveErrorHandler(ioe -> saveErrorHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    /**
+     * Parses and executes {@code commandText} against the model without saving the result.
+     */
+    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        // clashes are only marked until the next command
+        model.clearLessonClashes();
+
+        Command command = jarvisParser.parseCommand(commandText);
+        return command.execute(model);
+    }
+
+    /**
+     * Appends the pending commands to the journal if the last command modified any book, and folds the journal
+     * into a fresh snapshot of the books once it grows past {@link #JOURNAL_COMPACTION_THRESHOLD}.
+     */
+    private void saveChanges() throws IOException {
+        boolean hasStudentChanges = model.getStudentBook().hasUnsavedChanges();
+        boolean hasTaskChanges = model.getTaskBook().hasUnsavedChanges();
+        boolean hasLessonChanges = model.getLessonBook().hasUnsavedChanges();
+        if (!hasStudentChanges && !hasTaskChanges && !hasLessonChanges) {
+            if (isShowingAllEntries()) {
+                // nothing before this point affects how later commands are replayed
+                pendingCommands.clear();
+                pendingCommands.add(ListAllCommand.COMMAND_WORD);
+            }
+            return;
+        }
+
+        storage.appendToJournal(pendingCommands);
+        pendingCommands.clear();
+        model.markBooksAsSaved();
+        isStudentBookSnapshotStale |= hasStudentChanges;
+        isTaskBookSnapshotStale |= hasTaskChanges;
+        isLessonBookSnapshotStale |= hasLessonChanges;
+
+        // Replay starts from unfiltered lists, so only compact when the displayed lists are not filtered.
+        if (storage.getJournalSize() >= JOURNAL_COMPACTION_THRESHOLD && isShowingAllEntries()) {
+            logger.info("Journal exceeded " + JOURNAL_COMPACTION_THRESHOLD + " bytes, compacting");
+            compactJournal();
+        }
+    }
+
+    private boolean isShowingAllEntries() {
+        return model.getFilteredStudentList().size() == model.getStudentBook().getStudentList().size()
+                && model.getFilteredTaskList().size() == model.getTaskBook().getTaskList().size()
+                && model.getFilteredLessonList().size() == model.getLessonBook().getLessonList().size();
+    }
+
     @Override
     public ReadOnlyStudentBook getStudentBook() {
         return model.getStudentBook();
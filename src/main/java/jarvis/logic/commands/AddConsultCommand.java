@@ -17,7 +17,6 @@ import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.model.Consult;
-import jarvis.model.Lesson;
 import jarvis.model.LessonDesc;
 import jarvis.model.Model;
 import jarvis.model.Student;
@@ -73,7 +72,6 @@ public class AddConsultCommand extends Command {
         requireNonNull(model);
         List<Student> lastShownList = model.getFilteredStudentList();
         model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
-        List<Lesson> allLessonList = model.getFilteredLessonList();
 
         Set<Student> studentSet = new TreeSet<>();
 
@@ -87,16 +85,10 @@ public class AddConsultCommand extends Command {
 
         Consult consultToAdd = new Consult(consultDesc, consultPeriod, studentSet);
 
-        if (model.hasLesson(consultToAdd)) {
+        if (model.getClashingLessons(consultToAdd).stream().anyMatch(consultToAdd::hasSameContent)) {
             throw new CommandException(MESSAGE_DUPLICATE_CONSULT);
         } else if (model.hasPeriodClash(consultToAdd)) {
-            allLessonList.stream().filter(consultToAdd::hasTimingConflict).forEach(Lesson::markClash);
-            // Update for JavaFX
-            for (Lesson l : allLessonList) {
-                if (l.hasTimingConflict()) {
-                    model.setLesson(l, l);
-                }
-            }
+            model.markClashingLessons(consultToAdd);
             throw new CommandException(MESSAGE_TIME_PERIOD_CLASH);
         }
 
@@ -16,7 +16,6 @@ import java.util.TreeSet;
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
 import jarvis.logic.commands.exceptions.CommandException;
-import jarvis.model.Lesson;
 import jarvis.model.LessonDesc;
 import jarvis.model.MasteryCheck;
 import jarvis.model.Model;
@@ -73,7 +72,6 @@ public class AddMasteryCheckCommand extends Command {
         requireNonNull(model);
         List<Student> lastShownList = model.getFilteredStudentList();
         model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
-        List<Lesson> allLessonList = model.getFilteredLessonList();
 
         Set<Student> studentSet = new TreeSet<>();
 
@@ -86,16 +84,10 @@ public class AddMasteryCheckCommand extends Command {
         }
         MasteryCheck masteryCheckToAdd = new MasteryCheck(masteryCheckDesc, masteryCheckPeriod, studentSet);
 
-        if (model.hasLesson(masteryCheckToAdd)) {
+        if (model.getClashingLessons(masteryCheckToAdd).stream().anyMatch(masteryCheckToAdd::hasSameContent)) {
             throw new CommandException(MESSAGE_DUPLICATE_MASTERY_CHECK);
         } else if (model.hasPeriodClash(masteryCheckToAdd)) {
-            allLessonList.stream().filter(masteryCheckToAdd::hasTimingConflict).forEach(Lesson::markClash);
-            // Update for JavaFX
-            for (Lesson l : allLessonList) {
-                if (l.hasTimingConflict()) {
-                    model.setLesson(l, l);
-                }
-            }
+            model.markClashingLessons(masteryCheckToAdd);
             throw new CommandException(MESSAGE_TIME_PERIOD_CLASH);
         }
 
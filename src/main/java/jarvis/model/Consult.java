@@ -1,7 +1,9 @@
 package jarvis.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a Consult in JARVIS.
@@ -20,12 +22,33 @@ public class Consult extends Lesson {
         super(lessonDesc, timePeriod, students, attendance, notes);
     }
 
+    /**
+     * Creates a Consult with the attendance and notes data mapped by student index, which are only used to create the
+     * {@code LessonAttendance} and {@code LessonNotes} when they are first needed.
+     * Every field must be present and not null.
+     */
+    public Consult(LessonDesc lessonDesc, TimePeriod timePeriod, List<Student> students,
+                   Map<Integer, Boolean> indexAttendanceMap, ArrayList<String> generalNotes,
+                   Map<Integer, ArrayList<String>> indexNotesMap) {
+        this(LessonId.generate(), lessonDesc, timePeriod, students, indexAttendanceMap, generalNotes, indexNotesMap);
+    }
+
+    /**
+     * Creates a Consult with the given id, and with the attendance and notes data mapped by student index.
+     * Every field must be present and not null.
+     */
+    public Consult(LessonId lessonId, LessonDesc lessonDesc, TimePeriod timePeriod, List<Student> students,
+                   Map<Integer, Boolean> indexAttendanceMap, ArrayList<String> generalNotes,
+                   Map<Integer, ArrayList<String>> indexNotesMap) {
+        super(lessonId, lessonDesc, timePeriod, students, indexAttendanceMap, generalNotes, indexNotesMap);
+    }
+
     /**
      * Returns true if both Consults have the same description,
      * occur at the same time and are attended by the same students.
      */
     @Override
-    public boolean equals(Object other) {
+    public boolean hasSameContent(Lesson other) {
         if (other == this) {
             return true;
         }
@@ -49,11 +72,6 @@ public class Consult extends Lesson {
                 && otherConsult.getAttendance().equals(getAttendance());
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(getDesc(), getTimePeriod(), getAttendance());
-    }
-
     @Override
     public String toString() {
         return "Consult at " + getTimePeriod();
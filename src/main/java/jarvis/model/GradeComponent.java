@@ -40,6 +40,13 @@ public class GradeComponent {
     }
 
     public String getGradeString() {
+        return formatGrade(assessment, isGraded, marks);
+    }
+
+    /**
+     * Returns the grade for {@code assessment} as shown in the student table.
+     */
+    static String formatGrade(Assessment assessment, boolean isGraded, double marks) {
         int totalMarks = assessment.getTotalMarks();
         if (!isGraded) {
             switch(assessment) {
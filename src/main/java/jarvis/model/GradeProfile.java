@@ -1,22 +1,50 @@
 package jarvis.model;
 
+import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jarvis.logic.commands.exceptions.InvalidMarkException;
 
 /**
  * A class to encapsulate a student's grades for all assessments.
+ * The marks are kept in an array and whether each assessment is graded in a bitmask, both indexed by
+ * {@code Assessment#ordinal()}. The formatted grades shown in the student table are kept until the grade changes,
+ * so showing them again does not allocate.
  */
 public class GradeProfile {
-    private final EnumMap<Assessment, GradeComponent> gradeMap;
+    private static final Assessment[] ASSESSMENTS = Assessment.values();
+
+    @JsonIgnore
+    private final double[] marks = new double[ASSESSMENTS.length];
+    @JsonIgnore
+    private int gradedAssessments;
+    // the formatted grade of each assessment, or null if it has changed since it was last formatted
+    @JsonIgnore
+    private final String[] gradeStrings = new String[ASSESSMENTS.length];
 
     /**
      * Constructor for the default grade profile (i.e. all components are ungraded)
      */
-    public GradeProfile() {
-        gradeMap = new EnumMap<>(Assessment.class);
-        for (Assessment a : Assessment.values()) {
-            gradeMap.put(a, new GradeComponent(a));
+    public GradeProfile() {}
+
+    /**
+     * JSON Constructor for Jackson, which takes the grades in the form they are saved in.
+     */
+    @JsonCreator
+    public GradeProfile(@JsonProperty("gradeMap") Map<Assessment, GradeComponent> gradeMap) {
+        if (gradeMap == null) {
+            return;
+        }
+        for (Map.Entry<Assessment, GradeComponent> entry : gradeMap.entrySet()) {
+            GradeComponent gc = entry.getValue();
+            if (entry.getKey() != null && gc != null && gc.isGraded()) {
+                setMarks(entry.getKey(), gc.getMarks());
+            }
         }
     }
 
@@ -27,110 +55,130 @@ public class GradeProfile {
         if (mark < 0 || mark > a.getTotalMarks()) {
             throw new InvalidMarkException();
         }
-        gradeMap.get(a).setGrade(mark);
+        setMarks(a, mark);
     }
 
     /**
-     * Updates the current gradeMap with all graded components in the given GradeProfile.
+     * Records the marks for the given assessment, without checking the marks.
+     */
+    private void setMarks(Assessment a, double mark) {
+        int index = a.ordinal();
+        gradedAssessments |= 1 << index;
+        marks[index] = mark;
+        gradeStrings[index] = null;
+    }
+
+    /**
+     * Updates the current grades with all graded components in the given GradeProfile.
      */
     public void updateGrades(GradeProfile gp) {
-        EnumMap<Assessment, GradeComponent> updatedGradeMap = gp.getGradeMap();
-        for (Assessment a : Assessment.values()) {
-            GradeComponent gc = updatedGradeMap.get(a);
-            if (gc.isGraded()) {
-                gradeMap.get(a).setGrade(gc.getMarks());
+        for (Assessment a : ASSESSMENTS) {
+            if (gp.isGraded(a)) {
+                grade(a, gp.getMarks(a));
             }
         }
     }
 
+    /**
+     * Returns a new map of each assessment to its grade, which is how the grades are saved.
+     */
+    @JsonProperty("gradeMap")
     public EnumMap<Assessment, GradeComponent> getGradeMap() {
-        return gradeMap.clone();
+        EnumMap<Assessment, GradeComponent> gradeMap = new EnumMap<>(Assessment.class);
+        for (Assessment a : ASSESSMENTS) {
+            GradeComponent gc = new GradeComponent(a);
+            if (isGraded(a)) {
+                gc.setGrade(getMarks(a));
+            }
+            gradeMap.put(a, gc);
+        }
+        return gradeMap;
+    }
+
+    public boolean isGraded(Assessment assessment) {
+        return (gradedAssessments & (1 << assessment.ordinal())) != 0;
     }
 
     public double getMarks(Assessment assessment) {
-        return gradeMap.get(assessment).getMarks();
+        return marks[assessment.ordinal()];
+    }
+
+    /**
+     * Returns the grade of {@code assessment} as shown in the student table, formatting it only if it changed since
+     * it was last formatted.
+     */
+    private String getGradeString(Assessment assessment) {
+        int index = assessment.ordinal();
+        if (gradeStrings[index] == null) {
+            gradeStrings[index] = GradeComponent.formatGrade(assessment, isGraded(assessment), marks[index]);
+        }
+        return gradeStrings[index];
     }
 
     // Getters (for JavaFX Use)
     public String getMc1() {
-        return gradeMap.get(Assessment.MC1).getGradeString();
+        return getGradeString(Assessment.MC1);
     }
 
     public String getMc2() {
-        return gradeMap.get(Assessment.MC2).getGradeString();
+        return getGradeString(Assessment.MC2);
     }
 
     public String getRa1() {
-        return gradeMap.get(Assessment.RA1).getGradeString();
+        return getGradeString(Assessment.RA1);
     }
 
     public String getRa2() {
-        return gradeMap.get(Assessment.RA2).getGradeString();
+        return getGradeString(Assessment.RA2);
     }
 
     public String getMidterm() {
-        return gradeMap.get(Assessment.MIDTERM).getGradeString();
+        return getGradeString(Assessment.MIDTERM);
     }
 
     public String getPracticalAssessment() {
-        return gradeMap.get(Assessment.PRACTICAL_ASSESSMENT).getGradeString();
+        return getGradeString(Assessment.PRACTICAL_ASSESSMENT);
     }
 
     public String getFinalAssessment() {
-        return gradeMap.get(Assessment.FINAL_ASSESSMENT).getGradeString();
+        return getGradeString(Assessment.FINAL_ASSESSMENT);
     }
 
     public String getStudioAttendance() {
-        return gradeMap.get(Assessment.STUDIO_ATTENDANCE).getGradeString();
+        return getGradeString(Assessment.STUDIO_ATTENDANCE);
     }
 
     // Setters
     public void setMc1(double marks) {
-        GradeComponent gc = new GradeComponent(Assessment.MC1);
-        gc.setGrade(marks);
-        gradeMap.put(Assessment.MC1, gc);
+        grade(Assessment.MC1, marks);
     }
 
     public void setMc2(double marks) {
-        GradeComponent gc = new GradeComponent(Assessment.MC2);
-        gc.setGrade(marks);
-        gradeMap.put(Assessment.MC2, gc);
+        grade(Assessment.MC2, marks);
     }
 
     public void setRa1(double marks) {
-        GradeComponent gc = new GradeComponent(Assessment.RA1);
-        gc.setGrade(marks);
-        gradeMap.put(Assessment.RA1, gc);
+        grade(Assessment.RA1, marks);
     }
 
     public void setRa2(double marks) {
-        GradeComponent gc = new GradeComponent(Assessment.RA2);
-        gc.setGrade(marks);
-        gradeMap.put(Assessment.RA2, gc);
+        grade(Assessment.RA2, marks);
     }
 
     public void setMidterm(double marks) {
-        GradeComponent gc = new GradeComponent(Assessment.MIDTERM);
-        gc.setGrade(marks);
-        gradeMap.put(Assessment.MIDTERM, gc);
+        grade(Assessment.MIDTERM, marks);
     }
 
     public void setPracticalAssessment(double marks) {
-        GradeComponent gc = new GradeComponent(Assessment.PRACTICAL_ASSESSMENT);
-        gc.setGrade(marks);
-        gradeMap.put(Assessment.PRACTICAL_ASSESSMENT, gc);
+        grade(Assessment.PRACTICAL_ASSESSMENT, marks);
     }
 
     public void setFinalAssessment(double marks) {
-        GradeComponent gc = new GradeComponent(Assessment.FINAL_ASSESSMENT);
-        gc.setGrade(marks);
-        gradeMap.put(Assessment.FINAL_ASSESSMENT, gc);
+        grade(Assessment.FINAL_ASSESSMENT, marks);
     }
 
     public void setStudioAttendance(double marks) {
-        GradeComponent gc = new GradeComponent(Assessment.STUDIO_ATTENDANCE);
-        gc.setGrade(marks);
-        gradeMap.put(Assessment.STUDIO_ATTENDANCE, gc);
+        grade(Assessment.STUDIO_ATTENDANCE, marks);
     }
 
     @Override
@@ -144,6 +192,11 @@ public class GradeProfile {
         }
 
         GradeProfile gp = (GradeProfile) other;
-        return gradeMap.equals(gp.gradeMap);
+        return gradedAssessments == gp.gradedAssessments && Arrays.equals(marks, gp.marks);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * gradedAssessments + Arrays.hashCode(marks);
     }
 }
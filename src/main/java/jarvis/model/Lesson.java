@@ -6,9 +6,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 
 import jarvis.commons.core.Messages;
 import jarvis.commons.core.index.Index;
@@ -19,26 +19,43 @@ import javafx.collections.ObservableList;
 /**
  * Represents a Lesson in JARVIS.
  * Guarantees: details are present and not null.
+ *
+ * Each lesson has a {@code LessonId} that stays the same for as long as the lesson exists. Two lessons are equal if
+ * they have the same id, so comparing lessons never compares their attendance or notes. Whether two lessons have
+ * the same details is decided by {@link #hasSameContent(Lesson)} instead.
  */
 public abstract class Lesson implements Comparable<Lesson> {
 
     // Identity fields
+    private final LessonId lessonId;
     private final LessonDesc lessonDesc;
     private final TimePeriod timePeriod;
     private final ArrayList<Student> studentList;
     private final ObservableList<Student> observableStudentList;
 
-    // Data fields
-    private final LessonAttendance attendance;
-    private final LessonNotes notes;
+    // Data fields, which are null until first needed if the lesson was created with its index-keyed data
+    private LessonAttendance attendance;
+    private LessonNotes notes;
+    private Map<Integer, Boolean> indexAttendanceMap;
+    private ArrayList<String> generalNotes;
+    private Map<Integer, ArrayList<String>> indexNotesMap;
     private boolean isCompleted = false;
     private boolean hasClash = false;
 
+    // Index-keyed views of the data, which read the data through the index of each student in the data's own roster.
+    // The indexes are null until first needed, and are found again only after the lesson's roster changes.
+    private final Map<Integer, Boolean> attendanceView =
+            new RosterIndexedMap<>(this::getRosterSize, this::isPresentAt);
+    private final Map<Integer, ArrayList<String>> studentNotesView =
+            new RosterIndexedMap<>(this::getRosterSize, this::getStudentNotesAt);
+    private int[] attendanceIndexes;
+
     /**
      * Every field must be present and not null.
      */
     public Lesson(LessonDesc lessonDesc, TimePeriod timePeriod, Collection<Student> students) {
         requireAllNonNull(timePeriod, students);
+        this.lessonId = LessonId.generate();
         this.lessonDesc = lessonDesc;
         this.timePeriod = timePeriod;
         this.studentList = new ArrayList<>(students);
@@ -58,6 +75,7 @@ public abstract class Lesson implements Comparable<Lesson> {
         assert notes.getAllStudents().containsAll(students);
         assert students.containsAll(attendance.getAllStudents());
 
+        this.lessonId = LessonId.generate();
         this.lessonDesc = lessonDesc;
         this.timePeriod = timePeriod;
         this.studentList = new ArrayList<>(students);
@@ -66,6 +84,41 @@ public abstract class Lesson implements Comparable<Lesson> {
         this.notes = notes;
     }
 
+    /**
+     * Creates a lesson with the attendance and notes data mapped by student index, which is the student's index in
+     * {@code students}. The {@code LessonAttendance} and {@code LessonNotes} are only created from the data when they
+     * are first needed.
+     * Every field must be present and not null.
+     */
+    public Lesson(LessonDesc lessonDesc, TimePeriod timePeriod, List<Student> students,
+                  Map<Integer, Boolean> indexAttendanceMap, ArrayList<String> generalNotes,
+                  Map<Integer, ArrayList<String>> indexNotesMap) {
+        this(LessonId.generate(), lessonDesc, timePeriod, students, indexAttendanceMap, generalNotes, indexNotesMap);
+    }
+
+    /**
+     * Creates a lesson with the given id, and with the attendance and notes data mapped by student index as in
+     * {@link #Lesson(LessonDesc, TimePeriod, List, Map, ArrayList, Map)}.
+     * Every field must be present and not null.
+     */
+    public Lesson(LessonId lessonId, LessonDesc lessonDesc, TimePeriod timePeriod, List<Student> students,
+                  Map<Integer, Boolean> indexAttendanceMap, ArrayList<String> generalNotes,
+                  Map<Integer, ArrayList<String>> indexNotesMap) {
+        requireAllNonNull(lessonId, timePeriod, students, indexAttendanceMap, generalNotes, indexNotesMap);
+        this.lessonId = lessonId;
+        this.lessonDesc = lessonDesc;
+        this.timePeriod = timePeriod;
+        this.studentList = new ArrayList<>(students);
+        this.observableStudentList = FXCollections.observableArrayList(studentList);
+        this.indexAttendanceMap = indexAttendanceMap;
+        this.generalNotes = generalNotes;
+        this.indexNotesMap = indexNotesMap;
+    }
+
+    public LessonId getId() {
+        return lessonId;
+    }
+
     public LocalDateTime startDateTime() {
         return timePeriod.getStart();
     }
@@ -104,29 +157,90 @@ public abstract class Lesson implements Comparable<Lesson> {
 
     public void setStudent(Student targetStudent, Student editedStudent) {
         if (studentList.contains(targetStudent)) {
-            attendance.setStudent(targetStudent, editedStudent);
-            notes.setStudent(targetStudent, editedStudent);
+            // the index-keyed data refers to the current order of the students, so it has to be loaded first
+            getLessonAttendance().setStudent(targetStudent, editedStudent);
+            getLessonNotes().setStudent(targetStudent, editedStudent);
             studentList.remove(targetStudent);
             studentList.add(editedStudent);
             Collections.sort(studentList);
             observableStudentList.setAll(studentList);
+            invalidateRosterIndexes();
+        }
+    }
+
+    /**
+     * Forgets the indexes the index-keyed views read the data through, after the lesson's roster has changed.
+     */
+    protected void invalidateRosterIndexes() {
+        attendanceIndexes = null;
+    }
+
+    /**
+     * Returns the index in {@code roster} of each student in the lesson's roster, or -1 for students not in it.
+     * This takes time linear in the size of the rosters, as students are only looked up by hash if the rosters are
+     * in different orders.
+     */
+    protected int[] findRosterIndexes(List<Student> roster) {
+        int[] indexes = new int[studentList.size()];
+        Map<Student, Integer> rosterIndexes = null;
+        for (int i = 0; i < studentList.size(); i++) {
+            Student student = studentList.get(i);
+            if (i < roster.size() && roster.get(i).equals(student)) {
+                indexes[i] = i;
+                continue;
+            }
+            if (rosterIndexes == null) {
+                rosterIndexes = new HashMap<>();
+                for (int j = 0; j < roster.size(); j++) {
+                    rosterIndexes.put(roster.get(j), j);
+                }
+            }
+            indexes[i] = rosterIndexes.getOrDefault(student, -1);
+        }
+        return indexes;
+    }
+
+    private int getRosterSize() {
+        return studentList.size();
+    }
+
+    private boolean isPresentAt(int index) {
+        if (attendance == null) {
+            return indexAttendanceMap.getOrDefault(index, false);
         }
+        if (attendanceIndexes == null) {
+            attendanceIndexes = findRosterIndexes(attendance.getRoster());
+        }
+        return attendanceIndexes[index] >= 0 && attendance.isPresent(attendanceIndexes[index]);
+    }
+
+    private ArrayList<String> getStudentNotesAt(int index) {
+        ArrayList<String> studentNotes = notes == null
+                ? indexNotesMap.get(index)
+                : notes.getStudentNotes(studentList.get(index));
+        // a student without notes saved for them has no notes
+        return studentNotes == null ? new ArrayList<>() : studentNotes;
     }
 
     public String getStudentsName() {
-        return attendance.getAllStudentsName();
+        StringBuilder studentsNameBuilder = new StringBuilder("Students: ");
+        for (Student student : studentList) {
+            studentsNameBuilder.append(student.getName()).append(", ");
+        }
+        studentsNameBuilder.deleteCharAt(studentsNameBuilder.length() - 2); //remove the last ','
+        return studentsNameBuilder.toString();
     }
 
     public String isPresent(Student student) {
-        return attendance.isPresent(student) ? "Present" : "Absent";
+        return getLessonAttendance().isPresent(student) ? "Present" : "Absent";
     }
 
     public void markAsPresent(Student student) {
-        attendance.markAsPresent(student);
+        getLessonAttendance().markAsPresent(student);
     }
 
     public void markAsAbsent(Student student) {
-        attendance.markAsAbsent(student);
+        getLessonAttendance().markAsAbsent(student);
     }
 
     public void markAsCompleted() {
@@ -153,58 +267,77 @@ public abstract class Lesson implements Comparable<Lesson> {
         return timePeriod;
     }
 
+    /**
+     * Returns a read-only view of the attendance mapped by student index, which is the student's index in the
+     * student list. The view reflects later changes to the attendance.
+     */
     public Map<Integer, Boolean> getAttendance() {
-        Map<Integer, Boolean> resMap = new TreeMap<>();
-        for (Student student : studentList) {
-            resMap.put(studentList.indexOf(student), attendance.isPresent(student));
-        }
-        return resMap;
+        return attendanceView;
     }
 
+    /**
+     * Returns the attendance of the lesson, creating it from the index-keyed data if it has not been created yet.
+     */
     public LessonAttendance getLessonAttendance() {
+        if (attendance == null) {
+            attendance = new LessonAttendance(studentList, indexAttendanceMap);
+            indexAttendanceMap = null;
+        }
         return attendance;
     }
 
+    /**
+     * Returns the notes of the lesson, creating them from the index-keyed data if they have not been created yet.
+     */
     public LessonNotes getLessonNotes() {
+        if (notes == null) {
+            notes = new LessonNotes(studentList, generalNotes, indexNotesMap);
+            generalNotes = null;
+            indexNotesMap = null;
+        }
         return notes;
     }
 
     public String getStudentNotesString(Student student) {
-        return notes.getStudentNotesString(student);
+        return getLessonNotes().getStudentNotesString(student);
     }
 
     public String getGeneralNotesString() {
-        return notes.getGeneralNotesString();
+        return getLessonNotes().getGeneralNotesString();
     }
 
-    public ArrayList<String> getGeneralNotes() {
-        return notes.getGeneralNotes();
+    /**
+     * Returns a read-only view of the general notes, which reflects later changes to the notes.
+     */
+    public List<String> getGeneralNotes() {
+        // the notes keep the list they are created from, so the view stays up to date once they are created
+        return Collections.unmodifiableList(notes == null ? generalNotes : notes.getGeneralNotes());
     }
 
+    /**
+     * Returns a read-only view of the student notes mapped by student index, which is the student's index in the
+     * student list. The view reflects later changes to the notes.
+     */
     public Map<Integer, ArrayList<String>> getStudentNotes() {
-        TreeMap<Integer, ArrayList<String>> resMap = new TreeMap<>();
-        for (Student student: studentList) {
-            resMap.put(studentList.indexOf(student), notes.getStudentNotes(student));
-        }
-        return resMap;
+        return studentNotesView;
     }
 
     public abstract LessonType getLessonType();
 
     public void addOverallNote(String overallNotes) {
-        notes.addNote(overallNotes);
+        getLessonNotes().addNote(overallNotes);
     }
 
     public void addStudentNote(String studentNotes, Student student) {
-        notes.addNote(student, studentNotes);
+        getLessonNotes().addNote(student, studentNotes);
     }
 
     public String deleteOverallNote(Index index) {
-        return notes.deleteNote(index.getZeroBased());
+        return getLessonNotes().deleteNote(index.getZeroBased());
     }
 
     public String deleteStudentNote(Student student, Index index) {
-        return notes.deleteNote(student, index.getZeroBased());
+        return getLessonNotes().deleteNote(student, index.getZeroBased());
     }
 
     public void markClash() {
@@ -215,6 +348,27 @@ public abstract class Lesson implements Comparable<Lesson> {
         hasClash = false;
     }
 
+    /**
+     * Returns true if {@code other} is the same kind of lesson with the same details as this lesson.
+     * The lessons' ids are not compared.
+     */
+    public abstract boolean hasSameContent(Lesson other);
+
+    /**
+     * Returns true if both lessons have the same id.
+     * @see #hasSameContent(Lesson)
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof Lesson && lessonId.equals(((Lesson) other).lessonId));
+    }
+
+    @Override
+    public int hashCode() {
+        return lessonId.hashCode();
+    }
+
     @Override
     public int compareTo(Lesson l) {
         if (isCompleted != l.isCompleted()) {
@@ -1,20 +1,27 @@
 package jarvis.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 
 import jarvis.model.exceptions.NoStudentsInLessonException;
 import jarvis.model.exceptions.StudentNotFoundException;
 
 /**
  * Represents the attendance for a lesson in JARVIS.
+ * The students are kept in roster order, and whether each is present is kept as a bit at the student's index in the
+ * roster, so marking and looking up attendance neither compares student names nor allocates.
  */
 public class LessonAttendance {
 
-    private final TreeMap<Student, Boolean> attendance;
+    private final StudentRoster students;
+    private final BitSet presence;
 
     /**
      * Creates the attendance list for a lesson.
@@ -25,10 +32,11 @@ public class LessonAttendance {
             throw new NoStudentsInLessonException();
         }
 
-        attendance = new TreeMap<>();
+        this.students = new StudentRoster(students.size());
         for (Student stu : students) {
-            attendance.put(stu, false);
+            this.students.add(stu);
         }
+        this.presence = new BitSet(this.students.size());
     }
 
     /**
@@ -38,11 +46,27 @@ public class LessonAttendance {
      * @param indexAttendanceMap The attendance data using student indexes to represent students in the studentList.
      */
     public LessonAttendance(List<Student> studentList, Map<Integer, Boolean> indexAttendanceMap) {
-        TreeMap<Student, Boolean> attendance = new TreeMap<>();
-        for (Integer i : indexAttendanceMap.keySet()) {
-            attendance.put(studentList.get(i), indexAttendanceMap.get(i));
+        this.students = new StudentRoster(indexAttendanceMap.size());
+        this.presence = new BitSet(indexAttendanceMap.size());
+        for (int i = 0; i < studentList.size(); i++) {
+            Boolean isPresent = indexAttendanceMap.get(i);
+            if (isPresent != null && students.add(studentList.get(i))) {
+                presence.set(students.size() - 1, isPresent);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of {@code student} in the roster.
+     * @throws StudentNotFoundException if the student is not in the lesson.
+     */
+    private int getRosterIndex(Student student) {
+        requireNonNull(student);
+        int index = students.indexOf(student);
+        if (index < 0) {
+            throw new StudentNotFoundException();
         }
-        this.attendance = attendance;
+        return index;
     }
 
     /**
@@ -50,10 +74,7 @@ public class LessonAttendance {
      * @param student Student to mark as present.
      */
     public void markAsPresent(Student student) {
-        if (!attendance.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        attendance.put(student, true);
+        presence.set(getRosterIndex(student));
     }
 
     /**
@@ -61,54 +82,56 @@ public class LessonAttendance {
      * @param student Student to mark as absent.
      */
     public void markAsAbsent(Student student) {
-        if (!attendance.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        attendance.put(student, false);
+        presence.clear(getRosterIndex(student));
     }
 
     public boolean isPresent(Student student) {
-        return attendance.getOrDefault(student, false);
+        requireNonNull(student);
+        int index = students.indexOf(student);
+        return index >= 0 && presence.get(index);
     }
 
-    public Set<Student> getAllStudents() {
-        return attendance.keySet();
+    /**
+     * Returns whether the student at {@code rosterIndex} in the roster is present.
+     */
+    boolean isPresent(int rosterIndex) {
+        return presence.get(rosterIndex);
     }
 
-    public String getAllStudentsName() {
-        StringBuilder studentsNameBuilder = new StringBuilder();
-        studentsNameBuilder.append("Students: ");
-        Set<Student> students = getAllStudents();
-        assert !students.isEmpty();
+    /**
+     * Returns the students in roster order.
+     */
+    List<Student> getRoster() {
+        return students.asUnmodifiableList();
+    }
 
-        for (Student student : students) {
-            studentsNameBuilder.append(student.getName() + ", ");
-        }
-        studentsNameBuilder.deleteCharAt(studentsNameBuilder.length() - 2); //remove the last ','
-        return studentsNameBuilder.toString();
+    public Set<Student> getAllStudents() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(students.asUnmodifiableList()));
     }
 
+    /**
+     * Replaces {@code targetStudent} with {@code editedStudent}, who keeps the attendance and roster index of
+     * {@code targetStudent}.
+     */
     public void setStudent(Student targetStudent, Student editedStudent) {
-        if (!attendance.containsKey(targetStudent)) {
-            return;
-        }
-        boolean b = attendance.get(targetStudent);
-        attendance.remove(targetStudent);
-        attendance.put(editedStudent, b);
+        students.set(targetStudent, editedStudent);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("Attendance:\n");
-        for (Map.Entry<Student, Boolean> entry : attendance.entrySet()) {
-            sb.append(entry.getKey());
+        for (int i = 0; i < students.size(); i++) {
+            sb.append(students.get(i));
             sb.append(": ");
-            sb.append(entry.getValue() ? "PRESENT" : "ABSENT");
+            sb.append(presence.get(i) ? "PRESENT" : "ABSENT");
             sb.append("\n");
         }
         return sb.toString();
     }
 
+    /**
+     * Returns true if both attendance lists have the same students with the same attendance, in any order.
+     */
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -120,11 +143,25 @@ public class LessonAttendance {
         }
 
         LessonAttendance otherLessonAttendance = (LessonAttendance) other;
-        return otherLessonAttendance.attendance.equals(attendance);
+        if (otherLessonAttendance.students.size() != students.size()) {
+            return false;
+        }
+        for (int i = 0; i < students.size(); i++) {
+            int otherIndex = otherLessonAttendance.students.indexOf(students.get(i));
+            if (otherIndex < 0 || otherLessonAttendance.presence.get(otherIndex) != presence.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return attendance.hashCode();
+        // the same as the hash code of a map from each student to their attendance, which does not depend on order
+        int hash = 0;
+        for (int i = 0; i < students.size(); i++) {
+            hash += students.get(i).hashCode() ^ Boolean.hashCode(presence.get(i));
+        }
+        return hash;
     }
 }
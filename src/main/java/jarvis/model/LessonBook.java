@@ -2,7 +2,15 @@ package jarvis.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 
@@ -13,6 +21,15 @@ import javafx.collections.ObservableList;
 public class LessonBook implements ReadOnlyLessonBook {
 
     private final UniqueLessonList lessons;
+    private final List<Lesson> lessonsMarkedWithClash = new ArrayList<>();
+    /** The lessons each student is in, so that changes to a student only touch the lessons of that student. */
+    private final Map<MatricNum, Set<Lesson>> lessonsByMatricNum = new HashMap<>();
+    private boolean hasUnsavedChanges = false;
+    /**
+     * The lessons added, edited or removed since the lesson book was last written to its data file, compared by
+     * identity, or null if that is not known.
+     */
+    private Set<Lesson> changedLessons = null;
 
     {
         lessons = new UniqueLessonList();
@@ -32,10 +49,26 @@ public class LessonBook implements ReadOnlyLessonBook {
 
     /**
      * Replaces the contents of the lesson list with {@code lessons}.
-     * {@code lessons} must not contain duplicate lessons.
+     * {@code lessons} must not contain duplicate lessons. Lessons that clash with each other are kept, and marked.
      */
     public void setLessons(List<? extends Lesson> lessons) {
         this.lessons.setLessons(lessons);
+        lessonsMarkedWithClash.clear();
+        lessonsByMatricNum.clear();
+        for (Lesson lesson : lessons) {
+            if (lesson.hasTimingConflict()) {
+                lessonsMarkedWithClash.add(lesson);
+            }
+            addToStudentIndex(lesson);
+        }
+        for (Lesson clashingLesson : this.lessons.getLessonsWithClash()) {
+            if (!clashingLesson.hasTimingConflict()) {
+                clashingLesson.markClash();
+                lessonsMarkedWithClash.add(clashingLesson);
+            }
+        }
+        hasUnsavedChanges = true;
+        changedLessons = null;
     }
 
     /**
@@ -57,12 +90,23 @@ public class LessonBook implements ReadOnlyLessonBook {
         return lessons.contains(lesson);
     }
 
+    /**
+     * Returns true if a lesson with the same details as {@code lesson} exists in the lesson book, whatever its id.
+     */
+    public boolean hasLessonWithSameContent(Lesson lesson) {
+        requireNonNull(lesson);
+        // a lesson with the same details has the same time period, so it is one of the clashing lessons
+        return lessons.getClashingLessons(lesson).stream().anyMatch(lesson::hasSameContent);
+    }
+
     /**
      * Adds a lesson to the lesson book.
      * The lesson must not already exist in the lesson book.
      */
     public void addLesson(Lesson p) {
         lessons.add(p);
+        addToStudentIndex(p);
+        recordChange(p);
     }
 
     /**
@@ -72,6 +116,48 @@ public class LessonBook implements ReadOnlyLessonBook {
         return lessons.hasPeriodClash(l);
     }
 
+    /**
+     * Returns the lessons in the lesson book that have a time period clash with the given lesson.
+     */
+    public List<Lesson> getClashingLessons(Lesson l) {
+        return lessons.getClashingLessons(l);
+    }
+
+    /**
+     * Marks the lessons that have a time period clash with the given lesson, and unmarks the lessons marked
+     * previously that do not. Only lessons whose mark changes are refreshed in the lesson list.
+     */
+    public void markClashingLessons(Lesson l) {
+        List<Lesson> clashingLessons = lessons.getClashingLessons(l);
+        for (Lesson markedLesson : new ArrayList<>(lessonsMarkedWithClash)) {
+            if (!clashingLessons.contains(markedLesson)) {
+                unmarkClash(markedLesson);
+            }
+        }
+        for (Lesson clashingLesson : clashingLessons) {
+            if (!clashingLesson.hasTimingConflict()) {
+                clashingLesson.markClash();
+                lessonsMarkedWithClash.add(clashingLesson);
+                lessons.refresh(clashingLesson);
+            }
+        }
+    }
+
+    /**
+     * Unmarks all lessons marked by {@link #markClashingLessons(Lesson)}.
+     */
+    public void clearClashes() {
+        for (Lesson markedLesson : new ArrayList<>(lessonsMarkedWithClash)) {
+            unmarkClash(markedLesson);
+        }
+    }
+
+    private void unmarkClash(Lesson markedLesson) {
+        markedLesson.unmarkClash();
+        lessonsMarkedWithClash.remove(markedLesson);
+        lessons.refresh(markedLesson);
+    }
+
     /**
      * Replaces the given lesson {@code targetLesson} in the list with {@code editedLesson}.
      * {@code targetLesson} must exist in the lesson book.
@@ -82,6 +168,13 @@ public class LessonBook implements ReadOnlyLessonBook {
         requireNonNull(editedLesson);
 
         lessons.setLesson(targetLesson, editedLesson);
+        removeFromStudentIndex(targetLesson);
+        addToStudentIndex(editedLesson);
+        if (lessonsMarkedWithClash.remove(targetLesson) && editedLesson.hasTimingConflict()) {
+            lessonsMarkedWithClash.add(editedLesson);
+        }
+        recordChange(targetLesson);
+        recordChange(editedLesson);
     }
 
     /**
@@ -90,15 +183,110 @@ public class LessonBook implements ReadOnlyLessonBook {
      */
     public void removeLesson(Lesson key) {
         lessons.remove(key);
+        lessonsMarkedWithClash.remove(key);
+        removeFromStudentIndex(key);
+        recordChange(key);
     }
 
+    /**
+     * Replaces the given student {@code targetStudent} with {@code editedStudent} in every lesson that
+     * {@code targetStudent} is in.
+     */
     public void setStudent(Student targetStudent, Student editedStudent) {
-        for (Lesson l: lessons) {
-            if (!l.hasStudent(targetStudent)) {
+        if (targetStudent == editedStudent) {
+            // the lessons already refer to this student, so changes to it are already in the lessons
+            return;
+        }
+
+        Set<Lesson> lessonsOfStudent = lessonsByMatricNum.remove(targetStudent.getMatricNum());
+        if (lessonsOfStudent == null) {
+            return;
+        }
+        for (Lesson l : lessonsOfStudent) {
+            l.setStudent(targetStudent, editedStudent);
+            lessons.refresh(l);
+            recordChange(l);
+        }
+        lessonsByMatricNum.put(editedStudent.getMatricNum(), lessonsOfStudent);
+    }
+
+    /**
+     * Records that {@code removedStudent} was removed from the student book, so that the lessons it is still in are
+     * saved again with a copy of it.
+     */
+    public void markStudentRemoved(Student removedStudent) {
+        Set<Lesson> lessonsOfStudent = lessonsByMatricNum.get(removedStudent.getMatricNum());
+        if (lessonsOfStudent == null) {
+            return;
+        }
+        for (Lesson l : lessonsOfStudent) {
+            recordChange(l);
+        }
+    }
+
+    private void addToStudentIndex(Lesson lesson) {
+        for (Student student : lesson.getStudentList()) {
+            // lessons are compared by identity, as their equality depends on data that changes
+            lessonsByMatricNum.computeIfAbsent(student.getMatricNum(), matricNum ->
+                    Collections.newSetFromMap(new IdentityHashMap<>())).add(lesson);
+        }
+    }
+
+    private void removeFromStudentIndex(Lesson lesson) {
+        for (Student student : lesson.getStudentList()) {
+            Set<Lesson> lessonsOfStudent = lessonsByMatricNum.get(student.getMatricNum());
+            if (lessonsOfStudent == null) {
                 continue;
             }
-            l.setStudent(targetStudent, editedStudent);
-            lessons.setLesson(l, l);
+            lessonsOfStudent.remove(lesson);
+            if (lessonsOfStudent.isEmpty()) {
+                lessonsByMatricNum.remove(student.getMatricNum());
+            }
+        }
+    }
+
+    //// change tracking
+
+    private void recordChange(Lesson lesson) {
+        hasUnsavedChanges = true;
+        if (changedLessons != null) {
+            changedLessons.add(lesson);
+        }
+    }
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    /**
+     * Marks the current state of this {@code LessonBook} as persisted to storage.
+     */
+    public void markAsSaved() {
+        hasUnsavedChanges = false;
+    }
+
+    @Override
+    public Optional<List<Lesson>> getChangedLessons() {
+        return changedLessons == null ? Optional.empty() : Optional.of(new ArrayList<>(changedLessons));
+    }
+
+    /**
+     * Marks the current state of this {@code LessonBook} as written to its data file, so that only the lessons
+     * changed after this call have to be written again.
+     * Unlike {@link #markAsSaved()}, this is only called once the lessons are in the data file itself.
+     */
+    public void markAsWritten() {
+        changedLessons = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Records {@code lessons} as changed since this {@code LessonBook} was last written, e.g. when it is a copy of a
+     * lesson book made to be written in its place.
+     */
+    public void addChangedLessons(Collection<? extends Lesson> lessons) {
+        if (changedLessons != null) {
+            changedLessons.addAll(lessons);
         }
     }
 
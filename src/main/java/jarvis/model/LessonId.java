@@ -0,0 +1,56 @@
+package jarvis.model;
+
+import static jarvis.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.UUID;
+
+/**
+ * Represents the identity of a lesson, which stays the same however the lesson's details change.
+ * Guarantees: immutable; is valid as declared in {@link #isValidLessonId(String)}
+ */
+public class LessonId {
+    public static final String MESSAGE_CONSTRAINTS = "Lesson ids should be UUIDs in lower case, "
+            + "e.g. 123e4567-e89b-12d3-a456-426614174000";
+    public static final String VALIDATION_REGEX = "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
+
+    public final String value;
+
+    /**
+     * Creates a LessonId.
+     * @param lessonId String representing a valid lesson id.
+     */
+    public LessonId(String lessonId) {
+        requireNonNull(lessonId);
+        checkArgument(isValidLessonId(lessonId), MESSAGE_CONSTRAINTS);
+        value = lessonId;
+    }
+
+    /**
+     * Returns a new lesson id, which is different from every other lesson id.
+     */
+    public static LessonId generate() {
+        return new LessonId(UUID.randomUUID().toString());
+    }
+
+    public static boolean isValidLessonId(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LessonId // instanceof handles nulls
+                && value.equals(((LessonId) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
@@ -14,12 +14,17 @@ import jarvis.model.exceptions.StudentNotFoundException;
 
 /**
  * Represents the notes for a lesson in JARVIS.
+ * The hash codes of the general notes and of the student notes are kept up to date as notes are added and deleted,
+ * so comparing and hashing notes does not go through every note. The lists of notes handed out must not be modified.
  */
 public class LessonNotes {
     public static final String GENERAL_NOTES_HEADER = "Lesson Notes:\n";
 
     private final ArrayList<String> generalNotes;
     private final TreeMap<Student, ArrayList<String>> studentNotes;
+    // the hash codes of generalNotes and studentNotes, as given by List#hashCode and Map#hashCode
+    private int generalNotesHash;
+    private int studentNotesHash;
 
     /**
      * Creates the notes for a lesson.
@@ -36,6 +41,8 @@ public class LessonNotes {
         for (Student stu : students) {
             studentNotes.put(stu, new ArrayList<>());
         }
+        generalNotesHash = generalNotes.hashCode();
+        studentNotesHash = studentNotes.hashCode();
     }
 
     /**
@@ -53,6 +60,15 @@ public class LessonNotes {
         }
         this.generalNotes = generalNotes;
         this.studentNotes = studentNotes;
+        generalNotesHash = generalNotes.hashCode();
+        studentNotesHash = studentNotes.hashCode();
+    }
+
+    /**
+     * Returns the hash code of the entry for {@code student} in {@code studentNotes}, as given by Map.Entry#hashCode.
+     */
+    private static int getEntryHash(Student student, ArrayList<String> notes) {
+        return student.hashCode() ^ notes.hashCode();
     }
 
     /**
@@ -63,7 +79,9 @@ public class LessonNotes {
         if (notes.isBlank()) {
             throw new InvalidNoteException("Note cannot be empty");
         }
-        generalNotes.add(notes.strip());
+        String note = notes.strip();
+        generalNotes.add(note);
+        generalNotesHash = 31 * generalNotesHash + note.hashCode();
     }
 
     /**
@@ -78,7 +96,10 @@ public class LessonNotes {
         if (!studentNotes.containsKey(student)) {
             throw new StudentNotFoundException();
         }
-        studentNotes.get(student).add(notes.strip());
+        ArrayList<String> specifiedStudentNotes = studentNotes.get(student);
+        int oldEntryHash = getEntryHash(student, specifiedStudentNotes);
+        specifiedStudentNotes.add(notes.strip());
+        studentNotesHash += getEntryHash(student, specifiedStudentNotes) - oldEntryHash;
     }
 
     /**
@@ -91,7 +112,9 @@ public class LessonNotes {
         if (index >= generalNotes.size()) {
             throw new NoteNotFoundException();
         }
-        return generalNotes.remove(index);
+        String deletedNote = generalNotes.remove(index);
+        generalNotesHash = generalNotes.hashCode();
+        return deletedNote;
     }
 
     /**
@@ -109,7 +132,10 @@ public class LessonNotes {
         if (index >= specifiedStudentNotes.size()) {
             throw new NoteNotFoundException();
         }
-        return specifiedStudentNotes.remove(index);
+        int oldEntryHash = getEntryHash(student, specifiedStudentNotes);
+        String deletedNote = specifiedStudentNotes.remove(index);
+        studentNotesHash += getEntryHash(student, specifiedStudentNotes) - oldEntryHash;
+        return deletedNote;
     }
 
     public String getGeneralNotesString() {
@@ -165,6 +191,7 @@ public class LessonNotes {
         assert tempNotes != null;
         studentNotes.remove(targetStudent);
         studentNotes.put(editedStudent, tempNotes);
+        studentNotesHash += getEntryHash(editedStudent, tempNotes) - getEntryHash(targetStudent, tempNotes);
     }
 
     public Set<Student> getAllStudents() {
@@ -187,11 +214,14 @@ public class LessonNotes {
         }
 
         LessonNotes otherLessonNotes = (LessonNotes) other;
-        return otherLessonNotes.getAllNotes().equals(getAllNotes());
+        return otherLessonNotes.generalNotesHash == generalNotesHash
+                && otherLessonNotes.studentNotesHash == studentNotesHash
+                && otherLessonNotes.generalNotes.equals(generalNotes)
+                && otherLessonNotes.studentNotes.equals(studentNotes);
     }
 
     @Override
     public int hashCode() {
-        return getAllNotes().hashCode();
+        return 31 * generalNotesHash + studentNotesHash;
     }
 }
@@ -6,7 +6,7 @@ import static java.util.Objects.requireNonNull;
 /**
  * Represents a student's matriculation number.
  */
-public class MatricNum {
+public class MatricNum implements Comparable<MatricNum> {
     public static final String MESSAGE_CONSTRAINTS = "Matriculation Numbers must start with 'A', "
             + "followed by 7 digits and a capital letter";
     public static final String VALIDATION_REGEX = "A[0-9]{7}[A-Z]";
@@ -27,6 +27,11 @@ public class MatricNum {
         return test.matches(VALIDATION_REGEX);
     }
 
+    @Override
+    public int compareTo(MatricNum other) {
+        return value.compareTo(other.value);
+    }
+
     @Override
     public String toString() {
         return value;
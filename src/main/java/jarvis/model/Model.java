@@ -1,6 +1,7 @@
 package jarvis.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import jarvis.commons.core.GuiSettings;
@@ -200,4 +201,34 @@ public interface Model {
      * Returns true if {@lesson} has clashing time period with a lesson in the lesson book.
      */
     boolean hasPeriodClash(Lesson lesson);
+
+    /**
+     * Returns the lessons in the lesson book that have a clashing time period with {@code lesson}.
+     */
+    List<Lesson> getClashingLessons(Lesson lesson);
+
+    /**
+     * Marks the lessons in the lesson book that have a clashing time period with {@code lesson}.
+     * Lessons marked previously that do not clash with {@code lesson} are unmarked.
+     */
+    void markClashingLessons(Lesson lesson);
+
+    /**
+     * Unmarks all lessons marked as clashing.
+     */
+    void clearLessonClashes();
+
+    //=========== Change tracking ============================================================================
+
+    /**
+     * Marks the student, task and lesson books as saved, so that only books modified after this call
+     * report unsaved changes.
+     */
+    void markBooksAsSaved();
+
+    /**
+     * Marks the lesson book as written to its data file, so that only the lessons changed after this call are
+     * written again when it is next saved.
+     */
+    void markLessonBookAsWritten();
 }
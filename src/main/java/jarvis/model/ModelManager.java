@@ -4,6 +4,7 @@ import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -150,6 +151,7 @@ public class ModelManager implements Model {
     @Override
     public void deleteStudent(Student targetStudent) {
         studentBook.removeStudent(targetStudent);
+        lessonBook.markStudentRemoved(targetStudent);
     }
 
     @Override
@@ -242,6 +244,38 @@ public class ModelManager implements Model {
         requireNonNull(lesson);
         return lessonBook.hasPeriodClash(lesson);
     }
+
+    @Override
+    public List<Lesson> getClashingLessons(Lesson lesson) {
+        requireNonNull(lesson);
+        return lessonBook.getClashingLessons(lesson);
+    }
+
+    @Override
+    public void markClashingLessons(Lesson lesson) {
+        requireNonNull(lesson);
+        lessonBook.markClashingLessons(lesson);
+    }
+
+    @Override
+    public void clearLessonClashes() {
+        lessonBook.clearClashes();
+    }
+
+    //=========== Change tracking =============================================================================
+
+    @Override
+    public void markBooksAsSaved() {
+        studentBook.markAsSaved();
+        taskBook.markAsSaved();
+        lessonBook.markAsSaved();
+    }
+
+    @Override
+    public void markLessonBookAsWritten() {
+        lessonBook.markAsWritten();
+    }
+
     //=========== Filtered Student List Accessors =============================================================
 
     /**
@@ -1,5 +1,8 @@
 package jarvis.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 
 /**
@@ -13,4 +16,16 @@ public interface ReadOnlyLessonBook {
      */
     ObservableList<Lesson> getLessonList();
 
+    /**
+     * Returns true if the lesson book has been modified since it was last saved.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Returns the lessons added, edited or removed since the lesson book was last written to its data file, or an
+     * empty Optional if they are not known, in which case every lesson has to be written again.
+     * Removed lessons are no longer in the lesson list, but their ids and times still tell where they were stored.
+     */
+    Optional<List<Lesson>> getChangedLessons();
+
 }
@@ -13,4 +13,9 @@ public interface ReadOnlyStudentBook {
      */
     ObservableList<Student> getStudentList();
 
+    /**
+     * Returns true if the student book has been modified since it was last saved.
+     */
+    boolean hasUnsavedChanges();
+
 }
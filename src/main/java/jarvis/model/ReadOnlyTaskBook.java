@@ -13,4 +13,9 @@ public interface ReadOnlyTaskBook {
      */
     ObservableList<Task> getTaskList();
 
+    /**
+     * Returns true if the task book has been modified since it was last saved.
+     */
+    boolean hasUnsavedChanges();
+
 }
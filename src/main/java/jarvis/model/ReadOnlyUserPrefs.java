@@ -3,6 +3,8 @@ package jarvis.model;
 import java.nio.file.Path;
 
 import jarvis.commons.core.GuiSettings;
+import jarvis.commons.core.StorageBackend;
+import jarvis.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -17,4 +19,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getLessonBookFilePath();
 
+    Path getJournalFilePath();
+
+    StorageFormat getStorageFormat();
+
+    StorageBackend getStorageBackend();
+
 }
@@ -0,0 +1,80 @@
+package jarvis.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * A read-only map from the index of each student in a lesson's roster to that student's data, in index order.
+ * The data is read when it is looked up, so the map stays up to date as the data changes and never has to be
+ * rebuilt.
+ */
+class RosterIndexedMap<V> extends AbstractMap<Integer, V> {
+
+    private final IntSupplier rosterSize;
+    private final IntFunction<V> valueAtIndex;
+
+    /**
+     * Creates a map with a key for each index below {@code rosterSize}, mapped to the value given by
+     * {@code valueAtIndex} for that index.
+     */
+    RosterIndexedMap(IntSupplier rosterSize, IntFunction<V> valueAtIndex) {
+        this.rosterSize = rosterSize;
+        this.valueAtIndex = valueAtIndex;
+    }
+
+    private boolean isRosterIndex(Object key) {
+        return key instanceof Integer && (Integer) key >= 0 && (Integer) key < rosterSize.getAsInt();
+    }
+
+    @Override
+    public int size() {
+        return rosterSize.getAsInt();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return isRosterIndex(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return isRosterIndex(key) ? valueAtIndex.apply((Integer) key) : null;
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return rosterSize.getAsInt();
+            }
+
+            @Override
+            public Iterator<Map.Entry<Integer, V>> iterator() {
+                return new Iterator<>() {
+                    private int index = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < rosterSize.getAsInt();
+                    }
+
+                    @Override
+                    public Map.Entry<Integer, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int key = index++;
+                        return new AbstractMap.SimpleImmutableEntry<>(key, valueAtIndex.apply(key));
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package jarvis.model;
+
+import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list that keeps its elements sorted by their natural ordering and does not allow nulls.
+ * Elements are inserted at their sorted position found by binary search instead of sorting the whole list, so
+ * observers are only told about the elements that were added, removed or updated.
+ * Elements that compare as equal are kept in the order they were inserted.
+ *
+ * The list cannot be modified through the {@code List} methods, which could break its ordering.
+ * Use {@link #insert(Object)}, {@link #replace(int, Object)}, {@link #remove(int)} and
+ * {@link #setAll(Collection)} instead.
+ *
+ * @param <T> the type of the elements, which must not change their ordering while in the list unless
+ *            {@link #replace(int, Object)} is called right after.
+ */
+public class SortedObservableList<T extends Comparable<? super T>> extends ObservableListBase<T> {
+
+    private final List<T> elements = new ArrayList<>();
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Adds {@code element} at its sorted position, after any elements that compare as equal to it.
+     *
+     * @return the index {@code element} was added at.
+     */
+    public int insert(T element) {
+        requireNonNull(element);
+        int index = getInsertionIndex(element);
+        elements.add(index, element);
+
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+        return index;
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code element}, moving it if its sorted position is different.
+     * Passing the element that is already at {@code index} updates it, which is needed after changing the element
+     * in a way that affects how it is displayed or ordered.
+     *
+     * @return the index {@code element} is at after the replacement.
+     */
+    public int replace(int index, T element) {
+        requireNonNull(element);
+        T oldElement = elements.get(index);
+
+        if (fitsAt(index, element)) {
+            elements.set(index, element);
+            beginChange();
+            if (oldElement == element) {
+                nextUpdate(index);
+            } else {
+                nextSet(index, oldElement);
+            }
+            endChange();
+            return index;
+        }
+
+        // reported as a separate removal and addition, as a single change would cover every element in between
+        remove(index);
+        return insert(element);
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = elements.remove(index);
+
+        beginChange();
+        nextRemove(index, removed);
+        endChange();
+        return removed;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newElements}, sorted once instead of inserted one by one.
+     */
+    @Override
+    public boolean setAll(Collection<? extends T> newElements) {
+        requireAllNonNull(newElements);
+        List<T> removed = new ArrayList<>(elements);
+        elements.clear();
+        elements.addAll(newElements);
+        elements.sort(null);
+
+        beginChange();
+        nextReplace(0, elements.size(), removed);
+        endChange();
+        return true;
+    }
+
+    /**
+     * Returns true if {@code element} can be at {@code index} without breaking the ordering of the other elements.
+     */
+    private boolean fitsAt(int index, T element) {
+        return (index == 0 || elements.get(index - 1).compareTo(element) <= 0)
+                && (index == elements.size() - 1 || element.compareTo(elements.get(index + 1)) <= 0);
+    }
+
+    /**
+     * Returns the position {@code element} has to be inserted at to keep the list sorted, after any elements that
+     * compare as equal to it.
+     */
+    private int getInsertionIndex(T element) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (elements.get(mid).compareTo(element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -66,11 +66,15 @@ public class Student implements Comparable<Student> {
         return otherStudent.getMatricNum().equals(getMatricNum());
     }
 
+    /**
+     * Orders students by name ignoring case, and then by matriculation number.
+     * Both are compared by the keys they keep for sorting, so comparing students does not allocate.
+     */
     @Override
     public int compareTo(Student s) {
-        int result = studentName.toString().toLowerCase().compareTo(s.getName().toString().toLowerCase());
+        int result = studentName.compareTo(s.studentName);
         if (result == 0) {
-            return matricNum.toString().compareTo(s.getMatricNum().toString());
+            return matricNum.compareTo(s.matricNum);
         }
         return result;
     }
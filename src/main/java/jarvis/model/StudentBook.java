@@ -16,6 +16,7 @@ public class StudentBook implements ReadOnlyStudentBook {
     public static final int MAX_STUDENTS = 10;
 
     private final UniqueStudentList students;
+    private boolean hasUnsavedChanges = false;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +47,7 @@ public class StudentBook implements ReadOnlyStudentBook {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        hasUnsavedChanges = true;
     }
 
     /**
@@ -77,6 +79,7 @@ public class StudentBook implements ReadOnlyStudentBook {
             throw new MaxStudentsExceededException("Maximum number of students (" + MAX_STUDENTS + ") exceeded");
         }
         students.add(p);
+        hasUnsavedChanges = true;
     }
 
     /**
@@ -89,6 +92,7 @@ public class StudentBook implements ReadOnlyStudentBook {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
+        hasUnsavedChanges = true;
     }
 
     /**
@@ -97,6 +101,21 @@ public class StudentBook implements ReadOnlyStudentBook {
      */
     public void removeStudent(Student key) {
         students.remove(key);
+        hasUnsavedChanges = true;
+    }
+
+    //// change tracking
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    /**
+     * Marks the current state of this {@code StudentBook} as persisted to storage.
+     */
+    public void markAsSaved() {
+        hasUnsavedChanges = false;
     }
 
     //// util methods
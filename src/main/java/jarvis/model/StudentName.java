@@ -7,7 +7,7 @@ import static java.util.Objects.requireNonNull;
  * Represents a Student's name in the student book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
  */
-public class StudentName {
+public class StudentName implements Comparable<StudentName> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Names should only contain alphanumeric characters and spaces, and it should not be blank";
@@ -20,6 +20,9 @@ public class StudentName {
 
     public final String fullName;
 
+    /** The name in lower case, which names are sorted by. Kept so that comparing names does not allocate. */
+    private final String sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +32,7 @@ public class StudentName {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        sortKey = name.toLowerCase();
     }
 
     /**
@@ -39,6 +43,14 @@ public class StudentName {
     }
 
 
+    /**
+     * Compares names ignoring case.
+     */
+    @Override
+    public int compareTo(StudentName other) {
+        return sortKey.compareTo(other.sortKey);
+    }
+
     @Override
     public String toString() {
         return fullName;
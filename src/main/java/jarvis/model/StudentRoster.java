@@ -0,0 +1,74 @@
+package jarvis.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * The students of a lesson in roster order, each at most once.
+ * The index of each student in the roster is kept in a map, so finding a student's index does not compare the
+ * student with the students before them.
+ */
+class StudentRoster {
+
+    private final ArrayList<Student> students;
+    private final HashMap<Student, Integer> rosterIndexes;
+
+    StudentRoster(int expectedSize) {
+        students = new ArrayList<>(expectedSize);
+        rosterIndexes = new HashMap<>();
+    }
+
+    /**
+     * Adds {@code student} to the end of the roster, unless the student is already in the roster.
+     * Returns true if the student was added.
+     */
+    boolean add(Student student) {
+        requireNonNull(student);
+        if (rosterIndexes.putIfAbsent(student, students.size()) != null) {
+            return false;
+        }
+        students.add(student);
+        return true;
+    }
+
+    /**
+     * Returns the index of {@code student} in the roster, or -1 if the student is not in the roster.
+     */
+    int indexOf(Student student) {
+        return rosterIndexes.getOrDefault(student, -1);
+    }
+
+    Student get(int rosterIndex) {
+        return students.get(rosterIndex);
+    }
+
+    int size() {
+        return students.size();
+    }
+
+    /**
+     * Replaces {@code targetStudent} with {@code editedStudent}, who takes the roster index of {@code targetStudent}.
+     * Returns the roster index, or -1 if {@code targetStudent} is not in the roster.
+     */
+    int set(Student targetStudent, Student editedStudent) {
+        requireNonNull(editedStudent);
+        Integer rosterIndex = rosterIndexes.remove(targetStudent);
+        if (rosterIndex == null) {
+            return -1;
+        }
+        students.set(rosterIndex, editedStudent);
+        rosterIndexes.put(editedStudent, rosterIndex);
+        return rosterIndex;
+    }
+
+    /**
+     * Returns the students in roster order.
+     */
+    List<Student> asUnmodifiableList() {
+        return Collections.unmodifiableList(students);
+    }
+}
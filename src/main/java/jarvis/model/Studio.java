@@ -1,16 +1,22 @@
 package jarvis.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.TreeMap;
 
 /**
  * Represents a Studio in JARVIS.
  * Guarantees: details are present and not null.
  */
 public class Studio extends Lesson {
-    private final StudioParticipation participation;
+    private StudioParticipation participation;
+    private Map<Integer, Integer> indexParticipationMap;
+    private final Map<Integer, Integer> participationView =
+            new RosterIndexedMap<>(() -> getStudentList().size(), this::getParticipationAt);
+    private int[] participationIndexes;
 
     /**
      * Every field must be present and not null.
@@ -33,30 +39,81 @@ public class Studio extends Lesson {
         this.participation = participation;
     }
 
+    /**
+     * Creates a studio with the attendance, notes and participation data mapped by student index, which are only
+     * used to create the {@code LessonAttendance}, {@code LessonNotes} and {@code StudioParticipation} when they are
+     * first needed.
+     * Every field must be present and not null.
+     */
+    public Studio(LessonDesc lessonDesc, TimePeriod timePeriod, List<Student> students,
+                  Map<Integer, Boolean> indexAttendanceMap, ArrayList<String> generalNotes,
+                  Map<Integer, ArrayList<String>> indexNotesMap, Map<Integer, Integer> indexParticipationMap) {
+        this(LessonId.generate(), lessonDesc, timePeriod, students, indexAttendanceMap, generalNotes, indexNotesMap,
+                indexParticipationMap);
+    }
+
+    /**
+     * Creates a studio with the given id, and with the attendance, notes and participation data mapped by student
+     * index.
+     * Every field must be present and not null.
+     */
+    public Studio(LessonId lessonId, LessonDesc lessonDesc, TimePeriod timePeriod, List<Student> students,
+                  Map<Integer, Boolean> indexAttendanceMap, ArrayList<String> generalNotes,
+                  Map<Integer, ArrayList<String>> indexNotesMap, Map<Integer, Integer> indexParticipationMap) {
+        super(lessonId, lessonDesc, timePeriod, students, indexAttendanceMap, generalNotes, indexNotesMap);
+        requireNonNull(indexParticipationMap);
+        this.indexParticipationMap = indexParticipationMap;
+    }
+
     public void setParticipationForStudent(Student student, int i) {
-        participation.setParticipationForStudent(student, i);
+        getStudioParticipation().setParticipationForStudent(student, i);
     }
 
     public int getParticipationForStudent(Student student) {
-        return participation.getParticipationForStudent(student);
+        return getStudioParticipation().getParticipationForStudent(student);
     }
 
+    /**
+     * Returns a read-only view of the participation mapped by student index, which is the student's index in the
+     * student list. The view reflects later changes to the participation.
+     */
     public Map<Integer, Integer> getParticipation() {
-        Map<Integer, Integer> resMap = new TreeMap<>();
-        for (Student student : getStudentList()) {
-            resMap.put(getStudentList().indexOf(student), participation.getParticipationForStudent(student));
+        return participationView;
+    }
+
+    private Integer getParticipationAt(int index) {
+        if (participation == null) {
+            return indexParticipationMap.getOrDefault(index, 0);
+        }
+        if (participationIndexes == null) {
+            participationIndexes = findRosterIndexes(participation.getRoster());
         }
-        return resMap;
+        return participationIndexes[index] >= 0 ? participation.getParticipation(participationIndexes[index]) : 0;
     }
 
+    /**
+     * Returns the participation of the studio, creating it from the index-keyed data if it has not been created yet.
+     */
     public StudioParticipation getStudioParticipation() {
+        if (participation == null) {
+            participation = new StudioParticipation(getStudentList(), indexParticipationMap);
+            indexParticipationMap = null;
+        }
         return participation;
     }
 
     @Override
     public void setStudent(Student targetStudent, Student editedStudent) {
+        // created before the students are reordered, since the index-keyed data refers to the current order
+        StudioParticipation studioParticipation = getStudioParticipation();
         super.setStudent(targetStudent, editedStudent);
-        participation.setStudent(targetStudent, editedStudent);
+        studioParticipation.setStudent(targetStudent, editedStudent);
+    }
+
+    @Override
+    protected void invalidateRosterIndexes() {
+        super.invalidateRosterIndexes();
+        participationIndexes = null;
     }
     /**
      * Returns true if both Studios have the same description,
@@ -64,7 +121,7 @@ public class Studio extends Lesson {
      * and all students have the same participation scores.
      */
     @Override
-    public boolean equals(Object other) {
+    public boolean hasSameContent(Lesson other) {
         if (other == this) {
             return true;
         }
@@ -90,11 +147,6 @@ public class Studio extends Lesson {
                 && otherStudio.getParticipation().equals(getParticipation());
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(getDesc(), getTimePeriod(), getAttendance(), getParticipation());
-    }
-
     @Override
     public String toString() {
         return "Studio at " + getTimePeriod();
@@ -1,10 +1,13 @@
 package jarvis.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 
 import jarvis.model.exceptions.InvalidParticipationException;
 import jarvis.model.exceptions.StudentNotFoundException;
@@ -13,9 +16,12 @@ import jarvis.model.exceptions.StudentNotFoundException;
  * Represents the participation for a Studio in JARVIS.
  * A student's participation score must be an integer between
  * 0 and 500 inclusive.
+ * The students are kept in roster order, with each student's score at the student's index in the roster, so setting
+ * and looking up scores neither compares student names nor allocates.
  */
 public class StudioParticipation {
-    private final TreeMap<Student, Integer> participation;
+    private final StudentRoster students;
+    private final int[] participation;
 
     /**
      * Creates a StudioParticipation and initializes the participation
@@ -23,11 +29,11 @@ public class StudioParticipation {
      * @param students Students involved in the lesson.
      */
     public StudioParticipation(Collection<Student> students) {
-        participation = new TreeMap<>();
-
+        this.students = new StudentRoster(students.size());
         for (Student stu : students) {
-            participation.put(stu, 0);
+            this.students.add(stu);
         }
+        this.participation = new int[this.students.size()];
     }
 
     /**
@@ -37,55 +43,81 @@ public class StudioParticipation {
      * @param indexMap The participation data for each student mapped by student index.
      */
     public StudioParticipation(List<Student> studentList, Map<Integer, Integer> indexMap) {
-        TreeMap<Student, Integer> participation = new TreeMap<>();
-        for (int i : indexMap.keySet()) {
-            participation.put(studentList.get(i), indexMap.get(i));
+        this.students = new StudentRoster(indexMap.size());
+        this.participation = new int[indexMap.size()];
+        for (int i = 0; i < studentList.size(); i++) {
+            Integer studentParticipation = indexMap.get(i);
+            if (studentParticipation != null && students.add(studentList.get(i))) {
+                participation[students.size() - 1] = studentParticipation;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of {@code student} in the roster.
+     * @throws StudentNotFoundException if the student is not in the studio.
+     */
+    private int getRosterIndex(Student student) {
+        requireNonNull(student);
+        int index = students.indexOf(student);
+        if (index < 0) {
+            throw new StudentNotFoundException();
         }
-        this.participation = participation;
+        return index;
     }
 
     public void setParticipationForStudent(Student student, int i) {
         if (i < 0 || i > 500) {
             throw new InvalidParticipationException("Participation value must be between 0 and 500 inclusive");
         }
-        if (!participation.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        participation.put(student, i);
+        participation[getRosterIndex(student)] = i;
     }
 
     public int getParticipationForStudent(Student student) {
-        if (!participation.containsKey(student)) {
-            throw new StudentNotFoundException();
-        }
-        return participation.get(student);
+        return participation[getRosterIndex(student)];
     }
 
+    /**
+     * Returns the participation of the student at {@code rosterIndex} in the roster.
+     */
+    int getParticipation(int rosterIndex) {
+        return participation[rosterIndex];
+    }
+
+    /**
+     * Returns the students in roster order.
+     */
+    List<Student> getRoster() {
+        return students.asUnmodifiableList();
+    }
+
+    /**
+     * Replaces {@code targetStudent} with {@code editedStudent}, who keeps the participation and roster index of
+     * {@code targetStudent}.
+     */
     public void setStudent(Student targetStudent, Student editedStudent) {
-        if (!participation.containsKey(targetStudent)) {
-            return;
-        }
-        int studentParticipation = participation.get(targetStudent);
-        participation.remove(targetStudent);
-        participation.put(editedStudent, studentParticipation);
+        students.set(targetStudent, editedStudent);
     }
 
     public Set<Student> getAllStudents() {
-        return participation.keySet();
+        return Collections.unmodifiableSet(new LinkedHashSet<>(students.asUnmodifiableList()));
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("Studio Participation:\n");
-        for (Map.Entry<Student, Integer> entry : participation.entrySet()) {
-            sb.append(entry.getKey());
+        for (int i = 0; i < students.size(); i++) {
+            sb.append(students.get(i));
             sb.append(": ");
-            sb.append(entry.getValue());
+            sb.append(participation[i]);
             sb.append("\n");
         }
         return sb.toString();
     }
 
+    /**
+     * Returns true if both have the same students with the same participation scores, in any order.
+     */
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -97,11 +129,25 @@ public class StudioParticipation {
         }
 
         StudioParticipation otherStudioParticipation = (StudioParticipation) other;
-        return otherStudioParticipation.participation.equals(participation);
+        if (otherStudioParticipation.students.size() != students.size()) {
+            return false;
+        }
+        for (int i = 0; i < students.size(); i++) {
+            int otherIndex = otherStudioParticipation.students.indexOf(students.get(i));
+            if (otherIndex < 0 || otherStudioParticipation.participation[otherIndex] != participation[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return participation.hashCode();
+        // the same as the hash code of a map from each student to their score, which does not depend on order
+        int hash = 0;
+        for (int i = 0; i < students.size(); i++) {
+            hash += students.get(i).hashCode() ^ participation[i];
+        }
+        return hash;
     }
 }
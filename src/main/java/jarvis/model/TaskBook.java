@@ -13,6 +13,7 @@ import javafx.collections.ObservableList;
 public class TaskBook implements ReadOnlyTaskBook {
 
     private final UniqueTaskList tasks;
+    private boolean hasUnsavedChanges = false;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -43,6 +44,7 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public void setTasks(List<Task> tasks) {
         this.tasks.setTasks(tasks);
+        hasUnsavedChanges = true;
     }
 
     /**
@@ -70,6 +72,7 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public void addTask(Task t) {
         tasks.add(t);
+        hasUnsavedChanges = true;
     }
 
     /**
@@ -81,6 +84,7 @@ public class TaskBook implements ReadOnlyTaskBook {
         requireNonNull(editedTask);
 
         tasks.setTask(targetTask, editedTask);
+        hasUnsavedChanges = true;
     }
 
     /**
@@ -89,6 +93,21 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public void removeTask(Task key) {
         tasks.remove(key);
+        hasUnsavedChanges = true;
+    }
+
+    //// change tracking
+
+    @Override
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    /**
+     * Marks the current state of this {@code TaskBook} as persisted to storage.
+     */
+    public void markAsSaved() {
+        hasUnsavedChanges = false;
     }
 
     //// util methods
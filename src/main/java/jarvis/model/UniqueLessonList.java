@@ -3,8 +3,17 @@ package jarvis.model;
 import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
 
 import jarvis.commons.core.index.Index;
 import jarvis.model.exceptions.DuplicateLessonException;
@@ -15,27 +24,35 @@ import javafx.collections.ObservableList;
 
 /**
  * A list of lessons that enforces uniqueness between its elements and does not allow nulls.
- * A lesson is considered unique by comparing using {@code Lesson#equals(Object)}.
+ * A lesson is considered unique by comparing using {@code Lesson#equals(Object)}, i.e. by its id.
  * As such, adding and updating of lesson uses Lesson#equals(Object) for equality to ensure that the
  * lesson being added or updated is unique in terms of identity in the UniqueLessonList.The removal of a
  * lesson also uses Lesson#equals(Object).
  *
+ * Lessons added or set one at a time never clash with each other, so they are indexed by start time, which orders
+ * them by end time as well. Clashes with a lesson are found by looking up only the lessons around its time period.
+ * Lessons replaced in bulk may clash, as data files saved by older versions can hold clashing lessons. Those that
+ * clash with an indexed lesson are kept in a separate list that is searched in full.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Lesson#equals(Object)
  */
 public class UniqueLessonList implements Iterable<Lesson> {
 
-    private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
+    private final SortedObservableList<Lesson> internalList = new SortedObservableList<>();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final TreeMap<LocalDateTime, Lesson> lessonsByStart = new TreeMap<>();
+    // lessons set in bulk that clash with a lesson in lessonsByStart, which is almost always none
+    private final List<Lesson> unindexedLessons = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return isIndexed(toCheck) || unindexedLessons.contains(toCheck);
     }
 
     /**
@@ -44,7 +61,51 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public boolean hasPeriodClash(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasTimingConflict);
+        return !getClashingLessons(toCheck).isEmpty();
+    }
+
+    /**
+     * Returns the lessons in the list that have a clash in time slot with the lesson as given argument,
+     * in order of their start time.
+     */
+    public List<Lesson> getClashingLessons(Lesson toCheck) {
+        requireNonNull(toCheck);
+        List<Lesson> clashingLessons = new ArrayList<>();
+        for (Lesson lesson : getIndexedLessonsAround(toCheck)) {
+            if (toCheck.hasTimingConflict(lesson)) {
+                clashingLessons.add(lesson);
+            }
+        }
+        if (unindexedLessons.isEmpty()) {
+            return clashingLessons;
+        }
+
+        for (Lesson lesson : unindexedLessons) {
+            if (toCheck.hasTimingConflict(lesson)) {
+                clashingLessons.add(lesson);
+            }
+        }
+        clashingLessons.sort(Comparator.comparing(Lesson::startDateTime));
+        return clashingLessons;
+    }
+
+    /**
+     * Returns the lessons in the list that clash with another lesson in the list, in order of their start time.
+     * There are none unless the lessons were set in bulk with clashing lessons.
+     */
+    public List<Lesson> getLessonsWithClash() {
+        Set<Lesson> lessonsWithClash = new LinkedHashSet<>();
+        for (Lesson lesson : unindexedLessons) {
+            for (Lesson clashingLesson : getClashingLessons(lesson)) {
+                if (!clashingLesson.equals(lesson)) {
+                    lessonsWithClash.add(lesson);
+                    lessonsWithClash.add(clashingLesson);
+                }
+            }
+        }
+        List<Lesson> sortedLessons = new ArrayList<>(lessonsWithClash);
+        sortedLessons.sort(Comparator.comparing(Lesson::startDateTime));
+        return sortedLessons;
     }
 
     /**
@@ -62,8 +123,8 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new LessonClashException();
         }
 
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        internalList.insert(toAdd);
+        lessonsByStart.put(toAdd.startDateTime(), toAdd);
     }
 
     /**
@@ -73,7 +134,7 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public Index indexOf(Lesson target) {
         requireNonNull(target);
-        int index = internalList.indexOf(target);
+        int index = findIndex(target);
         if (index == -1) {
             throw new LessonNotFoundException();
         }
@@ -83,12 +144,13 @@ public class UniqueLessonList implements Iterable<Lesson> {
     /**
      * Replaces the lesson {@code target} in the list with {@code editedLesson}.
      * {@code target} must exist in the list.
-     * The lesson identity of {@code editedLesson} must not be the same as another existing lesson in the list.
+     * The lesson identity of {@code editedLesson} must not be the same as another existing lesson in the list, and
+     * unless it keeps the time period of {@code target}, it must not clash with another lesson in the list.
      */
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
 
-        int index = internalList.indexOf(target);
+        int index = findIndex(target);
         if (index == -1) {
             throw new LessonNotFoundException();
         }
@@ -97,12 +159,33 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        if (!editedLesson.equals(target) && hasPeriodClash(editedLesson)) {
+        boolean isTimePeriodKept = editedLesson.getTimePeriod().equals(target.getTimePeriod());
+        if (!isTimePeriodKept
+                && getClashingLessons(editedLesson).stream().anyMatch(lesson -> !lesson.equals(target))) {
             throw new LessonClashException();
         }
 
-        internalList.set(index, editedLesson);
-        FXCollections.sort(internalList);
+        internalList.replace(index, editedLesson);
+        if (isTimePeriodKept && !isIndexed(target)) {
+            // the lesson still has the clashes it was set with
+            unindexedLessons.set(unindexedLessons.indexOf(target), editedLesson);
+            return;
+        }
+        removeFromIndex(target);
+        lessonsByStart.put(editedLesson.startDateTime(), editedLesson);
+    }
+
+    /**
+     * Notifies observers of the list that {@code lesson} has changed, without changing its position in the list.
+     * {@code lesson} must exist in the list.
+     */
+    public void refresh(Lesson lesson) {
+        requireNonNull(lesson);
+        int index = findIndex(lesson);
+        if (index == -1) {
+            throw new LessonNotFoundException();
+        }
+        internalList.replace(index, lesson);
     }
 
     /**
@@ -111,37 +194,59 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = findIndex(toRemove);
+        if (index == -1) {
             throw new LessonNotFoundException();
         }
-        FXCollections.sort(internalList);
+        internalList.remove(index);
+        removeFromIndex(toRemove);
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
+        lessonsByStart.clear();
+        lessonsByStart.putAll(replacement.lessonsByStart);
+        unindexedLessons.clear();
+        unindexedLessons.addAll(replacement.unindexedLessons);
     }
 
     /**
      * Replaces the contents of this list with {@code lessons}.
-     * {@code lessons} must not contain duplicate lessons.
+     * {@code lessons} must not contain duplicate lessons, but may contain lessons that clash with each other.
      */
     public void setLessons(List<? extends Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
+        if (new HashSet<>(lessons).size() < lessons.size()) {
             throw new DuplicateLessonException();
         }
 
+        List<Lesson> lessonsInStartOrder = new ArrayList<>(lessons);
+        lessonsInStartOrder.sort(Comparator.comparing(Lesson::startDateTime));
+        TreeMap<LocalDateTime, Lesson> replacementIndex = new TreeMap<>();
+        List<Lesson> replacementUnindexedLessons = new ArrayList<>();
+        Lesson lastIndexedLesson = null;
+        for (Lesson lesson : lessonsInStartOrder) {
+            // the last lesson indexed ends after every other lesson indexed, as they do not clash
+            if (lastIndexedLesson != null && lastIndexedLesson.hasTimingConflict(lesson)) {
+                replacementUnindexedLessons.add(lesson);
+            } else {
+                replacementIndex.put(lesson.startDateTime(), lesson);
+                lastIndexedLesson = lesson;
+            }
+        }
+
         internalList.setAll(lessons);
-        FXCollections.sort(internalList);
+        lessonsByStart.clear();
+        lessonsByStart.putAll(replacementIndex);
+        unindexedLessons.clear();
+        unindexedLessons.addAll(replacementUnindexedLessons);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Lesson> asUnmodifiableObservableList() {
-        FXCollections.sort(internalList);
         return internalUnmodifiableList;
     }
 
@@ -163,16 +268,69 @@ public class UniqueLessonList implements Iterable<Lesson> {
     }
 
     /**
-     * Returns true if {@code lessons} contains only unique lessons.
+     * Returns the position of the lesson equivalent to {@code lesson} in the list, or -1 if there is none.
+     * The lesson is found by binary search, unless it was changed in a way that moved it out of its sorted position.
      */
-    private boolean lessonsAreUnique(List<? extends Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).equals(lessons.get(j))) {
-                    return false;
-                }
+    private int findIndex(Lesson lesson) {
+        Lesson existingLesson = lessonsByStart.get(lesson.startDateTime());
+        if (existingLesson == null || !existingLesson.equals(lesson)) {
+            int unindexedPosition = unindexedLessons.indexOf(lesson);
+            if (unindexedPosition == -1) {
+                return -1;
+            }
+            existingLesson = unindexedLessons.get(unindexedPosition);
+        }
+
+        int index = Collections.binarySearch(internalList, existingLesson);
+        if (index >= 0 && internalList.get(index) == existingLesson) {
+            return index;
+        }
+        // lessons marked as completed in place are only moved when they are set again
+        return internalList.indexOf(existingLesson);
+    }
+
+    /**
+     * Returns true if the lesson equivalent to {@code lesson} is indexed by its start time.
+     */
+    private boolean isIndexed(Lesson lesson) {
+        // equivalent lessons start at the same time
+        Lesson existingLesson = lessonsByStart.get(lesson.startDateTime());
+        return existingLesson != null && existingLesson.equals(lesson);
+    }
+
+    /**
+     * Removes the lesson equivalent to {@code lesson} from the start time index, or from the lessons not indexed.
+     */
+    private void removeFromIndex(Lesson lesson) {
+        if (!isIndexed(lesson)) {
+            unindexedLessons.remove(lesson);
+            return;
+        }
+
+        lessonsByStart.remove(lesson.startDateTime());
+        // lessons that only clashed with the lesson removed can be indexed again
+        for (Iterator<Lesson> iterator = unindexedLessons.iterator(); iterator.hasNext();) {
+            Lesson unindexedLesson = iterator.next();
+            if (!clashesWithIndexedLesson(unindexedLesson)) {
+                lessonsByStart.put(unindexedLesson.startDateTime(), unindexedLesson);
+                iterator.remove();
             }
         }
-        return true;
+    }
+
+    private boolean clashesWithIndexedLesson(Lesson lesson) {
+        return getIndexedLessonsAround(lesson).stream().anyMatch(lesson::hasTimingConflict);
+    }
+
+    /**
+     * Returns the indexed lessons that may clash with {@code lesson}, in order of their start time.
+     */
+    private Collection<Lesson> getIndexedLessonsAround(Lesson lesson) {
+        // only the last lesson indexed before lesson can overlap its start, as lessons indexed never overlap
+        LocalDateTime from = lessonsByStart.floorKey(lesson.startDateTime());
+        if (from == null) {
+            from = lesson.startDateTime();
+        }
+        return lessonsByStart.subMap(from, true, lesson.endDateTime(), false).values();
     }
 }
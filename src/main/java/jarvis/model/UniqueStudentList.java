@@ -3,8 +3,11 @@ package jarvis.model;
 import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import jarvis.model.exceptions.DuplicateStudentException;
 import jarvis.model.exceptions.StudentNotFoundException;
@@ -18,22 +21,25 @@ import javafx.collections.ObservableList;
  * student being added or updated is unique in terms of identity in the UniqueStudentList.The removal of a
  * student also uses Student#equals(Object).
  *
+ * The list is kept sorted, and students are indexed by matric number so that lookups do not scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Student#equals(Object)
  */
 public class UniqueStudentList implements Iterable<Student> {
 
-    private final ObservableList<Student> internalList = FXCollections.observableArrayList();
+    private final SortedObservableList<Student> internalList = new SortedObservableList<>();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<MatricNum, Student> studentsByMatricNum = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return studentsByMatricNum.containsKey(toCheck.getMatricNum());
     }
 
     /**
@@ -45,8 +51,8 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        internalList.insert(toAdd);
+        studentsByMatricNum.put(toAdd.getMatricNum(), toAdd);
     }
 
     /**
@@ -57,7 +63,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
@@ -66,8 +72,10 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
-        internalList.set(index, editedStudent);
-        FXCollections.sort(internalList);
+        Student existingStudent = internalList.get(index);
+        studentsByMatricNum.remove(existingStudent.getMatricNum());
+        studentsByMatricNum.put(editedStudent.getMatricNum(), editedStudent);
+        internalList.replace(index, editedStudent);
     }
 
     /**
@@ -76,16 +84,19 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
-        FXCollections.sort(internalList);
+        internalList.remove(index);
+        studentsByMatricNum.remove(toRemove.getMatricNum());
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
+        studentsByMatricNum.clear();
+        studentsByMatricNum.putAll(replacement.studentsByMatricNum);
     }
 
     /**
@@ -94,19 +105,22 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
+        Map<MatricNum, Student> replacementIndex = new HashMap<>();
+        for (Student student : students) {
+            if (replacementIndex.put(student.getMatricNum(), student) != null) {
+                throw new DuplicateStudentException();
+            }
         }
 
         internalList.setAll(students);
-        FXCollections.sort(internalList);
+        studentsByMatricNum.clear();
+        studentsByMatricNum.putAll(replacementIndex);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Student> asUnmodifiableObservableList() {
-        FXCollections.sort(internalList);
         return internalUnmodifiableList;
     }
 
@@ -132,16 +146,13 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the position of the student equivalent to {@code student} in the sorted list, or -1 if there is none.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).equals(students.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Student student) {
+        Student existingStudent = studentsByMatricNum.get(student.getMatricNum());
+        if (existingStudent == null) {
+            return -1;
         }
-        return true;
+        return Collections.binarySearch(internalList, existingStudent);
     }
 }
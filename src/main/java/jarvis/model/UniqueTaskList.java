@@ -24,7 +24,7 @@ import javafx.collections.ObservableList;
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final SortedObservableList<Task> internalList = new SortedObservableList<>();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -45,8 +45,7 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        internalList.insert(toAdd);
     }
 
     /**
@@ -66,8 +65,7 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
-        FXCollections.sort(internalList);
+        internalList.replace(index, editedTask);
     }
 
     /**
@@ -76,16 +74,16 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
-        FXCollections.sort(internalList);
+        internalList.remove(index);
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
     }
 
     /**
@@ -99,14 +97,12 @@ public class UniqueTaskList implements Iterable<Task> {
         }
 
         internalList.setAll(tasks);
-        FXCollections.sort(internalList);
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Task> asUnmodifiableObservableList() {
-        FXCollections.sort(internalList);
         return internalUnmodifiableList;
     }
 
@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import jarvis.commons.core.GuiSettings;
+import jarvis.commons.core.StorageBackend;
+import jarvis.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -17,6 +19,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path studentBookFilePath = Paths.get("data" , "studentbook.json");
     private Path taskBookFilePath = Paths.get("data" , "taskbook.json");
     private Path lessonBookFilePath = Paths.get("data", "lessonbook.json");
+    private Path journalFilePath = Paths.get("data", "journal.txt");
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private StorageBackend storageBackend = StorageBackend.FILES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +43,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setStudentBookFilePath(newUserPrefs.getStudentBookFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setStorageBackend(newUserPrefs.getStorageBackend());
     }
 
     public GuiSettings getGuiSettings() {
@@ -76,6 +83,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.lessonBookFilePath = lessonBookFilePath;
     }
 
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public void setJournalFilePath(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public StorageBackend getStorageBackend() {
+        return storageBackend;
+    }
+
+    public void setStorageBackend(StorageBackend storageBackend) {
+        requireNonNull(storageBackend);
+        this.storageBackend = storageBackend;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -90,12 +124,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return guiSettings.equals(o.guiSettings)
                 && studentBookFilePath.equals(o.studentBookFilePath)
                 && taskBookFilePath.equals(o.taskBookFilePath)
-                && lessonBookFilePath.equals(o.lessonBookFilePath);
+                && lessonBookFilePath.equals(o.lessonBookFilePath)
+                && journalFilePath.equals(o.journalFilePath)
+                && storageFormat == o.storageFormat
+                && storageBackend == o.storageBackend;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, studentBookFilePath, taskBookFilePath, lessonBookFilePath);
+        return Objects.hash(guiSettings, studentBookFilePath, taskBookFilePath, lessonBookFilePath, journalFilePath,
+                storageFormat, storageBackend);
     }
 
     @Override
@@ -105,6 +143,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal student data file location : " + studentBookFilePath);
         sb.append("\nLocal task data file location : " + taskBookFilePath);
         sb.append("\nLocal lesson data file location : " + lessonBookFilePath);
+        sb.append("\nLocal journal file location : " + journalFilePath);
+        sb.append("\nData file format : " + storageFormat);
+        sb.append("\nData storage : " + storageBackend);
         return sb.toString();
     }
 
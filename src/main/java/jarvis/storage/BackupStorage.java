@@ -0,0 +1,41 @@
+package jarvis.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import jarvis.commons.exceptions.DataConversionException;
+
+/**
+ * Represents a store of backups of the data files, each identified by the time it was taken.
+ */
+public interface BackupStorage {
+
+    /**
+     * Returns the folder the backups are kept in.
+     */
+    Path getBackupFolderPath();
+
+    /**
+     * Takes a backup of the data files as they are now, unless none of them changed since the last backup.
+     * Backups beyond the number to keep are removed, oldest first.
+     * @return the id of the new backup, or {@code Optional.empty()} if no backup was needed.
+     * @throws IOException if there was any problem reading the data files or writing the backup.
+     */
+    Optional<String> backUp() throws IOException;
+
+    /**
+     * Returns the ids of the backups kept, from oldest to newest.
+     * @throws IOException if there was any problem when reading the backups.
+     */
+    List<String> getBackupIds() throws IOException;
+
+    /**
+     * Replaces the data files with the ones in the backup with id {@code backupId}.
+     * @throws DataConversionException if there is no such backup, or the backup is damaged.
+     * @throws IOException if there was any problem reading the backup or writing the data files.
+     */
+    void restoreBackup(String backupId) throws DataConversionException, IOException;
+
+}
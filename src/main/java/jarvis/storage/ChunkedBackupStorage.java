@@ -0,0 +1,340 @@
+package jarvis.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.FileUtil;
+import jarvis.commons.util.JsonUtil;
+import jarvis.storage.JsonSerializableBackup.BackedUpFile;
+
+/**
+ * A class to keep backups of the data files in a folder on the hard disk.
+ *
+ * The data files are split into chunks by {@link ContentDefinedChunker}, and each chunk is kept once in a file named
+ * after its hash, however many backups and data files it is in. A backup only lists the chunks of each data file,
+ * so it only takes up the space of the chunks that changed since the previous backup. Data files whose size and last
+ * modified time are the same as in the previous backup are not read again.
+ */
+public class ChunkedBackupStorage implements BackupStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(ChunkedBackupStorage.class);
+
+    private static final String CHUNKS_FOLDER_NAME = "chunks";
+    private static final String BACKUP_FILE_EXTENSION = ".json";
+    private static final DateTimeFormatter BACKUP_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String HASH_PATTERN = "[0-9a-f]{64}";
+    /** Files next to the data files that can be rebuilt from them, so they are not backed up. */
+    private static final List<String> SKIPPED_FILE_SUFFIXES = List.of(".tmp");
+
+    private final Path backupFolderPath;
+    private final List<Path> sourcePaths;
+    private final int backupsKept;
+
+    /**
+     * Creates a storage that keeps up to {@code backupsKept} backups of the data files in {@code backupFolderPath}.
+     *
+     * @param sourcePaths the data files to back up, and the folders whose files are all data files.
+     */
+    public ChunkedBackupStorage(Path backupFolderPath, List<Path> sourcePaths, int backupsKept) {
+        requireNonNull(backupFolderPath);
+        requireNonNull(sourcePaths);
+        assert backupsKept > 0;
+        this.backupFolderPath = backupFolderPath;
+        this.sourcePaths = new ArrayList<>(sourcePaths);
+        this.backupsKept = backupsKept;
+    }
+
+    @Override
+    public Path getBackupFolderPath() {
+        return backupFolderPath;
+    }
+
+    @Override
+    public synchronized Optional<String> backUp() throws IOException {
+        List<String> backupIds = getBackupIds();
+        Map<String, BackedUpFile> previousFiles = new HashMap<>();
+        if (!backupIds.isEmpty()) {
+            for (BackedUpFile file : readPreviousBackup(backupIds.get(backupIds.size() - 1))) {
+                previousFiles.put(file.getPath(), file);
+            }
+        }
+
+        List<BackedUpFile> files = new ArrayList<>();
+        boolean hasChanges = false;
+        int writtenChunkCount = 0;
+        for (Path sourceFile : listSourceFiles()) {
+            long lastModifiedMillis = Files.getLastModifiedTime(sourceFile).toMillis();
+            BackedUpFile previousFile = previousFiles.remove(sourceFile.toString());
+            if (previousFile != null && previousFile.getSize() == Files.size(sourceFile)
+                    && previousFile.getLastModifiedMillis() == lastModifiedMillis) {
+                files.add(previousFile);
+                continue;
+            }
+
+            hasChanges = true;
+            byte[] contents = Files.readAllBytes(sourceFile);
+            List<String> chunks = new ArrayList<>();
+            int chunkStart = 0;
+            for (int chunkEnd : ContentDefinedChunker.findChunkEnds(contents)) {
+                byte[] chunk = Arrays.copyOfRange(contents, chunkStart, chunkEnd);
+                String hash = hash(chunk);
+                Path chunkPath = getChunkPath(hash);
+                if (!FileUtil.isFileExists(chunkPath)) {
+                    FileUtil.createParentDirsOfFile(chunkPath);
+                    FileUtil.writeToFileAtomically(chunkPath, outputStream -> outputStream.write(chunk));
+                    writtenChunkCount++;
+                }
+                chunks.add(hash);
+                chunkStart = chunkEnd;
+            }
+            files.add(new BackedUpFile(sourceFile.toString(), contents.length, lastModifiedMillis, chunks));
+        }
+
+        if (!backupIds.isEmpty() && !hasChanges && previousFiles.isEmpty()) {
+            logger.fine("Data files unchanged since backup " + backupIds.get(backupIds.size() - 1));
+            return Optional.empty();
+        }
+
+        String backupId = createBackupId(backupIds);
+        FileUtil.createParentDirsOfFile(getBackupFilePath(backupId));
+        JsonUtil.saveJsonFile(new JsonSerializableBackup(files), getBackupFilePath(backupId));
+        logger.info("Backed up data files to " + backupFolderPath + " as " + backupId + ", writing "
+                + writtenChunkCount + " new chunk(s)");
+        removeOldBackups();
+        return Optional.of(backupId);
+    }
+
+    @Override
+    public List<String> getBackupIds() throws IOException {
+        if (!Files.isDirectory(backupFolderPath)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(backupFolderPath)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(BACKUP_FILE_EXTENSION))
+                    .map(fileName -> fileName.substring(0, fileName.length() - BACKUP_FILE_EXTENSION.length()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Replaces the data files with the ones in the backup with id {@code backupId}.
+     * Every chunk of the backup is checked against its hash, and every file it lists is checked to be a data file or a
+     * file in a folder that is backed up, before any data file is replaced. Data files that are not in the backup are
+     * deleted, apart from the files in the folders that are backed up.
+     */
+    @Override
+    public synchronized void restoreBackup(String backupId) throws DataConversionException, IOException {
+        requireNonNull(backupId);
+
+        Path backupFilePath = getBackupFilePath(backupId);
+        Optional<JsonSerializableBackup> backup =
+                JsonUtil.readJsonFile(backupFilePath, JsonSerializableBackup.class);
+        if (!backup.isPresent()) {
+            throw new DataConversionException(new NoSuchFileException(backupFilePath.toString()));
+        }
+
+        Map<Path, byte[]> restoredFiles = new LinkedHashMap<>();
+        for (BackedUpFile file : backup.get().getFiles()) {
+            if (file.getPath() == null || !isDataFilePath(Paths.get(file.getPath()))) {
+                throw new DataConversionException(new IOException("Backup " + backupId + " lists "
+                        + file.getPath() + ", which is not a data file"));
+            }
+            restoredFiles.put(Paths.get(file.getPath()), readChunks(file));
+        }
+
+        for (Map.Entry<Path, byte[]> restoredFile : restoredFiles.entrySet()) {
+            FileUtil.createParentDirsOfFile(restoredFile.getKey());
+            FileUtil.writeToFileAtomically(restoredFile.getKey(),
+                    outputStream -> outputStream.write(restoredFile.getValue()));
+        }
+        for (Path sourcePath : sourcePaths) {
+            if (!Files.isDirectory(sourcePath) && !restoredFiles.containsKey(sourcePath)) {
+                Files.deleteIfExists(sourcePath);
+            }
+        }
+        logger.info("Restored " + restoredFiles.size() + " data file(s) from backup " + backupId);
+    }
+
+    /**
+     * Returns the contents of {@code file}, put together from its chunks.
+     * @throws DataConversionException if a chunk is missing or does not match its hash.
+     */
+    private byte[] readChunks(BackedUpFile file) throws DataConversionException, IOException {
+        ByteArrayOutputStream contents = new ByteArrayOutputStream();
+        for (String hash : file.getChunks()) {
+            if (hash == null || !hash.matches(HASH_PATTERN)) {
+                throw new DataConversionException(new IOException("Backup of " + file.getPath()
+                        + " lists an invalid chunk " + hash));
+            }
+            Path chunkPath = getChunkPath(hash);
+            if (!FileUtil.isFileExists(chunkPath)) {
+                throw new DataConversionException(new NoSuchFileException(chunkPath.toString()));
+            }
+            byte[] chunk = Files.readAllBytes(chunkPath);
+            if (!hash.equals(hash(chunk))) {
+                throw new DataConversionException(new IOException("Backup chunk " + chunkPath + " of "
+                        + file.getPath() + " is damaged"));
+            }
+            contents.write(chunk);
+        }
+        return contents.toByteArray();
+    }
+
+    /**
+     * Returns true if {@code path} is one of the data files, or a file directly in one of the folders that are backed
+     * up. Only such files are restored, whatever a backup file that was changed by hand lists.
+     */
+    private boolean isDataFilePath(Path path) {
+        Path normalizedPath = path.normalize();
+        for (Path sourcePath : sourcePaths) {
+            Path normalizedSourcePath = sourcePath.normalize();
+            if (normalizedSourcePath.equals(normalizedPath)) {
+                return true;
+            }
+            if (normalizedSourcePath.equals(normalizedPath.getParent()) && !FileUtil.isFileExists(sourcePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the data files to back up, in a fixed order and each only once.
+     */
+    private Set<Path> listSourceFiles() throws IOException {
+        Set<Path> sourceFiles = new LinkedHashSet<>();
+        for (Path sourcePath : sourcePaths) {
+            if (Files.isDirectory(sourcePath)) {
+                try (Stream<Path> files = Files.list(sourcePath)) {
+                    files.filter(FileUtil::isFileExists)
+                            .filter(file -> SKIPPED_FILE_SUFFIXES.stream()
+                                    .noneMatch(suffix -> file.getFileName().toString().endsWith(suffix)))
+                            .sorted()
+                            .forEach(sourceFiles::add);
+                }
+            } else if (FileUtil.isFileExists(sourcePath)) {
+                sourceFiles.add(sourcePath);
+            }
+        }
+        return sourceFiles;
+    }
+
+    /**
+     * Returns the files in the backup with id {@code backupId}, or none if it cannot be read, in which case every
+     * data file is read again.
+     */
+    private List<BackedUpFile> readPreviousBackup(String backupId) {
+        try {
+            return JsonUtil.readJsonFile(getBackupFilePath(backupId), JsonSerializableBackup.class)
+                    .map(JsonSerializableBackup::getFiles)
+                    .orElseGet(ArrayList::new);
+        } catch (DataConversionException e) {
+            logger.warning("Backup " + backupId + " could not be read, backing up all data files again");
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Removes the backups beyond the number to keep, oldest first, and then the chunks no longer in any backup.
+     */
+    private void removeOldBackups() throws IOException {
+        List<String> backupIds = getBackupIds();
+        if (backupIds.size() <= backupsKept) {
+            return;
+        }
+
+        for (String backupId : backupIds.subList(0, backupIds.size() - backupsKept)) {
+            Files.deleteIfExists(getBackupFilePath(backupId));
+        }
+
+        Set<String> keptChunks = new HashSet<>();
+        for (String backupId : getBackupIds()) {
+            try {
+                Optional<JsonSerializableBackup> backup =
+                        JsonUtil.readJsonFile(getBackupFilePath(backupId), JsonSerializableBackup.class);
+                if (backup.isPresent()) {
+                    backup.get().getFiles().forEach(file -> keptChunks.addAll(file.getChunks()));
+                }
+            } catch (DataConversionException e) {
+                // the chunks it lists are unknown, so none can be removed safely
+                logger.warning("Backup " + backupId + " could not be read, keeping all backup chunks");
+                return;
+            }
+        }
+
+        Path chunksFolderPath = backupFolderPath.resolve(CHUNKS_FOLDER_NAME);
+        List<Path> unusedChunks;
+        try (Stream<Path> chunks = Files.walk(chunksFolderPath)) {
+            unusedChunks = chunks.filter(FileUtil::isFileExists)
+                    .filter(chunk -> !keptChunks.contains(chunk.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+        for (Path unusedChunk : unusedChunks) {
+            Files.deleteIfExists(unusedChunk);
+        }
+        logger.fine("Removed " + unusedChunks.size() + " backup chunk(s) no longer in any backup");
+    }
+
+    private String createBackupId(List<String> backupIds) {
+        String backupId = LocalDateTime.now().format(BACKUP_ID_FORMAT);
+        String uniqueBackupId = backupId;
+        for (int i = 1; backupIds.contains(uniqueBackupId); i++) {
+            uniqueBackupId = backupId + "-" + i;
+        }
+        return uniqueBackupId;
+    }
+
+    private Path getBackupFilePath(String backupId) {
+        return backupFolderPath.resolve(backupId + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the file of the chunk with {@code hash}. Chunks are spread over folders named after the start of their
+     * hash, so that no folder holds too many files.
+     */
+    private Path getChunkPath(String hash) {
+        return backupFolderPath.resolve(CHUNKS_FOLDER_NAME).resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static String hash(byte[] chunk) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(chunk);
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException nsae) {
+            // every Java platform supports SHA-256
+            throw new AssertionError(nsae);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package jarvis.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Splits file contents into chunks whose boundaries depend on the contents around them rather than on their
+ * offsets, so that a change to one part of a file only changes the chunks around it, and the rest of the file
+ * splits into the same chunks as before.
+ * A boundary is placed wherever a rolling hash of the last bytes has its top bits all zero.
+ */
+class ContentDefinedChunker {
+
+    static final int MIN_CHUNK_SIZE = 2 * 1024;
+    static final int MAX_CHUNK_SIZE = 64 * 1024;
+    /** Gives chunks of about 8 KiB on average, beyond the minimum size. */
+    private static final long BOUNDARY_MASK = ((1L << 13) - 1) << (Long.SIZE - 13);
+
+    /** A random number for each byte value, fixed so that the same contents always split the same way. */
+    private static final long[] GEAR = new long[256];
+
+    static {
+        Random random = new Random(0x6a61727669L);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private ContentDefinedChunker() {} // prevents instantiation
+
+    /**
+     * Returns the offsets at which the chunks of {@code contents} end, in increasing order.
+     * The last offset is the length of {@code contents}, unless {@code contents} is empty.
+     */
+    static List<Integer> findChunkEnds(byte[] contents) {
+        List<Integer> chunkEnds = new ArrayList<>();
+        int chunkStart = 0;
+        long hash = 0;
+        for (int i = 0; i < contents.length; i++) {
+            hash = (hash << 1) + GEAR[contents[i] & 0xff];
+            int chunkSize = i + 1 - chunkStart;
+            if ((chunkSize >= MIN_CHUNK_SIZE && (hash & BOUNDARY_MASK) == 0) || chunkSize >= MAX_CHUNK_SIZE) {
+                chunkEnds.add(i + 1);
+                chunkStart = i + 1;
+                hash = 0;
+            }
+        }
+        if (chunkStart < contents.length) {
+            chunkEnds.add(contents.length);
+        }
+        return chunkEnds;
+    }
+}
@@ -0,0 +1,49 @@
+package jarvis.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents an append-only journal of the commands executed since the books were last saved in full.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Returns the commands recorded in the journal, in the order they were executed.
+     *   Returns an empty list if the journal file is not found.
+     * @throws IOException if there was any problem when reading from the journal.
+     */
+    List<String> readJournal() throws IOException;
+
+    /**
+     * Appends the given commands to the end of the journal.
+     * @param commandTexts cannot be null.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendToJournal(List<String> commandTexts) throws IOException;
+
+    /**
+     * Forces the commands appended to the journal so far onto the storage device, if they are not already.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void syncJournal() throws IOException;
+
+    /**
+     * Returns the size of the journal in bytes, or 0 if the journal file is not found.
+     * @throws IOException if there was any problem when reading the journal.
+     */
+    long getJournalSize() throws IOException;
+
+    /**
+     * Removes all commands from the journal.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void clearJournal() throws IOException;
+
+}
@@ -9,9 +9,9 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jarvis.model.Consult;
-import jarvis.model.LessonAttendance;
 import jarvis.model.LessonDesc;
-import jarvis.model.LessonNotes;
+import jarvis.model.LessonId;
+import jarvis.model.MatricNum;
 import jarvis.model.Student;
 import jarvis.model.TimePeriod;
 
@@ -28,12 +28,13 @@ public class JsonAdaptedConsult extends JsonAdaptedLesson {
     public JsonAdaptedConsult(@JsonProperty("lessonDesc") String lessonDesc,
                               @JsonProperty("startDateTime") LocalDateTime startDateTime,
                               @JsonProperty("endDateTime") LocalDateTime endDateTime,
+                              @JsonProperty("students") List<String> students,
                               @JsonProperty("studentList") ArrayList<JsonAdaptedStudent> studentList,
                               @JsonProperty("attendance") Map<Integer, Boolean> attendance,
                               @JsonProperty("generalNotes") ArrayList<String> generalNotes,
                               @JsonProperty("studentNotes") Map<Integer, ArrayList<String>> studentNotes,
                               @JsonProperty("isCompleted") boolean isCompleted) {
-        super(lessonDesc, startDateTime, endDateTime, studentList, attendance, generalNotes, studentNotes,
+        super(lessonDesc, startDateTime, endDateTime, students, studentList, attendance, generalNotes, studentNotes,
                 isCompleted);
     }
 
@@ -41,7 +42,7 @@ public class JsonAdaptedConsult extends JsonAdaptedLesson {
      * Converts a given {@code Consult} into this class for Jackson use.
      */
     public JsonAdaptedConsult(Consult source) {
-        super(source.getDesc(), source.getTimePeriod(), source.getStudentList(),
+        super(source.getId(), source.getDesc(), source.getTimePeriod(), source.getStudentList(),
                 source.getAttendance(), source.getGeneralNotes(), source.getStudentNotes(),
                 source.isCompleted());
     }
@@ -50,7 +51,10 @@ public class JsonAdaptedConsult extends JsonAdaptedLesson {
      * {@inheritDoc}
      */
     @Override
-    public Consult toModelType() throws IllegalArgumentException {
+    public Consult toModelType(Map<MatricNum, Student> studentsByMatricNum) throws IllegalArgumentException {
+        // LessonId
+        final LessonId modelLessonId = createModelLessonId(getId());
+
         // LessonDesc
         final LessonDesc modelLessonDesc = createModelLessonDesc(getLessonDesc());
 
@@ -59,18 +63,17 @@ public class JsonAdaptedConsult extends JsonAdaptedLesson {
                 getStartDateTime(), getEndDateTime());
 
         // Student list for lesson
-        List<Student> modelStudentList = createModelStudentList(MISSING_FIELD_MESSAGE_FORMAT, getStudentList());
+        List<Student> modelStudentList = createModelStudentList(MISSING_FIELD_MESSAGE_FORMAT, getStudents(),
+                getStudentList(), studentsByMatricNum);
 
-        // LessonAttendance
-        LessonAttendance modelAttendance = createModelLessonAttendance(MISSING_FIELD_MESSAGE_FORMAT,
-                modelStudentList, getAttendance());
+        // LessonAttendance, only created when first needed
+        checkModelLessonAttendance(MISSING_FIELD_MESSAGE_FORMAT, modelStudentList, getAttendance());
 
-        // LessonNotes
-        LessonNotes modelLessonNotes = createModelLessonNotes(MISSING_FIELD_MESSAGE_FORMAT, modelStudentList,
-                getGeneralNotes(), getStudentNotes());
+        // LessonNotes, only created when first needed
+        checkModelLessonNotes(MISSING_FIELD_MESSAGE_FORMAT, modelStudentList, getGeneralNotes(), getStudentNotes());
 
-        Consult consult = new Consult(modelLessonDesc, modelTimePeriod,
-                modelStudentList, modelAttendance, modelLessonNotes);
+        Consult consult = new Consult(modelLessonId, modelLessonDesc, modelTimePeriod, modelStudentList,
+                getAttendance(), getGeneralNotes(), getStudentNotes());
 
         if (this.isCompleted()) {
             consult.markAsCompleted();
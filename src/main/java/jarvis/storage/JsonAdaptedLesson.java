@@ -4,10 +4,12 @@ import static jarvis.commons.util.JsonUtil.checkNullArgument;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -17,8 +19,10 @@ import jarvis.model.Consult;
 import jarvis.model.Lesson;
 import jarvis.model.LessonAttendance;
 import jarvis.model.LessonDesc;
+import jarvis.model.LessonId;
 import jarvis.model.LessonNotes;
 import jarvis.model.MasteryCheck;
+import jarvis.model.MatricNum;
 import jarvis.model.Student;
 import jarvis.model.Studio;
 import jarvis.model.TimePeriod;
@@ -33,10 +37,20 @@ import jarvis.model.TimePeriod;
     @JsonSubTypes.Type(value = JsonAdaptedStudio.class, name = "studio")
 })
 public abstract class JsonAdaptedLesson {
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Lesson's student %s could not be found!";
+    public static final String MESSAGE_UNKNOWN_STUDENT_INDEX = "Lesson's %s has data for unknown student index %s!";
+
     // Identity fields
+    /** The lesson's id, which is not set in the constructor as files saved before lessons had ids do not have it. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String id;
     private final String lessonDesc;
     private final LocalDateTime startDateTime;
     private final LocalDateTime endDateTime;
+    private final List<String> students;
+
+    /** Full copies of the students, only found in files saved before students were stored by matric number. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final List<JsonAdaptedStudent> studentList;
 
     // Data fields
@@ -52,6 +66,7 @@ public abstract class JsonAdaptedLesson {
     public JsonAdaptedLesson(@JsonProperty("lessonDesc") String lessonDesc,
                              @JsonProperty("startDateTime") LocalDateTime startDateTime,
                              @JsonProperty("endDateTime") LocalDateTime endDateTime,
+                             @JsonProperty("students") List<String> students,
                              @JsonProperty("studentList") List<JsonAdaptedStudent> studentList,
                              @JsonProperty("attendance") Map<Integer, Boolean> attendance,
                              @JsonProperty("generalNotes") ArrayList<String> generalNotes,
@@ -60,6 +75,7 @@ public abstract class JsonAdaptedLesson {
         this.lessonDesc = lessonDesc;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
+        this.students = students;
         this.studentList = studentList;
         this.attendance = attendance;
         this.generalNotes = generalNotes;
@@ -70,20 +86,28 @@ public abstract class JsonAdaptedLesson {
     /**
      * Constructs a {@code JsonAdaptedLesson} with the given lesson details.
      */
-    public JsonAdaptedLesson(LessonDesc lessonDesc, TimePeriod timePeriod, List<Student> studentList,
-                             Map<Integer, Boolean> attendance, ArrayList<String> generalNotes,
-                             Map<Integer, ArrayList<String>> studentNotes, boolean isCompleted) {
+    public JsonAdaptedLesson(LessonId lessonId, LessonDesc lessonDesc, TimePeriod timePeriod,
+                             List<Student> studentList, Map<Integer, Boolean> attendance,
+                             List<String> generalNotes, Map<Integer, ArrayList<String>> studentNotes,
+                             boolean isCompleted) {
+        this.id = lessonId.value;
         this.lessonDesc = lessonDesc == null ? null : lessonDesc.lessonDesc;
         this.startDateTime = timePeriod.getStart();
         this.endDateTime = timePeriod.getEnd();
-        List<JsonAdaptedStudent> jsonAdaptedStudentList = new ArrayList<>();
+        List<String> matricNums = new ArrayList<>();
         for (Student student : studentList) {
-            jsonAdaptedStudentList.add(new JsonAdaptedStudent(student));
+            matricNums.add(student.getMatricNum().value);
+        }
+        this.students = matricNums;
+        this.studentList = null;
+        // copied, so that later changes to the lesson do not change what is saved
+        // the lesson's maps are in student index order, so they are copied in that order without sorting again
+        this.attendance = new LinkedHashMap<>(attendance);
+        this.generalNotes = new ArrayList<>(generalNotes);
+        this.studentNotes = new LinkedHashMap<>();
+        for (Map.Entry<Integer, ArrayList<String>> entry : studentNotes.entrySet()) {
+            this.studentNotes.put(entry.getKey(), new ArrayList<>(entry.getValue()));
         }
-        this.studentList = jsonAdaptedStudentList;
-        this.attendance = attendance;
-        this.generalNotes = generalNotes;
-        this.studentNotes = studentNotes;
         this.isCompleted = isCompleted;
     }
 
@@ -111,6 +135,10 @@ public abstract class JsonAdaptedLesson {
         }
     }
 
+    protected String getId() {
+        return id;
+    }
+
     protected String getLessonDesc() {
         return lessonDesc;
     }
@@ -123,10 +151,21 @@ public abstract class JsonAdaptedLesson {
         return endDateTime;
     }
 
+    protected List<String> getStudents() {
+        return students;
+    }
+
     protected List<JsonAdaptedStudent> getStudentList() {
         return studentList;
     }
 
+    /**
+     * Returns true if this lesson was saved with full copies of its students instead of their matric numbers.
+     */
+    public boolean hasStudentCopies() {
+        return students == null && studentList != null;
+    }
+
     protected Map<Integer, Boolean> getAttendance() {
         return attendance;
     }
@@ -146,9 +185,27 @@ public abstract class JsonAdaptedLesson {
     /**
      * Converts this Jackson-friendly adapted lesson object into the model's {@code Lesson} object.
      *
+     * @param studentsByMatricNum The known students, which the lesson's students are taken from.
      * @throws IllegalArgumentException if there were any data constraints violated in the adapted lesson.
      */
-    public abstract Lesson toModelType() throws IllegalArgumentException;
+    public abstract Lesson toModelType(Map<MatricNum, Student> studentsByMatricNum) throws IllegalArgumentException;
+
+    /**
+     * Creates a {@code LessonId} object with the given id, or a new id if the lesson was saved without one.
+     *
+     * @param id The given id.
+     * @return The created object.
+     * @throws IllegalArgumentException if the id is invalid.
+     */
+    public static LessonId createModelLessonId(String id) {
+        if (id == null) {
+            return LessonId.generate();
+        }
+        if (!LessonId.isValidLessonId(id)) {
+            throw new IllegalArgumentException(LessonId.MESSAGE_CONSTRAINTS);
+        }
+        return new LessonId(id);
+    }
 
     /**
      * Creates an {@code LessonDesc} object with the given description.
@@ -178,50 +235,86 @@ public abstract class JsonAdaptedLesson {
     }
 
     /**
-     * Creates an {@code List<Student>} object.
+     * Creates an {@code List<Student>} object by looking up the given matric numbers in {@code studentsByMatricNum}.
+     * If only full copies of the students are given, as in files saved by older versions, each copy is replaced by
+     * the student with the same matric number in {@code studentsByMatricNum}, if there is one.
      *
      * @param missingFieldMsg The error message to be shown if any of the fields are missing.
-     * @param jsonAdaptedStudentList The list of students in its Jackson adapted form.
+     * @param matricNums The matric numbers of the students.
+     * @param jsonAdaptedStudentList The list of students in its Jackson adapted form, used if there are no matric
+     *     numbers.
+     * @param studentsByMatricNum The known students.
      * @return The created object.
+     * @throws IllegalArgumentException if a matric number is invalid or does not belong to a known student.
      */
-    public static List<Student> createModelStudentList(String missingFieldMsg,
-                                                       List<JsonAdaptedStudent> jsonAdaptedStudentList) {
-        checkNullArgument(Student.class, missingFieldMsg, jsonAdaptedStudentList);
+    public static List<Student> createModelStudentList(String missingFieldMsg, List<String> matricNums,
+                                                       List<JsonAdaptedStudent> jsonAdaptedStudentList,
+                                                       Map<MatricNum, Student> studentsByMatricNum) {
+        List<Student> modelStudentList = new ArrayList<>();
+        if (matricNums == null) {
+            checkNullArgument(Student.class, missingFieldMsg, jsonAdaptedStudentList);
+            for (Student student : JsonAdaptedStudent.toModelList(jsonAdaptedStudentList)) {
+                modelStudentList.add(studentsByMatricNum.getOrDefault(student.getMatricNum(), student));
+            }
+            return modelStudentList;
+        }
 
-        return JsonAdaptedStudent.toModelList(jsonAdaptedStudentList);
+        for (String matricNum : matricNums) {
+            checkNullArgument(MatricNum.class, missingFieldMsg, matricNum);
+            Student student = studentsByMatricNum.get(new MatricNum(matricNum));
+            if (student == null) {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_STUDENT, matricNum));
+            }
+            modelStudentList.add(student);
+        }
+        return modelStudentList;
     }
 
     /**
-     * Creates an {@code LessonAttendance} object with the given attendance details.
+     * Checks the attendance details, which are only converted into an {@code LessonAttendance} object when the
+     * lesson's attendance is first needed.
      *
      * @param missingFieldMsg The error message to be shown if any of the fields are missing.
      * @param studentList The given list of students.
      * @param map The student attendance data mapped by student index.
-     * @return The created object.
+     * @throws IllegalArgumentException if the data is missing or is for a student index not in the list of students.
      */
-    public static LessonAttendance createModelLessonAttendance(String missingFieldMsg, List<Student> studentList,
-                                                               Map<Integer, Boolean> map) {
+    public static void checkModelLessonAttendance(String missingFieldMsg, List<Student> studentList,
+                                                  Map<Integer, Boolean> map) {
         checkNullArgument(LessonAttendance.class, missingFieldMsg, map);
-
-        return new LessonAttendance(studentList, map);
+        checkStudentIndexes(LessonAttendance.class, studentList, map);
     }
 
     /**
-     * Creates an {@code LessonNotes} object with the given general and student notes.
+     * Checks the general and student notes, which are only converted into an {@code LessonNotes} object when the
+     * lesson's notes are first needed.
      *
      * @param missingFieldMsg The error message to be shown if any of the fields are missing.
      * @param studentList The given list of students.
      * @param generalNotes The given general notes.
      * @param studentNotes The given student notes, mapped by student index.
-     * @return The created object.
+     * @throws IllegalArgumentException if the notes are missing or are for a student index not in the list of
+     *     students.
      */
-    public static LessonNotes createModelLessonNotes(String missingFieldMsg, List<Student> studentList,
-                                                     ArrayList<String> generalNotes,
-                                                     Map<Integer, ArrayList<String>> studentNotes) {
+    public static void checkModelLessonNotes(String missingFieldMsg, List<Student> studentList,
+                                             ArrayList<String> generalNotes,
+                                             Map<Integer, ArrayList<String>> studentNotes) {
         checkNullArgument(LessonNotes.class, missingFieldMsg, generalNotes);
         checkNullArgument(LessonNotes.class, missingFieldMsg, studentNotes);
+        checkStudentIndexes(LessonNotes.class, studentList, studentNotes);
+    }
 
-        return new LessonNotes(studentList, generalNotes, studentNotes);
+    /**
+     * Checks that every key of {@code map} is the index of a student in {@code studentList}.
+     *
+     * @throws IllegalArgumentException if a key is not the index of a student in {@code studentList}.
+     */
+    public static void checkStudentIndexes(Class<?> clazz, List<Student> studentList, Map<Integer, ?> map) {
+        for (Integer index : map.keySet()) {
+            if (index == null || index < 0 || index >= studentList.size()) {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_STUDENT_INDEX,
+                        clazz.getSimpleName(), index));
+            }
+        }
     }
 }
-
@@ -4,15 +4,16 @@ import static jarvis.commons.util.JsonUtil.checkNullArgument;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import jarvis.model.LessonAttendance;
 import jarvis.model.LessonDesc;
-import jarvis.model.LessonNotes;
+import jarvis.model.LessonId;
+import jarvis.model.MatricNum;
 import jarvis.model.Student;
 import jarvis.model.Studio;
 import jarvis.model.StudioParticipation;
@@ -33,13 +34,14 @@ public class JsonAdaptedStudio extends JsonAdaptedLesson {
     public JsonAdaptedStudio(@JsonProperty("lessonDesc") String lessonDesc,
                              @JsonProperty("startDateTime") LocalDateTime startDateTime,
                              @JsonProperty("endDateTime") LocalDateTime endDateTime,
+                             @JsonProperty("students") List<String> students,
                              @JsonProperty("studentList") List<JsonAdaptedStudent> studentList,
                              @JsonProperty("attendance") Map<Integer, Boolean> attendance,
                              @JsonProperty("generalNotes") ArrayList<String> generalNotes,
                              @JsonProperty("studentNotes") Map<Integer, ArrayList<String>> studentNotes,
                              @JsonProperty("isCompleted") boolean isCompleted,
                              @JsonProperty("studioParticipation") Map<Integer, Integer> studioParticipation) {
-        super(lessonDesc, startDateTime, endDateTime, studentList, attendance, generalNotes, studentNotes,
+        super(lessonDesc, startDateTime, endDateTime, students, studentList, attendance, generalNotes, studentNotes,
                 isCompleted);
         this.studioParticipation = studioParticipation;
     }
@@ -48,16 +50,19 @@ public class JsonAdaptedStudio extends JsonAdaptedLesson {
      * Converts a given {@code Studio} into this class for Jackson use.
      */
     public JsonAdaptedStudio(Studio source) {
-        super(source.getDesc(), source.getTimePeriod(), source.getStudentList(),
+        super(source.getId(), source.getDesc(), source.getTimePeriod(), source.getStudentList(),
                 source.getAttendance(), source.getGeneralNotes(), source.getStudentNotes(), source.isCompleted());
-        studioParticipation = source.getParticipation();
+        studioParticipation = new LinkedHashMap<>(source.getParticipation());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Studio toModelType() throws IllegalArgumentException {
+    public Studio toModelType(Map<MatricNum, Student> studentsByMatricNum) throws IllegalArgumentException {
+        // LessonId
+        final LessonId modelLessonId = createModelLessonId(getId());
+
         // LessonDesc
         final LessonDesc modelLessonDesc = createModelLessonDesc(getLessonDesc());
 
@@ -66,22 +71,21 @@ public class JsonAdaptedStudio extends JsonAdaptedLesson {
                 getStartDateTime(), getEndDateTime());
 
         // Student list for lesson
-        List<Student> modelStudentList = createModelStudentList(MISSING_FIELD_MESSAGE_FORMAT, getStudentList());
+        List<Student> modelStudentList = createModelStudentList(MISSING_FIELD_MESSAGE_FORMAT, getStudents(),
+                getStudentList(), studentsByMatricNum);
 
-        // LessonAttendance
-        LessonAttendance modelAttendance = createModelLessonAttendance(MISSING_FIELD_MESSAGE_FORMAT,
-                modelStudentList, getAttendance());
+        // LessonAttendance, only created when first needed
+        checkModelLessonAttendance(MISSING_FIELD_MESSAGE_FORMAT, modelStudentList, getAttendance());
 
-        // LessonNotes
-        LessonNotes modelLessonNotes = createModelLessonNotes(MISSING_FIELD_MESSAGE_FORMAT, modelStudentList,
-                getGeneralNotes(), getStudentNotes());
+        // LessonNotes, only created when first needed
+        checkModelLessonNotes(MISSING_FIELD_MESSAGE_FORMAT, modelStudentList, getGeneralNotes(), getStudentNotes());
 
-        // StudioParticipation
+        // StudioParticipation, only created when first needed
         checkNullArgument(StudioParticipation.class, MISSING_FIELD_MESSAGE_FORMAT, studioParticipation);
-        StudioParticipation modelStudioParticipation = new StudioParticipation(modelStudentList, studioParticipation);
+        checkStudentIndexes(StudioParticipation.class, modelStudentList, studioParticipation);
 
-        Studio studio = new Studio(modelLessonDesc, modelTimePeriod, modelStudentList,
-                modelAttendance, modelLessonNotes, modelStudioParticipation);
+        Studio studio = new Studio(modelLessonId, modelLessonDesc, modelTimePeriod, modelStudentList,
+                getAttendance(), getGeneralNotes(), getStudentNotes(), studioParticipation);
 
         if (this.isCompleted()) {
             studio.markAsCompleted();
@@ -1,7 +1,6 @@
 package jarvis.storage;
 
 import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
-import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -9,22 +8,34 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import jarvis.commons.core.LogsCenter;
+import jarvis.commons.core.StorageFormat;
 import jarvis.commons.exceptions.DataConversionException;
 import jarvis.commons.util.FileUtil;
 import jarvis.commons.util.JsonUtil;
 import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
 
 /**
- * A class to access LessonBook data stored as a json file on the hard disk.
+ * A class to access LessonBook data stored as a json or smile file on the hard disk.
  */
 public class JsonLessonBookStorage implements LessonBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonLessonBookStorage.class);
 
     private Path filePath;
+    private final StorageFormat format;
 
     public JsonLessonBookStorage(Path filePath) {
-        this.filePath = filePath;
+        this(filePath, StorageFormat.JSON);
+    }
+
+    /**
+     * Creates a storage that saves the lesson book in {@code format}, at the path given by
+     * {@link StorageFormat#getDataFilePath(Path)}.
+     */
+    public JsonLessonBookStorage(Path filePath, StorageFormat format) {
+        this.filePath = format.getDataFilePath(filePath);
+        this.format = format;
     }
 
     public Path getLessonBookFilePath() {
@@ -32,51 +43,56 @@ public class JsonLessonBookStorage implements LessonBookStorage {
     }
 
     @Override
-    public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException {
-        return readLessonBook(filePath);
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException {
+        return readLessonBook(filePath, studentBook);
     }
 
     /**
-     * Similar to {@link #readLessonBook()}.
+     * Similar to {@link #readLessonBook(ReadOnlyStudentBook)}.
+     * Lessons that cannot be loaded are left out and moved to the quarantine file next to the data,
+     * and the data is written again without them.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException {
-        requireNonNull(filePath);
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException {
+        requireAllNonNull(filePath, studentBook);
 
-        Optional<JsonSerializableLessonBook> jsonLessonBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableLessonBook.class);
+        Optional<JsonSerializableLessonBook> jsonLessonBook = JsonUtil.readDataFile(
+                filePath, JsonSerializableLessonBook.class, format);
         if (!jsonLessonBook.isPresent()) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonLessonBook.get().toModelType());
-        } catch (IllegalArgumentException iae) {
-            logger.info("Illegal values found in " + filePath + ": " + iae.getMessage());
-            throw new DataConversionException(iae);
-        } catch (IOException e) {
-            logger.info("Error reading data from storage in " + filePath + ": " + e.getMessage());
-            throw new DataConversionException(e);
+        if (jsonLessonBook.get().hasStudentCopies()) {
+            logger.info("Lessons in " + filePath + " contain copies of their students. "
+                    + "They will be saved with matric numbers instead on the next save");
         }
+
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        ReadOnlyLessonBook lessonBook = jsonLessonBook.get().toModelType(studentBook.getStudentList(), quarantine);
+        QuarantineUtil.quarantine(filePath, quarantine, () -> saveLessonBook(lessonBook, studentBook, filePath));
+        return Optional.of(lessonBook);
     }
 
     @Override
-    public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
-        saveLessonBook(lessonBook, filePath);
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook) throws IOException {
+        saveLessonBook(lessonBook, studentBook, filePath);
     }
 
     /**
-     * Similar to {@link #saveLessonBook(ReadOnlyLessonBook)}.
+     * Similar to {@link #saveLessonBook(ReadOnlyLessonBook, ReadOnlyStudentBook)}.
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
-        requireAllNonNull(lessonBook, filePath);
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook, Path filePath)
+            throws IOException {
+        requireAllNonNull(lessonBook, studentBook, filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableLessonBook(lessonBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveDataFile(new JsonSerializableLessonBook(lessonBook, studentBook), filePath, format);
     }
 
 }
@@ -0,0 +1,70 @@
+package jarvis.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+/**
+ * The list of the data files in a backup and the chunks each is made of, in order. Serializable to JSON format.
+ */
+@JsonRootName(value = "backup")
+class JsonSerializableBackup {
+
+    private final List<BackedUpFile> files = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableBackup} with the given files.
+     */
+    @JsonCreator
+    JsonSerializableBackup(@JsonProperty("files") List<BackedUpFile> files) {
+        if (files != null) {
+            this.files.addAll(files);
+        }
+    }
+
+    List<BackedUpFile> getFiles() {
+        return files;
+    }
+
+    /**
+     * A data file in a backup.
+     */
+    static class BackedUpFile {
+        private final String path;
+        private final long size;
+        private final long lastModifiedMillis;
+        /** The SHA-256 hashes of the chunks of the file, which are also the names of the chunk files. */
+        private final List<String> chunks = new ArrayList<>();
+
+        @JsonCreator
+        BackedUpFile(@JsonProperty("path") String path, @JsonProperty("size") long size,
+                     @JsonProperty("lastModifiedMillis") long lastModifiedMillis,
+                     @JsonProperty("chunks") List<String> chunks) {
+            this.path = path;
+            this.size = size;
+            this.lastModifiedMillis = lastModifiedMillis;
+            if (chunks != null) {
+                this.chunks.addAll(chunks);
+            }
+        }
+
+        String getPath() {
+            return path;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        long getLastModifiedMillis() {
+            return lastModifiedMillis;
+        }
+
+        List<String> getChunks() {
+            return chunks;
+        }
+    }
+}
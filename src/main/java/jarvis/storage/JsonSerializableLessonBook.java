@@ -2,7 +2,12 @@ package jarvis.storage;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,8 +16,13 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import jarvis.model.Lesson;
 import jarvis.model.LessonBook;
+import jarvis.model.LessonId;
+import jarvis.model.MatricNum;
 import jarvis.model.ReadOnlyLessonBook;
-
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.Student;
+import jarvis.model.exceptions.LessonClashException;
+import jarvis.storage.ParallelConverter.Conversion;
 
 /**
  * An Immutable LessonBook that is serializable to JSON format.
@@ -25,23 +35,45 @@ public class JsonSerializableLessonBook {
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableLessonBook} with the given Lessons.
+     * Copies of the students in the lessons that are not in the student book, such as students that have been
+     * deleted. The lessons themselves only refer to their students by matric number.
+     */
+    private final List<JsonAdaptedStudent> students = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableLessonBook} with the given Lessons and students.
      */
     @JsonCreator
-    public JsonSerializableLessonBook(@JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+    public JsonSerializableLessonBook(@JsonProperty("lessons") List<JsonAdaptedLesson> lessons,
+                                      @JsonProperty("students") List<JsonAdaptedStudent> students) {
         this.lessons.addAll(lessons);
+        if (students != null) {
+            this.students.addAll(students);
+        }
     }
 
     /**
      * Converts a given {@code ReadOnlyLessonBook} into this class for Jackson use.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableLessonBook}.
+     * @param studentBook the student book saved alongside {@code source}.
+     */
+    public JsonSerializableLessonBook(ReadOnlyLessonBook source, ReadOnlyStudentBook studentBook) {
+        this(source.getLessonList(), studentBook.getStudentList());
+    }
+
+    /**
+     * Converts the given lessons into this class for Jackson use.
+     * Only the students of the lessons that are not in {@code studentBookStudents} are copied.
+     *
+     * @param lessons future changes to these will not affect the created {@code JsonSerializableLessonBook}.
+     * @param studentBookStudents The students of the student book saved alongside the lessons.
      */
-    public JsonSerializableLessonBook(ReadOnlyLessonBook source) {
-        lessons.addAll(source.getLessonList().stream()
+    public JsonSerializableLessonBook(List<? extends Lesson> lessons, Collection<Student> studentBookStudents) {
+        this.lessons.addAll(lessons.stream()
                 .map(x -> JsonAdaptedLesson.createLesson(x))
                 .collect(Collectors.toList()));
-        if (!lessons.stream().allMatch(jsonAdaptedLesson -> {
+        if (!this.lessons.stream().allMatch(jsonAdaptedLesson -> {
             if (jsonAdaptedLesson == null) {
                 return false;
             }
@@ -49,22 +81,100 @@ public class JsonSerializableLessonBook {
         })) {
             throw new AssertionError();
         }
+        Set<Student> savedStudents = new HashSet<>(studentBookStudents);
+        students.addAll(lessons.stream()
+                .flatMap(lesson -> lesson.getStudentList().stream())
+                .filter(student -> !savedStudents.contains(student))
+                .distinct()
+                .map(JsonAdaptedStudent::new)
+                .collect(Collectors.toList()));
+    }
+
+    List<JsonAdaptedLesson> getLessons() {
+        return lessons;
+    }
+
+    List<JsonAdaptedStudent> getStudents() {
+        return students;
+    }
+
+    /**
+     * Returns true if any lesson was saved with full copies of its students, as done by older versions.
+     */
+    public boolean hasStudentCopies() {
+        return lessons.stream().anyMatch(JsonAdaptedLesson::hasStudentCopies);
     }
 
     /**
      * Converts this Lesson book into the model's {@code LessonBook} object.
+     * The students of the lessons are taken from {@code studentBookStudents}, so that each student is only loaded
+     * once. Students that are not in {@code studentBookStudents} are taken from the copies saved with the lessons.
      *
+     * @param studentBookStudents The students of the student book.
      * @throws IllegalArgumentException if there were any data constraints violated.
      */
-    public LessonBook toModelType() throws IllegalArgumentException, IOException {
+    public LessonBook toModelType(List<Student> studentBookStudents) throws IllegalArgumentException, IOException {
+        Map<MatricNum, Student> studentsByMatricNum = new HashMap<>();
+        for (Student student : JsonAdaptedStudent.toModelList(students)) {
+            studentsByMatricNum.put(student.getMatricNum(), student);
+        }
+        for (Student student : studentBookStudents) {
+            studentsByMatricNum.put(student.getMatricNum(), student);
+        }
+
         LessonBook lessonBook = new LessonBook();
+        Set<LessonId> lessonIds = new HashSet<>();
         for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType();
-            if (lessonBook.hasLesson(lesson)) {
+            Lesson lesson = jsonAdaptedLesson.toModelType(studentsByMatricNum);
+            if (!lessonIds.add(lesson.getId()) || lessonBook.hasLessonWithSameContent(lesson)) {
                 throw new IllegalArgumentException(MESSAGE_DUPLICATE_LESSONS);
             }
             lessonBook.addLesson(lesson);
         }
         return lessonBook;
     }
+
+    /**
+     * Converts this Lesson book into the model's {@code LessonBook} object, like {@link #toModelType(List)}, but
+     * leaves out the lessons that violate data constraints, duplicate an earlier lesson or clash with an earlier
+     * lesson. The lessons left out, and the copies of students that violate data constraints, are added to
+     * {@code quarantine}.
+     * The lessons are converted in parallel, since each is converted independently of the others.
+     *
+     * @param studentBookStudents The students of the student book.
+     */
+    public LessonBook toModelType(List<Student> studentBookStudents, JsonSerializableQuarantine quarantine) {
+        Map<MatricNum, Student> studentsByMatricNum = new HashMap<>();
+        for (Conversion<JsonAdaptedStudent, Student> conversion
+                : ParallelConverter.convertAll(students, JsonAdaptedStudent::toModelType)) {
+            if (conversion.hasFailed()) {
+                quarantine.addStudent(conversion.getItem(), conversion.getErrorMessage());
+            } else {
+                studentsByMatricNum.put(conversion.getModelItem().getMatricNum(), conversion.getModelItem());
+            }
+        }
+        for (Student student : studentBookStudents) {
+            studentsByMatricNum.put(student.getMatricNum(), student);
+        }
+
+        LessonBook lessonBook = new LessonBook();
+        Set<LessonId> lessonIds = new HashSet<>();
+        for (Conversion<JsonAdaptedLesson, Lesson> conversion
+                : ParallelConverter.convertAll(lessons, lesson -> lesson.toModelType(studentsByMatricNum))) {
+            if (conversion.hasFailed()) {
+                quarantine.addLesson(conversion.getItem(), conversion.getErrorMessage());
+            } else if (lessonIds.contains(conversion.getModelItem().getId())
+                    || lessonBook.hasLessonWithSameContent(conversion.getModelItem())) {
+                quarantine.addLesson(conversion.getItem(), MESSAGE_DUPLICATE_LESSONS);
+            } else {
+                try {
+                    lessonBook.addLesson(conversion.getModelItem());
+                    lessonIds.add(conversion.getModelItem().getId());
+                } catch (LessonClashException lce) {
+                    quarantine.addLesson(conversion.getItem(), lce.getMessage());
+                }
+            }
+        }
+        return lessonBook;
+    }
 }
@@ -0,0 +1,71 @@
+package jarvis.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+/**
+ * The list of segment files a lesson book is saved in, that is serializable to JSON format.
+ */
+@JsonRootName(value = "lessonsegments")
+public class JsonSerializableLessonSegmentManifest {
+
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableLessonSegmentManifest} with the given segments.
+     */
+    @JsonCreator
+    public JsonSerializableLessonSegmentManifest(@JsonProperty("segments") List<Segment> segments) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public List<Segment> getSegments() {
+        return Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * A segment file holding the lessons that start in one period, with the checksum of its contents so that it is
+     * only rewritten when they change.
+     */
+    public static class Segment {
+        private final String key;
+        private final String fileName;
+        private final int lessonCount;
+        private final long checksum;
+
+        /**
+         * Constructs a {@code Segment} with the given details.
+         */
+        @JsonCreator
+        public Segment(@JsonProperty("key") String key, @JsonProperty("fileName") String fileName,
+                       @JsonProperty("lessonCount") int lessonCount, @JsonProperty("checksum") long checksum) {
+            this.key = key;
+            this.fileName = fileName;
+            this.lessonCount = lessonCount;
+            this.checksum = checksum;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public int getLessonCount() {
+            return lessonCount;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+    }
+}
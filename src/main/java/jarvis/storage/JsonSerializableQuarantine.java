@@ -0,0 +1,105 @@
+package jarvis.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jarvis.commons.util.JsonUtil;
+
+/**
+ * The students, tasks and lessons of a data file that could not be loaded, with the reason for each, so that they
+ * can be fixed by hand instead of being lost when the book is next saved. Serializable to JSON format.
+ */
+@JsonRootName(value = "quarantine")
+class JsonSerializableQuarantine {
+
+    private final List<Entry<JsonAdaptedStudent>> students = new ArrayList<>();
+    private final List<Entry<JsonAdaptedTask>> tasks = new ArrayList<>();
+    private final List<Entry<JsonAdaptedLesson>> lessons = new ArrayList<>();
+
+    JsonSerializableQuarantine() {}
+
+    /**
+     * Constructs a {@code JsonSerializableQuarantine} with the given entries.
+     */
+    @JsonCreator
+    JsonSerializableQuarantine(@JsonProperty("students") List<Entry<JsonAdaptedStudent>> students,
+                               @JsonProperty("tasks") List<Entry<JsonAdaptedTask>> tasks,
+                               @JsonProperty("lessons") List<Entry<JsonAdaptedLesson>> lessons) {
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (tasks != null) {
+            this.tasks.addAll(tasks);
+        }
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+    }
+
+    void addStudent(JsonAdaptedStudent student, String reason) {
+        students.add(new Entry<>(reason, student));
+    }
+
+    void addTask(JsonAdaptedTask task, String reason) {
+        tasks.add(new Entry<>(reason, task));
+    }
+
+    void addLesson(JsonAdaptedLesson lesson, String reason) {
+        lessons.add(new Entry<>(reason, lesson));
+    }
+
+    /**
+     * Adds the entries of {@code other} whose items are not already in this quarantine, after the entries of this
+     * quarantine, so that an item that fails to load each time its data file is read is only kept once.
+     * Returns the number of entries added.
+     */
+    int addAllNew(JsonSerializableQuarantine other) {
+        return addAllNew(students, other.students) + addAllNew(tasks, other.tasks)
+                + addAllNew(lessons, other.lessons);
+    }
+
+    private static <T> int addAllNew(List<Entry<T>> entries, List<Entry<T>> newEntries) {
+        // the adapted items do not define equality, so they are compared by their JSON data
+        Set<JsonNode> items = new HashSet<>();
+        for (Entry<T> entry : entries) {
+            items.add(JsonUtil.toJsonTree(entry.item));
+        }
+        int addedCount = 0;
+        for (Entry<T> entry : newEntries) {
+            if (items.add(JsonUtil.toJsonTree(entry.item))) {
+                entries.add(entry);
+                addedCount++;
+            }
+        }
+        return addedCount;
+    }
+
+    int size() {
+        return students.size() + tasks.size() + lessons.size();
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * An item that could not be loaded, and the reason why.
+     */
+    static class Entry<T> {
+        private final String reason;
+        private final T item;
+
+        @JsonCreator
+        Entry(@JsonProperty("reason") String reason, @JsonProperty("item") T item) {
+            this.reason = reason;
+            this.item = item;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import jarvis.commons.exceptions.IllegalValueException;
 import jarvis.model.ReadOnlyStudentBook;
 import jarvis.model.Student;
 import jarvis.model.StudentBook;
+import jarvis.storage.ParallelConverter.Conversion;
 
 
 /**
@@ -41,6 +42,10 @@ public class JsonSerializableStudentBook {
         students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedStudent> getStudents() {
+        return students;
+    }
+
     /**
      * Converts this student book into the model's {@code StudentBook} object.
      *
@@ -58,4 +63,24 @@ public class JsonSerializableStudentBook {
         return studentBook;
     }
 
+    /**
+     * Converts this student book into the model's {@code StudentBook} object, leaving out the students that violate
+     * data constraints or duplicate an earlier student. The students left out are added to {@code quarantine}.
+     * The students are converted in parallel, since each is converted independently of the others.
+     */
+    public StudentBook toModelType(JsonSerializableQuarantine quarantine) {
+        StudentBook studentBook = new StudentBook();
+        for (Conversion<JsonAdaptedStudent, Student> conversion
+                : ParallelConverter.convertAll(students, JsonAdaptedStudent::toModelType)) {
+            if (conversion.hasFailed()) {
+                quarantine.addStudent(conversion.getItem(), conversion.getErrorMessage());
+            } else if (studentBook.hasStudent(conversion.getModelItem())) {
+                quarantine.addStudent(conversion.getItem(), MESSAGE_DUPLICATE_STUDENT);
+            } else {
+                studentBook.addStudent(conversion.getModelItem());
+            }
+        }
+        return studentBook;
+    }
+
 }
@@ -12,6 +12,7 @@ import jarvis.commons.exceptions.IllegalValueException;
 import jarvis.model.ReadOnlyTaskBook;
 import jarvis.model.Task;
 import jarvis.model.TaskBook;
+import jarvis.storage.ParallelConverter.Conversion;
 
 /**
  * An Immutable TaskBook that is serializable to JSON format.
@@ -40,6 +41,10 @@ class JsonSerializableTaskBook {
         tasks.addAll(source.getTaskList().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedTask> getTasks() {
+        return tasks;
+    }
+
     /**
      * Converts this task book into the model's {@code TaskBook} object.
      *
@@ -57,4 +62,24 @@ class JsonSerializableTaskBook {
         return taskBook;
     }
 
+    /**
+     * Converts this task book into the model's {@code TaskBook} object, leaving out the tasks that violate data
+     * constraints or duplicate an earlier task. The tasks left out are added to {@code quarantine}.
+     * The tasks are converted in parallel, since each is converted independently of the others.
+     */
+    public TaskBook toModelType(JsonSerializableQuarantine quarantine) {
+        TaskBook taskBook = new TaskBook();
+        for (Conversion<JsonAdaptedTask, Task> conversion
+                : ParallelConverter.convertAll(tasks, JsonAdaptedTask::toModelType)) {
+            if (conversion.hasFailed()) {
+                quarantine.addTask(conversion.getItem(), conversion.getErrorMessage());
+            } else if (taskBook.hasTask(conversion.getModelItem())) {
+                quarantine.addTask(conversion.getItem(), MESSAGE_DUPLICATE_TASK);
+            } else {
+                taskBook.addTask(conversion.getModelItem());
+            }
+        }
+        return taskBook;
+    }
+
 }
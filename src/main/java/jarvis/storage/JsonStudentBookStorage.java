@@ -8,23 +8,33 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import jarvis.commons.core.LogsCenter;
+import jarvis.commons.core.StorageFormat;
 import jarvis.commons.exceptions.DataConversionException;
-import jarvis.commons.exceptions.IllegalValueException;
 import jarvis.commons.util.FileUtil;
 import jarvis.commons.util.JsonUtil;
 import jarvis.model.ReadOnlyStudentBook;
 
 /**
- * A class to access StudentBook data stored as a json file on the hard disk.
+ * A class to access StudentBook data stored as a json or smile file on the hard disk.
  */
 public class JsonStudentBookStorage implements StudentBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonStudentBookStorage.class);
 
     private Path filePath;
+    private final StorageFormat format;
 
     public JsonStudentBookStorage(Path filePath) {
-        this.filePath = filePath;
+        this(filePath, StorageFormat.JSON);
+    }
+
+    /**
+     * Creates a storage that saves the student book in {@code format}, at the path given by
+     * {@link StorageFormat#getDataFilePath(Path)}.
+     */
+    public JsonStudentBookStorage(Path filePath, StorageFormat format) {
+        this.filePath = format.getDataFilePath(filePath);
+        this.format = format;
     }
 
     public Path getStudentBookFilePath() {
@@ -38,6 +48,8 @@ public class JsonStudentBookStorage implements StudentBookStorage {
 
     /**
      * Similar to {@link #readStudentBook()}.
+     * Students that cannot be loaded are left out and moved to the quarantine file next to the data,
+     * and the data is written again without them.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,18 +57,16 @@ public class JsonStudentBookStorage implements StudentBookStorage {
     public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableStudentBook> jsonStudentBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableStudentBook.class);
+        Optional<JsonSerializableStudentBook> jsonStudentBook = JsonUtil.readDataFile(
+                filePath, JsonSerializableStudentBook.class, format);
         if (!jsonStudentBook.isPresent()) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonStudentBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        ReadOnlyStudentBook studentBook = jsonStudentBook.get().toModelType(quarantine);
+        QuarantineUtil.quarantine(filePath, quarantine, () -> saveStudentBook(studentBook, filePath));
+        return Optional.of(studentBook);
     }
 
     @Override
@@ -73,8 +83,8 @@ public class JsonStudentBookStorage implements StudentBookStorage {
         requireNonNull(studentBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStudentBook(studentBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveDataFile(new JsonSerializableStudentBook(studentBook), filePath, format);
     }
 
 }
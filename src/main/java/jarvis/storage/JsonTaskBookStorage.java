@@ -8,23 +8,33 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import jarvis.commons.core.LogsCenter;
+import jarvis.commons.core.StorageFormat;
 import jarvis.commons.exceptions.DataConversionException;
-import jarvis.commons.exceptions.IllegalValueException;
 import jarvis.commons.util.FileUtil;
 import jarvis.commons.util.JsonUtil;
 import jarvis.model.ReadOnlyTaskBook;
 
 /**
- * A class to access TaskBook data stored as a json file on the hard disk.
+ * A class to access TaskBook data stored as a json or smile file on the hard disk.
  */
 public class JsonTaskBookStorage implements TaskBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTaskBookStorage.class);
 
     private Path filePath;
+    private final StorageFormat format;
 
     public JsonTaskBookStorage(Path filePath) {
-        this.filePath = filePath;
+        this(filePath, StorageFormat.JSON);
+    }
+
+    /**
+     * Creates a storage that saves the task book in {@code format}, at the path given by
+     * {@link StorageFormat#getDataFilePath(Path)}.
+     */
+    public JsonTaskBookStorage(Path filePath, StorageFormat format) {
+        this.filePath = format.getDataFilePath(filePath);
+        this.format = format;
     }
 
     public Path getTaskBookFilePath() {
@@ -38,6 +48,8 @@ public class JsonTaskBookStorage implements TaskBookStorage {
 
     /**
      * Similar to {@link #readTaskBook()}.
+     * Tasks that cannot be loaded are left out and moved to the quarantine file next to the data,
+     * and the data is written again without them.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,18 +57,16 @@ public class JsonTaskBookStorage implements TaskBookStorage {
     public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskBook> jsonTaskBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaskBook.class);
+        Optional<JsonSerializableTaskBook> jsonTaskBook = JsonUtil.readDataFile(
+                filePath, JsonSerializableTaskBook.class, format);
         if (!jsonTaskBook.isPresent()) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonTaskBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        ReadOnlyTaskBook taskBook = jsonTaskBook.get().toModelType(quarantine);
+        QuarantineUtil.quarantine(filePath, quarantine, () -> saveTaskBook(taskBook, filePath));
+        return Optional.of(taskBook);
     }
 
     @Override
@@ -73,8 +83,8 @@ public class JsonTaskBookStorage implements TaskBookStorage {
         requireNonNull(taskBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(taskBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveDataFile(new JsonSerializableTaskBook(taskBook), filePath, format);
     }
 
 }
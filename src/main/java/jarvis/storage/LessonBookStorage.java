@@ -7,6 +7,7 @@ import java.util.Optional;
 import jarvis.commons.exceptions.DataConversionException;
 import jarvis.model.LessonBook;
 import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
 
 /**
  * Represents a storage for {@link LessonBook}.
@@ -21,26 +22,32 @@ public interface LessonBookStorage {
     /**
      * Returns LessonBook data as a {@link ReadOnlyLessonBook}.
      *   Returns {@code Optional.empty()} if storage file is not found.
+     * @param studentBook the student book the students of the lessons are taken from. Cannot be null.
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
      */
-    Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException;
+    Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException;
 
     /**
-     * @see #getLessonBookFilePath()
+     * @see #readLessonBook(ReadOnlyStudentBook)
      */
-    Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException;
+    Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException;
 
     /**
      * Saves the given {@link ReadOnlyLessonBook} to the storage.
      * @param lessonBook cannot be null.
+     * @param studentBook the student book the lesson book is saved alongside. Only the students of the lessons that
+     *     are not in it are copied into the storage. Cannot be null.
      * @throws IOException if there was any problem writing to the file.
      */
-    void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException;
+    void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook) throws IOException;
 
     /**
-     * @see #saveLessonBook(ReadOnlyLessonBook)
+     * @see #saveLessonBook(ReadOnlyLessonBook, ReadOnlyStudentBook)
      */
-    void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException;
+    void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook, Path filePath)
+            throws IOException;
 
 }
@@ -0,0 +1,257 @@
+package jarvis.storage;
+
+import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.FileUtil;
+import jarvis.commons.util.JsonUtil;
+import jarvis.model.Lesson;
+import jarvis.model.LessonId;
+import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.Student;
+
+/**
+ * A class to access LessonBook data stored in an embedded database on the hard disk, with a row for each lesson, a
+ * row for the attendance, notes and participation of each lesson in tables of their own, and a row for each student
+ * in the lessons that is not in the student book.
+ * Lessons are mapped by their ids. Only the rows of the lessons that changed since the lesson book was last written
+ * are upserted when it is saved, and only the rows that differ from the ones in the database are written.
+ */
+public class MvStoreLessonBookStorage implements LessonBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MvStoreLessonBookStorage.class);
+
+    private static final String LESSONS_TABLE = "lessons";
+    private static final String ATTENDANCE_TABLE = "attendance";
+    private static final String NOTES_TABLE = "notes";
+    private static final String PARTICIPATION_TABLE = "participation";
+    private static final String STUDENTS_TABLE = "students";
+
+    /** The fields of the Jackson-friendly version of a lesson kept in each table other than the lessons table. */
+    private static final Map<String, List<String>> FIELDS_BY_TABLE = Map.of(
+            ATTENDANCE_TABLE, List.of("attendance"),
+            NOTES_TABLE, List.of("generalNotes", "studentNotes"),
+            PARTICIPATION_TABLE, List.of("studioParticipation"));
+
+    private final Path filePath;
+    private final LessonBookStorage importedStorage;
+    /**
+     * Whether the database at the configured location may not match the lesson book as it was last read from or
+     * written to it, e.g. after a failed save, in which case every lesson is written on the next save.
+     */
+    private boolean isFullSaveNeeded = true;
+
+    /**
+     * Creates a storage that keeps the lesson book in a database next to {@code filePath}.
+     * If the database does not exist yet, the lesson book in {@code importedStorage} is read and imported into the
+     * database instead.
+     */
+    public MvStoreLessonBookStorage(Path filePath, LessonBookStorage importedStorage) {
+        requireNonNull(importedStorage);
+        this.filePath = MvStoreUtil.getDatabaseFilePath(filePath);
+        this.importedStorage = importedStorage;
+    }
+
+    /**
+     * Returns the database of the lesson book.
+     */
+    @Override
+    public Path getLessonBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
+        return readLessonBook(filePath, studentBook);
+    }
+
+    /**
+     * Similar to {@link #readLessonBook(ReadOnlyStudentBook)}.
+     * Lessons that cannot be loaded are left out and moved to the quarantine file next to the data,
+     * and the data is written again without them.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataConversionException if a row is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, studentBook);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return filePath.equals(this.filePath) ? importLessonBook(studentBook) : Optional.empty();
+        }
+
+        Map<String, Map<String, byte[]>> tables = MvStoreUtil.readTables(filePath, LESSONS_TABLE, ATTENDANCE_TABLE,
+                NOTES_TABLE, PARTICIPATION_TABLE, STUDENTS_TABLE);
+        List<JsonAdaptedLesson> lessons = new ArrayList<>();
+        List<JsonAdaptedStudent> students;
+        boolean hasRowsOfOlderVersions = false;
+        try {
+            for (Map.Entry<String, byte[]> lessonRow : tables.get(LESSONS_TABLE).entrySet()) {
+                JsonAdaptedLesson lesson = fromRows(lessonRow.getKey(), lessonRow.getValue(), tables);
+                // older versions mapped lessons by their details instead of their ids
+                hasRowsOfOlderVersions |= !lessonRow.getKey().equals(lesson.getId());
+                lessons.add(lesson);
+            }
+            students = MvStoreUtil.fromRows(tables.get(STUDENTS_TABLE).values(), JsonAdaptedStudent.class);
+        } catch (IOException e) {
+            logger.info("Error reading data from storage in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        ReadOnlyLessonBook lessonBook = new JsonSerializableLessonBook(lessons, students)
+                .toModelType(studentBook.getStudentList(), quarantine);
+        if (filePath.equals(this.filePath)) {
+            // the database still holds the lessons that were quarantined, or rows in an older layout, until every
+            // lesson is written again
+            isFullSaveNeeded = !quarantine.isEmpty() || hasRowsOfOlderVersions;
+        }
+        QuarantineUtil.quarantine(filePath, quarantine, () -> saveLessonBook(lessonBook, studentBook, filePath));
+        return Optional.of(lessonBook);
+    }
+
+    /**
+     * Returns the lesson in the row with {@code key} of the lessons table, with its fields kept in the other tables.
+     * Rows written by older versions hold every field of the lesson themselves.
+     */
+    private static JsonAdaptedLesson fromRows(String key, byte[] lessonRow, Map<String, Map<String, byte[]>> tables)
+            throws IOException {
+        ObjectNode lesson = MvStoreUtil.fromRow(lessonRow, ObjectNode.class);
+        for (String tableName : FIELDS_BY_TABLE.keySet()) {
+            byte[] row = tables.get(tableName).get(key);
+            if (row != null) {
+                lesson.setAll(MvStoreUtil.fromRow(row, ObjectNode.class));
+            }
+        }
+        return JsonUtil.fromJsonTree(lesson, JsonAdaptedLesson.class);
+    }
+
+    private Optional<ReadOnlyLessonBook> importLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyLessonBook> lessonBook = importedStorage.readLessonBook(studentBook);
+        if (lessonBook.isPresent()) {
+            logger.info("Importing lessons from " + importedStorage.getLessonBookFilePath() + " into " + filePath);
+            saveLessonBook(lessonBook.get(), studentBook, filePath);
+        }
+        return lessonBook;
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook) throws IOException {
+        saveLessonBook(lessonBook, studentBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveLessonBook(ReadOnlyLessonBook, ReadOnlyStudentBook)}.
+     * At the configured location, only the rows of the lessons changed since the lesson book was last written are
+     * upserted, and the rows of removed lessons are deleted. Copies of students that are no longer needed are only
+     * removed when every lesson is written.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    public synchronized void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook,
+                                            Path filePath) throws IOException {
+        requireAllNonNull(lessonBook, studentBook, filePath);
+
+        Optional<List<Lesson>> changedLessons = lessonBook.getChangedLessons();
+        boolean isConfiguredLocation = filePath.equals(this.filePath);
+        // the changes are only tracked against the lesson book at the configured location
+        boolean isWritingAllLessons = !isConfiguredLocation || isFullSaveNeeded || changedLessons.isEmpty();
+        if (isConfiguredLocation) {
+            // only cleared once the save has succeeded
+            isFullSaveNeeded = true;
+        }
+
+        Set<Student> savedStudents = new HashSet<>(studentBook.getStudentList());
+        Map<String, Map<String, byte[]>> tables = new HashMap<>();
+        for (String tableName : List.of(LESSONS_TABLE, ATTENDANCE_TABLE, NOTES_TABLE, PARTICIPATION_TABLE,
+                STUDENTS_TABLE)) {
+            // rows mapped to null are removed
+            tables.put(tableName, new LinkedHashMap<>());
+        }
+
+        int changedRowCount;
+        if (isWritingAllLessons) {
+            for (Lesson lesson : lessonBook.getLessonList()) {
+                putRows(tables, lesson, savedStudents);
+            }
+            changedRowCount = MvStoreUtil.writeTablesInKeyOrder(filePath, tables);
+        } else {
+            Map<LessonId, Lesson> lessonsById = new HashMap<>();
+            for (Lesson lesson : lessonBook.getLessonList()) {
+                lessonsById.put(lesson.getId(), lesson);
+            }
+            for (Lesson changedLesson : changedLessons.get()) {
+                Lesson lesson = lessonsById.get(changedLesson.getId());
+                if (lesson == null) {
+                    removeRows(tables, changedLesson.getId());
+                } else {
+                    putRows(tables, lesson, savedStudents);
+                }
+            }
+            changedRowCount = MvStoreUtil.upsertRows(filePath, tables);
+        }
+
+        if (isConfiguredLocation) {
+            isFullSaveNeeded = false;
+        }
+        logger.fine("Wrote " + changedRowCount + " lesson rows to " + filePath);
+    }
+
+    /**
+     * Adds the rows of {@code lesson} to {@code tables}, and the rows of its students that are not in
+     * {@code savedStudents}.
+     */
+    private static void putRows(Map<String, Map<String, byte[]>> tables, Lesson lesson, Set<Student> savedStudents)
+            throws IOException {
+        String key = lesson.getId().value;
+        ObjectNode lessonFields = JsonUtil.toJsonTree(JsonAdaptedLesson.createLesson(lesson));
+        for (Map.Entry<String, List<String>> table : FIELDS_BY_TABLE.entrySet()) {
+            ObjectNode fields = lessonFields.objectNode();
+            for (String fieldName : table.getValue()) {
+                JsonNode field = lessonFields.remove(fieldName);
+                if (field != null) {
+                    fields.set(fieldName, field);
+                }
+            }
+            // a lesson without any of the fields, e.g. the participation of a consult, has no row
+            tables.get(table.getKey()).put(key, fields.size() == 0 ? null : MvStoreUtil.toRow(fields));
+        }
+        tables.get(LESSONS_TABLE).put(key, MvStoreUtil.toRow(lessonFields));
+
+        Map<String, byte[]> studentRows = tables.get(STUDENTS_TABLE);
+        for (Student student : lesson.getStudentList()) {
+            String matricNum = student.getMatricNum().value;
+            if (!savedStudents.contains(student) && !studentRows.containsKey(matricNum)) {
+                studentRows.put(matricNum, MvStoreUtil.toRow(new JsonAdaptedStudent(student)));
+            }
+        }
+    }
+
+    private static void removeRows(Map<String, Map<String, byte[]>> tables, LessonId lessonId) {
+        for (String tableName : List.of(LESSONS_TABLE, ATTENDANCE_TABLE, NOTES_TABLE, PARTICIPATION_TABLE)) {
+            tables.get(tableName).put(lessonId.value, null);
+        }
+    }
+
+}
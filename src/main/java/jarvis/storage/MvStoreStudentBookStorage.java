@@ -0,0 +1,119 @@
+package jarvis.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.FileUtil;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.Student;
+
+/**
+ * A class to access StudentBook data stored in an embedded database on the hard disk, with a row for each student.
+ * Only the rows of students that changed are written when the student book is saved.
+ */
+public class MvStoreStudentBookStorage implements StudentBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MvStoreStudentBookStorage.class);
+
+    private static final String STUDENTS_TABLE = "students";
+
+    private final Path filePath;
+    private final StudentBookStorage importedStorage;
+
+    /**
+     * Creates a storage that keeps the student book in a database next to {@code filePath}.
+     * If the database does not exist yet, the student book in {@code importedStorage} is read and imported into
+     * the database instead.
+     */
+    public MvStoreStudentBookStorage(Path filePath, StudentBookStorage importedStorage) {
+        requireNonNull(importedStorage);
+        this.filePath = MvStoreUtil.getDatabaseFilePath(filePath);
+        this.importedStorage = importedStorage;
+    }
+
+    /**
+     * Returns the database of the student book.
+     */
+    @Override
+    public Path getStudentBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentBook> readStudentBook() throws DataConversionException, IOException {
+        return readStudentBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readStudentBook()}.
+     * Students that cannot be loaded are left out and moved to the quarantine file next to the data,
+     * and the data is written again without them.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataConversionException if a row is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyStudentBook> readStudentBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return filePath.equals(this.filePath) ? importStudentBook() : Optional.empty();
+        }
+
+        Collection<byte[]> rows = MvStoreUtil.readTables(filePath, STUDENTS_TABLE).get(STUDENTS_TABLE).values();
+        List<JsonAdaptedStudent> students;
+        try {
+            students = MvStoreUtil.fromRows(rows, JsonAdaptedStudent.class);
+        } catch (IOException e) {
+            logger.info("Error reading data from storage in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        ReadOnlyStudentBook studentBook = new JsonSerializableStudentBook(students).toModelType(quarantine);
+        QuarantineUtil.quarantine(filePath, quarantine, () -> saveStudentBook(studentBook, filePath));
+        return Optional.of(studentBook);
+    }
+
+    private Optional<ReadOnlyStudentBook> importStudentBook() throws DataConversionException, IOException {
+        Optional<ReadOnlyStudentBook> studentBook = importedStorage.readStudentBook();
+        if (studentBook.isPresent()) {
+            logger.info("Importing students from " + importedStorage.getStudentBookFilePath() + " into " + filePath);
+            saveStudentBook(studentBook.get(), filePath);
+        }
+        return studentBook;
+    }
+
+    @Override
+    public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+        saveStudentBook(studentBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudentBook(ReadOnlyStudentBook)}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    public synchronized void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        requireNonNull(studentBook);
+        requireNonNull(filePath);
+
+        Map<String, byte[]> rows = new LinkedHashMap<>();
+        for (Student student : studentBook.getStudentList()) {
+            MvStoreUtil.putRow(rows, student.getMatricNum().value, MvStoreUtil.toRow(new JsonAdaptedStudent(student)));
+        }
+        int changedRowCount = MvStoreUtil.writeTables(filePath, Map.of(STUDENTS_TABLE, rows));
+        logger.fine("Wrote " + changedRowCount + " student rows to " + filePath);
+    }
+
+}
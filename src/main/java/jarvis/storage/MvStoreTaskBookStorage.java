@@ -0,0 +1,120 @@
+package jarvis.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.FileUtil;
+import jarvis.model.ReadOnlyTaskBook;
+import jarvis.model.Task;
+
+/**
+ * A class to access TaskBook data stored in an embedded database on the hard disk, with a row for each task.
+ * Only the rows of tasks that changed are written when the task book is saved.
+ */
+public class MvStoreTaskBookStorage implements TaskBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MvStoreTaskBookStorage.class);
+
+    private static final String TASKS_TABLE = "tasks";
+
+    private final Path filePath;
+    private final TaskBookStorage importedStorage;
+
+    /**
+     * Creates a storage that keeps the task book in a database next to {@code filePath}.
+     * If the database does not exist yet, the task book in {@code importedStorage} is read and imported into the
+     * database instead.
+     */
+    public MvStoreTaskBookStorage(Path filePath, TaskBookStorage importedStorage) {
+        requireNonNull(importedStorage);
+        this.filePath = MvStoreUtil.getDatabaseFilePath(filePath);
+        this.importedStorage = importedStorage;
+    }
+
+    /**
+     * Returns the database of the task book.
+     */
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     * Tasks that cannot be loaded are left out and moved to the quarantine file next to the data,
+     * and the data is written again without them.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataConversionException if a row is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return filePath.equals(this.filePath) ? importTaskBook() : Optional.empty();
+        }
+
+        Collection<byte[]> rows = MvStoreUtil.readTables(filePath, TASKS_TABLE).get(TASKS_TABLE).values();
+        List<JsonAdaptedTask> tasks;
+        try {
+            tasks = MvStoreUtil.fromRows(rows, JsonAdaptedTask.class);
+        } catch (IOException e) {
+            logger.info("Error reading data from storage in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        ReadOnlyTaskBook taskBook = new JsonSerializableTaskBook(tasks).toModelType(quarantine);
+        QuarantineUtil.quarantine(filePath, quarantine, () -> saveTaskBook(taskBook, filePath));
+        return Optional.of(taskBook);
+    }
+
+    private Optional<ReadOnlyTaskBook> importTaskBook() throws DataConversionException, IOException {
+        Optional<ReadOnlyTaskBook> taskBook = importedStorage.readTaskBook();
+        if (taskBook.isPresent()) {
+            logger.info("Importing tasks from " + importedStorage.getTaskBookFilePath() + " into " + filePath);
+            saveTaskBook(taskBook.get(), filePath);
+        }
+        return taskBook;
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        Map<String, byte[]> rows = new LinkedHashMap<>();
+        for (Task task : taskBook.getTaskList()) {
+            MvStoreUtil.putRow(rows, task.getDesc() + "|" + task.getDeadlineString(),
+                    MvStoreUtil.toRow(new JsonAdaptedTask(task)));
+        }
+        int changedRowCount = MvStoreUtil.writeTables(filePath, Map.of(TASKS_TABLE, rows));
+        logger.fine("Wrote " + changedRowCount + " task rows to " + filePath);
+    }
+
+}
@@ -0,0 +1,214 @@
+package jarvis.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+
+import jarvis.commons.core.StorageFormat;
+import jarvis.commons.util.FileUtil;
+import jarvis.commons.util.JsonUtil;
+
+/**
+ * Contains utility methods for keeping books in MVStore databases, with one row for each item in a book.
+ * Each row holds the Jackson-friendly version of an item in the Smile format, mapped by a key that identifies the
+ * item. The order of the rows of a table can be kept in a single row of a separate table, so that a book whose
+ * order is not given by its items is read back in the order it was saved. Tables without such a row are read back
+ * in the order of their keys, which lets their rows be upserted one by one.
+ */
+class MvStoreUtil {
+
+    private static final String DATABASE_FILE_EXTENSION = ".mv.db";
+    private static final StorageFormat ROW_FORMAT = StorageFormat.SMILE;
+    private static final String ORDER_TABLE_SUFFIX = "$order";
+    private static final String ORDER_KEY = "keys";
+
+    private MvStoreUtil() {} // prevents instantiation
+
+    /**
+     * Returns the path of the database of the book configured to be at {@code filePath}, which is next to the file.
+     */
+    static Path getDatabaseFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + DATABASE_FILE_EXTENSION);
+    }
+
+    static byte[] toRow(Object item) throws IOException {
+        return JsonUtil.toDataFileBytes(item, ROW_FORMAT);
+    }
+
+    static <T> T fromRow(byte[] row, Class<T> classOfItem) throws IOException {
+        return JsonUtil.fromDataFileBytes(row, classOfItem, ROW_FORMAT);
+    }
+
+    static <T> List<T> fromRows(Collection<byte[]> rows, Class<T> classOfItem) throws IOException {
+        List<T> items = new ArrayList<>();
+        for (byte[] row : rows) {
+            items.add(fromRow(row, classOfItem));
+        }
+        return items;
+    }
+
+    /**
+     * Adds {@code row} to {@code rows} with {@code key}, or with {@code key} and a number if there already is a row
+     * with {@code key}.
+     */
+    static void putRow(Map<String, byte[]> rows, String key, byte[] row) {
+        String uniqueKey = key;
+        for (int i = 1; rows.containsKey(uniqueKey); i++) {
+            uniqueKey = key + "#" + i;
+        }
+        rows.put(uniqueKey, row);
+    }
+
+    /**
+     * Returns the rows of each of the given tables in the database mapped by key, in the order they were written if
+     * it was kept, or else in the order of their keys.
+     * Tables that are not in the database have no rows.
+     * @throws IOException if the database could not be opened.
+     */
+    static Map<String, Map<String, byte[]>> readTables(Path databaseFilePath, String... tableNames)
+            throws IOException {
+        Map<String, Map<String, byte[]>> tables = new HashMap<>();
+        try (MVStore store = new MVStore.Builder().fileName(databaseFilePath.toString()).readOnly().open()) {
+            for (String tableName : tableNames) {
+                Map<String, byte[]> rows = new LinkedHashMap<>();
+                if (store.hasMap(tableName)) {
+                    MVMap<String, byte[]> table = store.openMap(tableName);
+                    for (String key : readOrder(store, tableName, table)) {
+                        rows.put(key, table.get(key));
+                    }
+                }
+                tables.put(tableName, rows);
+            }
+        } catch (MVStoreException e) {
+            throw new IOException("Could not read database " + databaseFilePath, e);
+        }
+        return tables;
+    }
+
+    private static List<String> readOrder(MVStore store, String tableName, MVMap<String, byte[]> table)
+            throws IOException {
+        byte[] order = store.hasMap(tableName + ORDER_TABLE_SUFFIX)
+                ? store.<String, byte[]>openMap(tableName + ORDER_TABLE_SUFFIX).get(ORDER_KEY)
+                : null;
+        if (order == null) {
+            // the keys of an MVMap are iterated in order
+            return new ArrayList<>(table.keySet());
+        }
+        List<String> keys = new ArrayList<>();
+        for (String key : JsonUtil.fromDataFileBytes(order, String[].class, ROW_FORMAT)) {
+            if (table.containsKey(key)) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Makes each of the given tables in the database hold exactly the given rows, mapped by key in the order they
+     * are to be read. Only the rows that are new or changed are written, and the rows that are no longer given are
+     * removed.
+     * The database is created if it does not exist yet.
+     *
+     * @return the number of rows written or removed.
+     * @throws IOException if the database could not be written.
+     */
+    static int writeTables(Path databaseFilePath, Map<String, Map<String, byte[]>> tables) throws IOException {
+        return updateTables(databaseFilePath, tables, true, true);
+    }
+
+    /**
+     * Makes each of the given tables in the database hold exactly the given rows, mapped by key, where rows mapped
+     * to null are left out. The tables are read back in the order of their keys, so that their rows can later be
+     * upserted with {@link #upsertRows(Path, Map)}. Only the rows that are new or changed are written, and the rows
+     * that are no longer given are removed.
+     * The database is created if it does not exist yet.
+     *
+     * @return the number of rows written or removed.
+     * @throws IOException if the database could not be written.
+     */
+    static int writeTablesInKeyOrder(Path databaseFilePath, Map<String, Map<String, byte[]>> tables)
+            throws IOException {
+        return updateTables(databaseFilePath, tables, true, false);
+    }
+
+    /**
+     * Writes the given rows to each of the given tables in the database, mapped by key, and removes the rows whose
+     * keys are mapped to null. The other rows of the tables are left as they are, and rows that are the same as
+     * the ones in the database are not written again.
+     * Only for tables written by {@link #writeTablesInKeyOrder(Path, Map)}, as no order is kept for the rows.
+     * The database is created if it does not exist yet.
+     *
+     * @return the number of rows written or removed.
+     * @throws IOException if the database could not be written.
+     */
+    static int upsertRows(Path databaseFilePath, Map<String, Map<String, byte[]>> tables) throws IOException {
+        return updateTables(databaseFilePath, tables, false, false);
+    }
+
+    private static int updateTables(Path databaseFilePath, Map<String, Map<String, byte[]>> tables,
+                                    boolean isRemovingOtherRows, boolean isKeepingOrder) throws IOException {
+        FileUtil.createParentDirsOfFile(databaseFilePath);
+        try (MVStore store = new MVStore.Builder().fileName(databaseFilePath.toString()).open()) {
+            int changedRowCount = 0;
+            for (Map.Entry<String, Map<String, byte[]>> entry : tables.entrySet()) {
+                MVMap<String, byte[]> table = store.openMap(entry.getKey());
+                if (isRemovingOtherRows) {
+                    changedRowCount += removeOtherRows(table, entry.getValue());
+                }
+                changedRowCount += upsertRows(table, entry.getValue());
+
+                String orderTableName = entry.getKey() + ORDER_TABLE_SUFFIX;
+                if (isKeepingOrder) {
+                    upsertRows(store.openMap(orderTableName),
+                            Map.of(ORDER_KEY, toRow(entry.getValue().keySet().toArray(new String[0]))));
+                } else if (isRemovingOtherRows && store.hasMap(orderTableName)) {
+                    // the rows are read in the order of their keys from now on
+                    store.removeMap(orderTableName);
+                }
+            }
+            store.commit();
+            return changedRowCount;
+        } catch (MVStoreException e) {
+            throw new IOException("Could not write database " + databaseFilePath, e);
+        }
+    }
+
+    private static int removeOtherRows(MVMap<String, byte[]> table, Map<String, byte[]> rows) {
+        int removedRowCount = 0;
+        for (String key : new ArrayList<>(table.keySet())) {
+            if (!rows.containsKey(key)) {
+                table.remove(key);
+                removedRowCount++;
+            }
+        }
+        return removedRowCount;
+    }
+
+    private static int upsertRows(MVMap<String, byte[]> table, Map<String, byte[]> rows) {
+        int changedRowCount = 0;
+        for (Map.Entry<String, byte[]> row : rows.entrySet()) {
+            if (row.getValue() == null) {
+                if (table.remove(row.getKey()) != null) {
+                    changedRowCount++;
+                }
+            } else if (!Arrays.equals(table.get(row.getKey()), row.getValue())) {
+                table.put(row.getKey(), row.getValue());
+                changedRowCount++;
+            }
+        }
+        return changedRowCount;
+    }
+}
@@ -0,0 +1,66 @@
+package jarvis.storage;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Converts the Jackson-friendly versions of the items of a book into model items in parallel, since each item is
+ * converted independently of the others. An item that cannot be converted does not stop the others from being
+ * converted.
+ */
+class ParallelConverter {
+
+    private ParallelConverter() {} // prevents instantiation
+
+    /**
+     * Returns the conversions of {@code items} by {@code converter}, in the order of the items.
+     * {@code converter} signals that an item violates data constraints by throwing an
+     * {@code IllegalArgumentException}, and must be safe to call from several threads at once.
+     */
+    static <J, M> List<Conversion<J, M>> convertAll(List<J> items, Function<J, M> converter) {
+        return items.parallelStream()
+                .map(item -> {
+                    try {
+                        return new Conversion<J, M>(item, converter.apply(item), null);
+                    } catch (IllegalArgumentException iae) {
+                        return new Conversion<J, M>(item, null, iae);
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The result of converting one item: either the model item, or the reason the item could not be converted.
+     */
+    static class Conversion<J, M> {
+        private final J item;
+        private final M modelItem;
+        private final IllegalArgumentException error;
+
+        private Conversion(J item, M modelItem, IllegalArgumentException error) {
+            this.item = item;
+            this.modelItem = modelItem;
+            this.error = error;
+        }
+
+        J getItem() {
+            return item;
+        }
+
+        boolean hasFailed() {
+            return error != null;
+        }
+
+        M getModelItem() {
+            return modelItem;
+        }
+
+        /**
+         * Returns the reason the item could not be converted.
+         */
+        String getErrorMessage() {
+            return error.getMessage();
+        }
+    }
+}
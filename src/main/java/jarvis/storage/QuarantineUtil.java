@@ -0,0 +1,86 @@
+package jarvis.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.JsonUtil;
+
+/**
+ * Keeps the items of data files that could not be loaded in a quarantine file next to each data file.
+ */
+class QuarantineUtil {
+
+    private static final Logger logger = LogsCenter.getLogger(QuarantineUtil.class);
+
+    private static final String QUARANTINE_FILE_SUFFIX = "-quarantine.json";
+
+    private QuarantineUtil() {} // prevents instantiation
+
+    /**
+     * Returns the quarantine file of the data file at {@code dataFilePath}, which is a JSON file next to it, so that
+     * it can be read and fixed by hand whatever the format of the data file.
+     */
+    static Path getQuarantineFilePath(Path dataFilePath) {
+        String fileName = dataFilePath.getFileName().toString();
+        int extensionIndex = fileName.indexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return dataFilePath.resolveSibling(baseName + QUARANTINE_FILE_SUFFIX);
+    }
+
+    /**
+     * Adds the entries of {@code quarantine} to the quarantine file of the data file at {@code dataFilePath}, after
+     * the entries already in it, and then writes the data file again with {@code dataFileWriter}, so that the items
+     * are left out of the data file and are not quarantined again the next time it is read.
+     * Does nothing if {@code quarantine} is empty. The data file is left as it is if the entries cannot be saved.
+     * Failures are only logged, since the rest of the data file can still be loaded.
+     */
+    static void quarantine(Path dataFilePath, JsonSerializableQuarantine quarantine, DataFileWriter dataFileWriter) {
+        if (!quarantine(dataFilePath, quarantine)) {
+            return;
+        }
+
+        try {
+            dataFileWriter.write();
+        } catch (IOException e) {
+            logger.warning("Could not remove the items that could not be loaded from " + dataFilePath + ": " + e);
+        }
+    }
+
+    /**
+     * Adds the entries of {@code quarantine} to the quarantine file of the data file at {@code dataFilePath}, after
+     * the entries already in it. Entries whose items are already in the quarantine file are not added again.
+     * Returns true if the entries are saved in the quarantine file, or false if {@code quarantine} is empty or the
+     * entries cannot be saved.
+     */
+    static boolean quarantine(Path dataFilePath, JsonSerializableQuarantine quarantine) {
+        if (quarantine.isEmpty()) {
+            return false;
+        }
+
+        Path quarantineFilePath = getQuarantineFilePath(dataFilePath);
+        logger.warning(quarantine.size() + " item(s) in " + dataFilePath + " could not be loaded. They are moved to "
+                + quarantineFilePath);
+        try {
+            JsonSerializableQuarantine allEntries = JsonUtil.readJsonFile(quarantineFilePath,
+                    JsonSerializableQuarantine.class).orElseGet(JsonSerializableQuarantine::new);
+            if (allEntries.addAllNew(quarantine) > 0) {
+                JsonUtil.saveJsonFile(allEntries, quarantineFilePath);
+            }
+            return true;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not save the items that could not be loaded to " + quarantineFilePath + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Represents a function that writes a data file again from the items that were loaded from it.
+     */
+    @FunctionalInterface
+    interface DataFileWriter {
+        void write() throws IOException;
+    }
+}
@@ -0,0 +1,267 @@
+package jarvis.storage;
+
+import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.core.StorageFormat;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.FileUtil;
+import jarvis.commons.util.JsonUtil;
+import jarvis.model.Lesson;
+import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.storage.JsonSerializableLessonSegmentManifest.Segment;
+
+/**
+ * A class to access LessonBook data stored on the hard disk as one json or smile file for each month that lessons
+ * start in, with a manifest listing the files.
+ * Only the files of the months whose lessons changed are written when the lesson book is saved, and only the months
+ * the lesson book reports changes in are serialized at all while the files are known to match it.
+ * Lesson books saved in a single file by {@link JsonLessonBookStorage} are still read until they are first saved.
+ */
+public class SegmentedLessonBookStorage implements LessonBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedLessonBookStorage.class);
+
+    private static final String SEGMENT_FOLDER_SUFFIX = "-segments";
+    private static final String MANIFEST_FILE_NAME = "manifest";
+
+    private final Path manifestPath;
+    private final StorageFormat format;
+    private final JsonLessonBookStorage singleFileStorage;
+    /**
+     * Whether the files at the configured location may not match the lesson book as it was last read from or
+     * written to them, e.g. after a failed save, in which case every month is serialized on the next save.
+     */
+    private volatile boolean isFullSaveNeeded = true;
+
+    public SegmentedLessonBookStorage(Path filePath) {
+        this(filePath, StorageFormat.JSON);
+    }
+
+    /**
+     * Creates a storage that saves the lesson book in {@code format}, in a folder next to {@code filePath}.
+     * The lesson book in the single file at {@code filePath} is read instead if the folder has not been saved yet.
+     */
+    public SegmentedLessonBookStorage(Path filePath, StorageFormat format) {
+        this.manifestPath = getManifestPath(filePath, format);
+        this.format = format;
+        this.singleFileStorage = new JsonLessonBookStorage(filePath, format);
+    }
+
+    /**
+     * Returns the path of the manifest of the lesson book configured to be at {@code filePath}, which is in a folder
+     * named after the file.
+     */
+    public static Path getManifestPath(Path filePath, StorageFormat format) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + SEGMENT_FOLDER_SUFFIX)
+                .resolve(MANIFEST_FILE_NAME + "." + format.getFileExtension());
+    }
+
+    /**
+     * Returns the manifest of the lesson book.
+     */
+    @Override
+    public Path getLessonBookFilePath() {
+        return manifestPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException {
+        return readLessonBook(manifestPath, studentBook);
+    }
+
+    /**
+     * Similar to {@link #readLessonBook(ReadOnlyStudentBook)}.
+     * Lessons that cannot be loaded are left out and moved to the quarantine file next to the data,
+     * and the data is written again without them.
+     *
+     * @param manifestPath location of the manifest. Cannot be null.
+     * @throws DataConversionException if a file is not in the correct format, or a segment file in the manifest is
+     *     missing.
+     */
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path manifestPath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException {
+        requireAllNonNull(manifestPath, studentBook);
+
+        if (!FileUtil.isFileExists(manifestPath)) {
+            if (manifestPath.equals(this.manifestPath)) {
+                logger.info("Lesson segments not found, reading lessons saved in a single file instead");
+                return singleFileStorage.readLessonBook(studentBook);
+            }
+            return Optional.empty();
+        }
+
+        JsonSerializableLessonSegmentManifest manifest = JsonUtil.readDataFile(manifestPath,
+                JsonSerializableLessonSegmentManifest.class, format).get();
+        List<JsonAdaptedLesson> lessons = new ArrayList<>();
+        List<JsonAdaptedStudent> students = new ArrayList<>();
+        for (Segment segment : manifest.getSegments()) {
+            Path segmentPath = manifestPath.resolveSibling(segment.getFileName());
+            if (!FileUtil.isFileExists(segmentPath)) {
+                logger.info("Lesson segment " + segmentPath + " in " + manifestPath + " not found");
+                throw new DataConversionException(new NoSuchFileException(segmentPath.toString()));
+            }
+            JsonSerializableLessonBook jsonSegment = JsonUtil.readDataFile(segmentPath,
+                    JsonSerializableLessonBook.class, format).get();
+            lessons.addAll(jsonSegment.getLessons());
+            students.addAll(jsonSegment.getStudents());
+        }
+
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        ReadOnlyLessonBook lessonBook = new JsonSerializableLessonBook(lessons, students)
+                .toModelType(studentBook.getStudentList(), quarantine);
+        if (manifestPath.equals(this.manifestPath)) {
+            // the segments still hold the lessons that were quarantined until they are written again
+            isFullSaveNeeded = !quarantine.isEmpty();
+        }
+        QuarantineUtil.quarantine(manifestPath, quarantine,
+                () -> saveLessonBook(lessonBook, studentBook, manifestPath));
+        return Optional.of(lessonBook);
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook) throws IOException {
+        saveLessonBook(lessonBook, studentBook, manifestPath);
+    }
+
+    /**
+     * Similar to {@link #saveLessonBook(ReadOnlyLessonBook, ReadOnlyStudentBook)}.
+     * At the configured location, only the months of the lessons changed since the lesson book was last written are
+     * serialized, and the other months keep their segment files. Segment files whose contents are the same as when
+     * they were last saved are not written again. The manifest is written after the segment files, so it only lists
+     * segment files that have been written in full.
+     *
+     * @param manifestPath location of the manifest. Cannot be null.
+     */
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook, Path manifestPath)
+            throws IOException {
+        requireAllNonNull(lessonBook, studentBook, manifestPath);
+
+        Map<String, Segment> savedSegments = new HashMap<>();
+        for (Segment segment : readSavedSegments(manifestPath)) {
+            savedSegments.put(segment.getKey(), segment);
+        }
+        Set<String> changedMonths = getChangedMonths(lessonBook, manifestPath);
+        boolean isConfiguredLocation = manifestPath.equals(this.manifestPath);
+        if (isConfiguredLocation) {
+            // only cleared once the save has succeeded
+            isFullSaveNeeded = true;
+        }
+
+        // the segments of months without changes are kept as they are
+        Map<String, Segment> segments = new TreeMap<>();
+        if (changedMonths != null) {
+            for (Segment savedSegment : savedSegments.values()) {
+                if (!changedMonths.contains(savedSegment.getKey())
+                        && FileUtil.isFileExists(manifestPath.resolveSibling(savedSegment.getFileName()))) {
+                    segments.put(savedSegment.getKey(), savedSegment);
+                }
+            }
+        }
+
+        Map<String, List<Lesson>> lessonsByMonth = new TreeMap<>();
+        for (Lesson lesson : lessonBook.getLessonList()) {
+            String key = getMonthKey(lesson);
+            if (!segments.containsKey(key)) {
+                lessonsByMonth.computeIfAbsent(key, month -> new ArrayList<>()).add(lesson);
+            }
+        }
+
+        FileUtil.createParentDirsOfFile(manifestPath);
+        int writtenSegmentCount = 0;
+        for (Map.Entry<String, List<Lesson>> entry : lessonsByMonth.entrySet()) {
+            String key = entry.getKey();
+            String fileName = key + "." + format.getFileExtension();
+            byte[] contents = JsonUtil.toDataFileBytes(
+                    new JsonSerializableLessonBook(entry.getValue(), studentBook.getStudentList()), format);
+            CRC32 checksum = new CRC32();
+            checksum.update(contents);
+            Segment segment = new Segment(key, fileName, entry.getValue().size(), checksum.getValue());
+            segments.put(key, segment);
+
+            Segment savedSegment = savedSegments.get(key);
+            Path segmentPath = manifestPath.resolveSibling(fileName);
+            if (savedSegment == null || savedSegment.getChecksum() != segment.getChecksum()
+                    || !FileUtil.isFileExists(segmentPath)) {
+                FileUtil.writeToFileAtomically(segmentPath, outputStream -> outputStream.write(contents));
+                writtenSegmentCount++;
+            }
+        }
+
+        savedSegments.keySet().removeAll(segments.keySet());
+        if (writtenSegmentCount > 0 || !savedSegments.isEmpty() || !FileUtil.isFileExists(manifestPath)) {
+            JsonUtil.saveDataFile(new JsonSerializableLessonSegmentManifest(new ArrayList<>(segments.values())),
+                    manifestPath, format);
+        }
+        // only deleted once the manifest no longer lists them
+        for (Segment removedSegment : savedSegments.values()) {
+            Files.deleteIfExists(manifestPath.resolveSibling(removedSegment.getFileName()));
+        }
+        if (isConfiguredLocation) {
+            isFullSaveNeeded = false;
+        }
+        logger.fine("Serialized " + lessonsByMonth.size() + " and wrote " + writtenSegmentCount + " of "
+                + segments.size() + " lesson segments");
+    }
+
+    /**
+     * Returns the months of the lessons that changed since the lesson book was last written to the segments at
+     * {@code manifestPath}, or null if they are not known, in which case every month has to be serialized.
+     */
+    private Set<String> getChangedMonths(ReadOnlyLessonBook lessonBook, Path manifestPath) {
+        Optional<List<Lesson>> changedLessons = lessonBook.getChangedLessons();
+        // the changes are only tracked against the lesson book at the configured location
+        if (!manifestPath.equals(this.manifestPath) || isFullSaveNeeded || changedLessons.isEmpty()) {
+            return null;
+        }
+
+        Set<String> changedMonths = new HashSet<>();
+        for (Lesson lesson : changedLessons.get()) {
+            changedMonths.add(getMonthKey(lesson));
+        }
+        return changedMonths;
+    }
+
+    private static String getMonthKey(Lesson lesson) {
+        return YearMonth.from(lesson.startDateTime()).toString();
+    }
+
+    /**
+     * Returns the segments listed in the manifest, or none if the manifest is missing or cannot be read, in which
+     * case every segment is written again.
+     */
+    private List<Segment> readSavedSegments(Path manifestPath) {
+        if (!FileUtil.isFileExists(manifestPath)) {
+            return new ArrayList<>();
+        }
+        try {
+            return JsonUtil.readDataFile(manifestPath, JsonSerializableLessonSegmentManifest.class, format).get()
+                    .getSegments();
+        } catch (DataConversionException e) {
+            logger.warning("Lesson segment manifest " + manifestPath + " could not be read, rewriting all segments");
+            return new ArrayList<>();
+        }
+    }
+
+}
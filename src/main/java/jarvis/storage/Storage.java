@@ -2,7 +2,9 @@ package jarvis.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import jarvis.commons.exceptions.DataConversionException;
 import jarvis.model.ReadOnlyLessonBook;
@@ -14,7 +16,8 @@ import jarvis.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends StudentBookStorage, TaskBookStorage, LessonBookStorage, UserPrefsStorage {
+public interface Storage extends StudentBookStorage, TaskBookStorage, LessonBookStorage, JournalStorage,
+        UserPrefsStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -28,6 +31,9 @@ public interface Storage extends StudentBookStorage, TaskBookStorage, LessonBook
     @Override
     Optional<ReadOnlyStudentBook> readStudentBook() throws DataConversionException, IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyStudentBook} to the storage if it has unsaved changes.
+     */
     @Override
     void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException;
 
@@ -37,6 +43,9 @@ public interface Storage extends StudentBookStorage, TaskBookStorage, LessonBook
     @Override
     Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyTaskBook} to the storage if it has unsaved changes.
+     */
     @Override
     void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException;
 
@@ -44,8 +53,37 @@ public interface Storage extends StudentBookStorage, TaskBookStorage, LessonBook
     Path getLessonBookFilePath();
 
     @Override
-    Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException;
+    Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyLessonBook} to the storage if it has unsaved changes.
+     */
     @Override
-    void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException;
+    void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook) throws IOException;
+
+    @Override
+    Path getJournalFilePath();
+
+    @Override
+    List<String> readJournal() throws IOException;
+
+    @Override
+    void appendToJournal(List<String> commandTexts) throws IOException;
+
+    @Override
+    long getJournalSize() throws IOException;
+
+    @Override
+    void clearJournal() throws IOException;
+
+    /**
+     * Blocks until all data passed to the storage so far has been written.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler to be notified of errors that occur while writing data after the save method has returned.
+     */
+    void setSaveErrorHandler(Consumer<IOException> saveErrorHandler);
 }
@@ -0,0 +1,65 @@
+package jarvis.storage;
+
+import static jarvis.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.core.StorageFormat;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.ReadOnlyTaskBook;
+import jarvis.model.ReadOnlyUserPrefs;
+import jarvis.model.StudentBook;
+
+/**
+ * Converts the data files in the locations given by the user prefs from one {@code StorageFormat} to another.
+ * The files in the original format are kept, e.g. for debugging. The journal is plain text in every format, so it
+ * is not converted.
+ */
+public class StorageFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageFormatConverter.class);
+
+    private final ReadOnlyUserPrefs userPrefs;
+
+    public StorageFormatConverter(ReadOnlyUserPrefs userPrefs) {
+        this.userPrefs = userPrefs;
+    }
+
+    /**
+     * Converts the data files from {@code fromFormat} to {@code toFormat}. Books without a data file are skipped.
+     *
+     * @throws DataConversionException if a data file is not in the correct format.
+     * @throws IOException if a data file could not be read or written.
+     */
+    public void convert(StorageFormat fromFormat, StorageFormat toFormat) throws DataConversionException, IOException {
+        requireAllNonNull(fromFormat, toFormat);
+        logger.info("Converting data files from " + fromFormat + " to " + toFormat);
+
+        Optional<ReadOnlyStudentBook> studentBook =
+                new JsonStudentBookStorage(userPrefs.getStudentBookFilePath(), fromFormat).readStudentBook();
+        if (studentBook.isPresent()) {
+            new JsonStudentBookStorage(userPrefs.getStudentBookFilePath(), toFormat).saveStudentBook(studentBook.get());
+        }
+
+        Optional<ReadOnlyTaskBook> taskBook =
+                new JsonTaskBookStorage(userPrefs.getTaskBookFilePath(), fromFormat).readTaskBook();
+        if (taskBook.isPresent()) {
+            new JsonTaskBookStorage(userPrefs.getTaskBookFilePath(), toFormat).saveTaskBook(taskBook.get());
+        }
+
+        // lessons refer to the students in the student book
+        ReadOnlyStudentBook lessonStudents = studentBook.orElseGet(StudentBook::new);
+        Optional<ReadOnlyLessonBook> lessonBook =
+                new SegmentedLessonBookStorage(userPrefs.getLessonBookFilePath(), fromFormat)
+                        .readLessonBook(lessonStudents);
+        if (lessonBook.isPresent()) {
+            new SegmentedLessonBookStorage(userPrefs.getLessonBookFilePath(), toFormat)
+                    .saveLessonBook(lessonBook.get(), lessonStudents);
+        }
+    }
+}
@@ -2,7 +2,9 @@ package jarvis.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import jarvis.commons.core.LogsCenter;
@@ -22,17 +24,20 @@ public class StorageManager implements Storage {
     private StudentBookStorage studentBookStorage;
     private TaskBookStorage taskBookStorage;
     private LessonBookStorage lessonBookStorage;
+    private JournalStorage journalStorage;
     private UserPrefsStorage userPrefsStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code StudentBookStorage}, {@code TaskBookStorage}
-     * {@code LessonBookStorage}, and {@code UserPrefStorage}.
+     * {@code LessonBookStorage}, {@code JournalStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(StudentBookStorage studentBookStorage, TaskBookStorage taskBookStorage,
-                          LessonBookStorage lessonBookStorage, UserPrefsStorage userPrefsStorage) {
+                          LessonBookStorage lessonBookStorage, JournalStorage journalStorage,
+                          UserPrefsStorage userPrefsStorage) {
         this.studentBookStorage = studentBookStorage;
         this.taskBookStorage = taskBookStorage;
         this.lessonBookStorage = lessonBookStorage;
+        this.journalStorage = journalStorage;
         this.userPrefsStorage = userPrefsStorage;
     }
 
@@ -74,6 +79,10 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+        if (!studentBook.hasUnsavedChanges()) {
+            logger.fine("Student book has no unsaved changes, skipping write");
+            return;
+        }
         saveStudentBook(studentBook, studentBookStorage.getStudentBookFilePath());
     }
 
@@ -103,6 +112,10 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        if (!taskBook.hasUnsavedChanges()) {
+            logger.fine("Task book has no unsaved changes, skipping write");
+            return;
+        }
         saveTaskBook(taskBook, taskBookStorage.getTaskBookFilePath());
     }
 
@@ -120,24 +133,79 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyLessonBook> readLessonBook() throws DataConversionException, IOException {
-        return readLessonBook(lessonBookStorage.getLessonBookFilePath());
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
+        return readLessonBook(lessonBookStorage.getLessonBookFilePath(), studentBook);
     }
 
     @Override
-    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath) throws DataConversionException, IOException {
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return lessonBookStorage.readLessonBook(filePath);
+        return lessonBookStorage.readLessonBook(filePath, studentBook);
     }
 
     @Override
-    public void saveLessonBook(ReadOnlyLessonBook lessonBook) throws IOException {
-        saveLessonBook(lessonBook, lessonBookStorage.getLessonBookFilePath());
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook) throws IOException {
+        if (!lessonBook.hasUnsavedChanges()) {
+            logger.fine("Lesson book has no unsaved changes, skipping write");
+            return;
+        }
+        saveLessonBook(lessonBook, studentBook, lessonBookStorage.getLessonBookFilePath());
     }
 
     @Override
-    public void saveLessonBook(ReadOnlyLessonBook lessonBook, Path filePath) throws IOException {
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook, Path filePath)
+            throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        lessonBookStorage.saveLessonBook(lessonBook, filePath);
+        lessonBookStorage.saveLessonBook(lessonBook, studentBook, filePath);
+    }
+
+    // ================ Journal methods ==============================
+
+    @Override
+    public Path getJournalFilePath() {
+        return journalStorage.getJournalFilePath();
+    }
+
+    @Override
+    public List<String> readJournal() throws IOException {
+        logger.fine("Attempting to read journal: " + journalStorage.getJournalFilePath());
+        return journalStorage.readJournal();
+    }
+
+    @Override
+    public void appendToJournal(List<String> commandTexts) throws IOException {
+        logger.fine("Attempting to append to journal: " + journalStorage.getJournalFilePath());
+        journalStorage.appendToJournal(commandTexts);
+    }
+
+    @Override
+    public void syncJournal() throws IOException {
+        logger.fine("Attempting to sync journal: " + journalStorage.getJournalFilePath());
+        journalStorage.syncJournal();
+    }
+
+    @Override
+    public long getJournalSize() throws IOException {
+        return journalStorage.getJournalSize();
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        logger.fine("Attempting to clear journal: " + journalStorage.getJournalFilePath());
+        journalStorage.clearJournal();
+    }
+
+    // ================ Write methods ==============================
+
+    @Override
+    public void flush() {
+        // data is written before the save methods return
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        // errors are thrown by the save methods themselves
     }
 }
@@ -0,0 +1,101 @@
+package jarvis.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.util.FileUtil;
+
+/**
+ * A class to access the command journal stored in the hard disk as a text file, one command per line.
+ */
+public class TextJournalStorage implements JournalStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(TextJournalStorage.class);
+
+    private Path filePath;
+    private final boolean isSyncedOnAppend;
+    private boolean hasUnsyncedCommands = false;
+
+    /**
+     * Creates a {@code TextJournalStorage} that forces every append onto the storage device.
+     */
+    public TextJournalStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code TextJournalStorage} that only forces appends onto the storage device when
+     * {@link #syncJournal()} is called, unless {@code isSyncedOnAppend} is true.
+     */
+    public TextJournalStorage(Path filePath, boolean isSyncedOnAppend) {
+        this.filePath = filePath;
+        this.isSyncedOnAppend = isSyncedOnAppend;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readJournal() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Journal file " + filePath + " not found");
+            return new ArrayList<>();
+        }
+
+        List<String> commandTexts = new ArrayList<>();
+        for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                commandTexts.add(line);
+            }
+        }
+        return commandTexts;
+    }
+
+    @Override
+    public void appendToJournal(List<String> commandTexts) throws IOException {
+        requireNonNull(commandTexts);
+        if (commandTexts.isEmpty()) {
+            return;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (String commandText : commandTexts) {
+            // commands are entered on a single line, so this only guards against malformed input
+            builder.append(commandText.replaceAll("\\R", " ")).append(System.lineSeparator());
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, builder.toString(), isSyncedOnAppend);
+        hasUnsyncedCommands = !isSyncedOnAppend;
+    }
+
+    @Override
+    public void syncJournal() throws IOException {
+        if (!hasUnsyncedCommands) {
+            return;
+        }
+        FileUtil.forceToStorage(filePath);
+        hasUnsyncedCommands = false;
+    }
+
+    @Override
+    public long getJournalSize() throws IOException {
+        return FileUtil.isFileExists(filePath) ? Files.size(filePath) : 0;
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+        hasUnsyncedCommands = false;
+    }
+
+}
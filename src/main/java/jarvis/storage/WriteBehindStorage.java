@@ -0,0 +1,491 @@
+package jarvis.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import jarvis.commons.core.LogsCenter;
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.exceptions.IllegalValueException;
+import jarvis.commons.util.StringUtil;
+import jarvis.model.Lesson;
+import jarvis.model.LessonBook;
+import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.ReadOnlyTaskBook;
+import jarvis.model.ReadOnlyUserPrefs;
+import jarvis.model.Student;
+import jarvis.model.StudentBook;
+import jarvis.model.UserPrefs;
+
+/**
+ * Wraps a {@code Storage} so that saving the books and writing to the journal happen on a single background
+ * writer thread instead of the caller's thread.
+ *
+ * The books are copied when a save is requested, so the model can keep changing while the copy is written.
+ * Saves of the same file that are still waiting to be written are coalesced, so only the latest copy is written.
+ * Journal writes are never reordered with respect to book saves.
+ * Errors that occur in the background are passed to the handler set by {@link #setSaveErrorHandler(Consumer)}, and
+ * the first failed save is thrown by the next {@link #flush()}. The journal is not cleared while a file whose save
+ * failed has not been saved since, as the file on disk does not have the changes in the journal.
+ * The journal can also be forced onto the storage device at a fixed interval, so that appending to it does not have
+ * to wait for the storage device.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ScheduledExecutorService writer;
+
+    /** Writes that have not started yet and can still be replaced by a later write to the same file. */
+    private final Map<Path, PendingWrite> pendingWrites = new HashMap<>();
+
+    /**
+     * The copies of lesson books waiting to be written, which a later save of the same file has to write the
+     * changed lessons of as well if it replaces the write.
+     */
+    private final Map<Path, LessonBook> pendingLessonBookCopies = new HashMap<>();
+
+    /** Files whose last save failed, with the error, which the journal must be kept for. */
+    private final Map<Path, IOException> failedSaves = new HashMap<>();
+    /** The first failed save that has not been thrown by {@link #flush()} yet. */
+    private IOException unthrownSaveError;
+
+    private Consumer<IOException> saveErrorHandler = ioe -> { };
+    private long journalSize = -1;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} in the background.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} in the background and forces the journal
+     * onto the storage device every {@code journalSyncIntervalMillis} milliseconds.
+     */
+    public WriteBehindStorage(Storage storage, long journalSyncIntervalMillis) {
+        this(storage);
+        // runs on the writer thread, so it is ordered with the journal writes
+        writer.scheduleWithFixedDelay(new PendingWrite(null, storage::syncJournal), journalSyncIntervalMillis,
+                journalSyncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Takes a backup with {@code backupStorage} every {@code backupIntervalMillis} milliseconds.
+     * The backups run on the writer thread, so a backup never holds a data file that is only partly saved.
+     */
+    public void scheduleBackups(BackupStorage backupStorage, long backupIntervalMillis) {
+        requireNonNull(backupStorage);
+        writer.scheduleWithFixedDelay(new PendingWrite(null, backupStorage::backUp), backupIntervalMillis,
+                backupIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // ================ Background writer methods ==============================
+
+    @Override
+    public synchronized void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    /**
+     * Blocks until every write requested so far has been completed.
+     *
+     * @throws IOException if a save failed since the last flush, with the error of the first such save.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+
+        IOException saveError;
+        synchronized (this) {
+            saveError = unthrownSaveError;
+            unthrownSaveError = null;
+        }
+        if (saveError != null) {
+            throw saveError;
+        }
+    }
+
+    /**
+     * Writes all remaining data and stops the background writer.
+     */
+    public void close() throws IOException {
+        flush();
+        writer.shutdown();
+    }
+
+    /**
+     * Queues {@code write} to the file at {@code filePath}, replacing the pending write to the same file if there is
+     * one.
+     */
+    private synchronized void queueSave(Path filePath, StorageWrite write) {
+        PendingWrite pendingWrite = pendingWrites.get(filePath);
+        if (pendingWrite != null) {
+            pendingWrite.write = write;
+            return;
+        }
+
+        pendingWrite = new PendingWrite(filePath, write);
+        pendingWrites.put(filePath, pendingWrite);
+        writer.execute(pendingWrite);
+    }
+
+    /**
+     * Queues {@code write} after every write requested so far. Saves requested later are not coalesced with saves
+     * requested before this write, so they cannot overtake it.
+     */
+    private synchronized void queueInOrder(StorageWrite write) {
+        pendingWrites.clear();
+        writer.execute(new PendingWrite(null, write));
+    }
+
+    /**
+     * Records whether the save of the file at {@code filePath} failed with {@code ioe}, or succeeded if {@code ioe}
+     * is null.
+     */
+    private synchronized void recordSave(Path filePath, IOException ioe) {
+        if (ioe == null) {
+            failedSaves.remove(filePath);
+            return;
+        }
+        failedSaves.put(filePath, ioe);
+        if (unthrownSaveError == null) {
+            unthrownSaveError = ioe;
+        }
+    }
+
+    private void reportSaveError(IOException ioe) {
+        logger.warning("Failed to save data in the background: " + StringUtil.getDetails(ioe));
+        Consumer<IOException> handler;
+        synchronized (this) {
+            handler = saveErrorHandler;
+        }
+        handler.accept(ioe);
+    }
+
+    /**
+     * A write to storage, run on the background writer.
+     */
+    @FunctionalInterface
+    private interface StorageWrite {
+        void write() throws IOException;
+    }
+
+    /**
+     * A queued write whose content can be replaced until it starts running.
+     */
+    private class PendingWrite implements Runnable {
+        private final Path filePath;
+        private StorageWrite write;
+
+        PendingWrite(Path filePath, StorageWrite write) {
+            this.filePath = filePath;
+            this.write = write;
+        }
+
+        @Override
+        public void run() {
+            StorageWrite writeToRun;
+            synchronized (WriteBehindStorage.this) {
+                writeToRun = write;
+                if (filePath != null && pendingWrites.get(filePath) == this) {
+                    pendingWrites.remove(filePath);
+                }
+            }
+
+            try {
+                writeToRun.write();
+                if (filePath != null) {
+                    recordSave(filePath, null);
+                }
+            } catch (IOException ioe) {
+                if (filePath != null) {
+                    recordSave(filePath, ioe);
+                }
+                reportSaveError(ioe);
+            }
+        }
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        // only saved at startup and on exit, where there is nothing to gain from saving in the background
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ StudentBook methods ==============================
+
+    @Override
+    public Path getStudentBookFilePath() {
+        return storage.getStudentBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentBook> readStudentBook() throws DataConversionException, IOException {
+        return readStudentBook(storage.getStudentBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyStudentBook> readStudentBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readStudentBook(filePath);
+    }
+
+    @Override
+    public void saveStudentBook(ReadOnlyStudentBook studentBook) throws IOException {
+        if (!studentBook.hasUnsavedChanges()) {
+            return;
+        }
+        saveStudentBook(studentBook, storage.getStudentBookFilePath());
+    }
+
+    @Override
+    public void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        requireNonNull(studentBook);
+        requireNonNull(filePath);
+
+        ReadOnlyStudentBook copy;
+        try {
+            copy = new JsonSerializableStudentBook(studentBook).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive);
+        }
+        queueSave(filePath, () -> storage.saveStudentBook(copy, filePath));
+    }
+
+    // ================ TaskBook methods ==============================
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return storage.getTaskBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(storage.getTaskBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readTaskBook(filePath);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        if (!taskBook.hasUnsavedChanges()) {
+            return;
+        }
+        saveTaskBook(taskBook, storage.getTaskBookFilePath());
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        ReadOnlyTaskBook copy;
+        try {
+            copy = new JsonSerializableTaskBook(taskBook).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IOException(ive);
+        }
+        queueSave(filePath, () -> storage.saveTaskBook(copy, filePath));
+    }
+
+    // ================ LessonBook methods ==============================
+
+    @Override
+    public Path getLessonBookFilePath() {
+        return storage.getLessonBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
+        return readLessonBook(storage.getLessonBookFilePath(), studentBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyLessonBook> readLessonBook(Path filePath, ReadOnlyStudentBook studentBook)
+            throws DataConversionException, IOException {
+        flush();
+        return storage.readLessonBook(filePath, studentBook);
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook) throws IOException {
+        if (!lessonBook.hasUnsavedChanges()) {
+            return;
+        }
+        saveLessonBook(lessonBook, studentBook, storage.getLessonBookFilePath());
+    }
+
+    @Override
+    public void saveLessonBook(ReadOnlyLessonBook lessonBook, ReadOnlyStudentBook studentBook, Path filePath)
+            throws IOException {
+        requireNonNull(lessonBook);
+        requireNonNull(studentBook);
+        requireNonNull(filePath);
+
+        ReadOnlyStudentBook studentBookCopy = new StudentBook(studentBook);
+        LessonBook copy;
+        try {
+            // only the matric numbers of the students are saved, so the copy can share the model's students
+            List<Student> students = lessonBook.getLessonList().stream()
+                    .flatMap(lesson -> lesson.getStudentList().stream())
+                    .distinct()
+                    .collect(Collectors.toList());
+            copy = new JsonSerializableLessonBook(lessonBook, studentBookCopy).toModelType(students);
+        } catch (IllegalArgumentException iae) {
+            throw new IOException(iae);
+        }
+        queueLessonBookSave(lessonBook.getChangedLessons(), copy, studentBookCopy, filePath);
+    }
+
+    /**
+     * Queues the save of {@code copy}, whose changed lessons are {@code changedLessons}, together with the changed
+     * lessons of the copy whose write it replaces.
+     */
+    private synchronized void queueLessonBookSave(Optional<List<Lesson>> changedLessons, LessonBook copy,
+                                                  ReadOnlyStudentBook studentBookCopy, Path filePath) {
+        LessonBook replacedCopy = pendingWrites.containsKey(filePath) ? pendingLessonBookCopies.get(filePath) : null;
+        Optional<List<Lesson>> replacedChangedLessons =
+                replacedCopy == null ? Optional.of(List.of()) : replacedCopy.getChangedLessons();
+        if (changedLessons.isPresent() && replacedChangedLessons.isPresent()) {
+            copy.markAsWritten();
+            copy.addChangedLessons(changedLessons.get());
+            copy.addChangedLessons(replacedChangedLessons.get());
+        }
+
+        pendingLessonBookCopies.put(filePath, copy);
+        queueSave(filePath, () -> {
+            synchronized (this) {
+                pendingLessonBookCopies.remove(filePath, copy);
+            }
+            storage.saveLessonBook(copy, studentBookCopy, filePath);
+        });
+    }
+
+    // ================ Journal methods ==============================
+
+    @Override
+    public Path getJournalFilePath() {
+        return storage.getJournalFilePath();
+    }
+
+    @Override
+    public List<String> readJournal() throws IOException {
+        flush();
+        return storage.readJournal();
+    }
+
+    @Override
+    public void appendToJournal(List<String> commandTexts) throws IOException {
+        requireNonNull(commandTexts);
+        List<String> copy = new ArrayList<>(commandTexts);
+        updateJournalSize(copy);
+        queueInOrder(() -> storage.appendToJournal(copy));
+    }
+
+    /**
+     * Returns the size of the journal, including writes that have not been completed yet.
+     */
+    @Override
+    public long getJournalSize() throws IOException {
+        synchronized (this) {
+            if (journalSize >= 0) {
+                return journalSize;
+            }
+        }
+
+        flush();
+        long savedJournalSize = storage.getJournalSize();
+        synchronized (this) {
+            if (journalSize < 0) {
+                journalSize = savedJournalSize;
+            }
+            return journalSize;
+        }
+    }
+
+    @Override
+    public void syncJournal() throws IOException {
+        queueInOrder(storage::syncJournal);
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        synchronized (this) {
+            journalSize = 0;
+        }
+        queueInOrder(this::clearJournalIfSaved);
+    }
+
+    /**
+     * Clears the journal, unless a file could not be saved, in which case the journal still holds the changes that
+     * the file on disk does not have.
+     */
+    private void clearJournalIfSaved() throws IOException {
+        synchronized (this) {
+            if (!failedSaves.isEmpty()) {
+                logger.warning("Keeping the journal, as these files could not be saved: " + failedSaves.keySet());
+                // the journal still has the commands it had before
+                journalSize = -1;
+                return;
+            }
+        }
+        storage.clearJournal();
+    }
+
+    private synchronized void updateJournalSize(List<String> commandTexts) {
+        if (journalSize < 0) {
+            return;
+        }
+        for (String commandText : commandTexts) {
+            journalSize += commandText.length() + System.lineSeparator().length();
+        }
+    }
+}
@@ -49,6 +49,16 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Disables or enables entering commands, focusing the command box when it is enabled.
+     */
+    public void setDisabled(boolean isDisabled) {
+        commandTextField.setDisable(isDisabled);
+        if (!isDisabled) {
+            commandTextField.requestFocus();
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
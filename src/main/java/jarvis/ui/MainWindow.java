@@ -12,6 +12,7 @@ import jarvis.logic.parser.exceptions.ParseException;
 import jarvis.model.Lesson;
 import jarvis.model.Student;
 import jarvis.model.Task;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -31,6 +32,9 @@ import javafx.stage.Stage;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_LOADING = "Loading data...";
+    private static final String MESSAGE_LOAD_FAILED = "Data could not be loaded, so commands are disabled and the "
+            + "data files will be left unchanged. See jarvis.log for details, then restart JARVIS.";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -45,6 +49,7 @@ public class MainWindow extends UiPart<Stage> {
     private ExpandedTaskListPanel expTaskListPanel;
     private ExpandedLessonListPanel expLessonListPanel;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private HelpWindow helpWindow;
 
     @FXML
@@ -174,6 +179,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         String studentBookPath = Paths.get(".").resolve(logic.getStudentBookFilePath()).toString();
         String taskBookPath = Paths.get(".").resolve(logic.getTaskBookFilePath()).toString();
@@ -182,8 +188,28 @@ public class MainWindow extends UiPart<Stage> {
                 + " and " + lessonBookPath);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        // the lists fill in as the data is loaded, but commands have to wait for all of it
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        commandBox.setDisabled(true);
+    }
+
+    /**
+     * Lets the user enter commands once all the data has been loaded.
+     */
+    void showDataLoaded() {
+        resultDisplay.setFeedbackToUser("");
+        commandBox.setDisabled(false);
+    }
+
+    /**
+     * Tells the user that the data could not be loaded. Commands stay disabled, since changes made to the
+     * incomplete data could not be saved.
+     */
+    void showDataLoadFailed() {
+        resultDisplay.setFeedbackToUser(MESSAGE_LOAD_FAILED);
     }
 
     /**
@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Lets the user enter commands once all the data has been loaded. */
+    void showDataLoaded();
+
+    /** Tells the user that the data could not be loaded, without letting them enter commands. */
+    void showDataLoadFailed();
+
 }
@@ -50,6 +50,20 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showDataLoaded() {
+        if (mainWindow != null) {
+            mainWindow.showDataLoaded();
+        }
+    }
+
+    @Override
+    public void showDataLoadFailed() {
+        if (mainWindow != null) {
+            mainWindow.showDataLoadFailed();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
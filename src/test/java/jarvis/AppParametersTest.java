@@ -10,6 +10,7 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import jarvis.commons.core.StorageFormat;
 import javafx.application.Application;
 
 public class AppParametersTest {
@@ -37,6 +38,32 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validConvertDataFormat_success() {
+        parametersStub.namedParameters.put("convert-data", "smile");
+        expected.setConvertDataFormat(StorageFormat.SMILE);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidConvertDataFormat_success() {
+        parametersStub.namedParameters.put("convert-data", "xml");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_restoreBackupId_success() {
+        parametersStub.namedParameters.put("restore", " latest ");
+        expected.setRestoreBackupId("latest");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_blankRestoreBackupId_success() {
+        parametersStub.namedParameters.put("restore", " ");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
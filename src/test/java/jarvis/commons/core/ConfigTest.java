@@ -11,11 +11,27 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Data files pretty printed : true\n"
+                + "Durability mode : EVERY_COMMAND\n"
+                + "Sync interval (ms) : 1000\n"
+                + "Backups kept : 10\n"
+                + "Backup interval (min) : 30";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
 
+    @Test
+    public void toString_durabilitySettings_included() {
+        Config config = new Config();
+        config.setDurabilityMode(DurabilityMode.INTERVAL);
+        config.setSyncIntervalMillis(250);
+
+        String configAsString = config.toString();
+        assertTrue(configAsString.contains("\nDurability mode : INTERVAL\n"));
+        assertTrue(configAsString.contains("\nSync interval (ms) : 250\n"));
+    }
+
     @Test
     public void equalsMethod() {
         Config defaultConfig = new Config();
@@ -0,0 +1,27 @@
+package jarvis.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class StorageFormatTest {
+
+    @Test
+    public void getFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "studentbook.sml"),
+                StorageFormat.SMILE.getFilePath(Paths.get("data", "studentbook.json")));
+        assertEquals(Paths.get("data", "studentbook.json"),
+                StorageFormat.JSON.getFilePath(Paths.get("data", "studentbook.sml")));
+        assertEquals(Paths.get("studentbook.sml"), StorageFormat.SMILE.getFilePath(Paths.get("studentbook")));
+    }
+
+    @Test
+    public void getDataFilePath_jsonKeepsConfiguredPath() {
+        assertEquals(Paths.get("data", "students.dat"), StorageFormat.JSON.getDataFilePath(Paths.get("data",
+                "students.dat")));
+        assertEquals(Paths.get("data", "students.sml"), StorageFormat.SMILE.getDataFilePath(Paths.get("data",
+                "students.dat")));
+    }
+}
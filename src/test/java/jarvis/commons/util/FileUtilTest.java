@@ -1,13 +1,21 @@
 package jarvis.commons.util;
 
 import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,34 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentsReplaced() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old contents");
+        FileUtil.writeToFile(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(testFolder.resolve("data.json.tmp")));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_originalContentsKept() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old contents");
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, outputStream -> {
+            outputStream.write("partial".getBytes());
+            throw new IOException();
+        }));
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(testFolder.resolve("data.json.tmp")));
+    }
+
+    @Test
+    public void appendToFile_forced_contentsAppended() throws Exception {
+        Path file = testFolder.resolve("journal.txt");
+        FileUtil.appendToFile(file, "a", true);
+        FileUtil.appendToFile(file, "b", false);
+        FileUtil.forceToStorage(file);
+        assertEquals("ab", FileUtil.readFromFile(file));
+    }
+
 }
@@ -1,12 +1,17 @@
 package jarvis.commons.util;
 
+import static jarvis.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import jarvis.commons.core.StorageFormat;
+import jarvis.commons.exceptions.DataConversionException;
 import jarvis.testutil.SerializableTestClass;
 import jarvis.testutil.TestUtil;
 
@@ -39,6 +44,41 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_notPrettyPrinting_savesCompactJson() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.setPrettyPrinting(false);
+        try {
+            JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass);
+        } finally {
+            JsonUtil.setPrettyPrinting(true);
+        }
+
+        String savedJson = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertFalse(savedJson.contains("\n"));
+        SerializableTestClass deserialized = JsonUtil
+                .deserializeObjectFromJsonFile(SERIALIZATION_FILE, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), deserialized.getName());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), deserialized.getMapOfIntegerToString());
+    }
+
+    @Test
+    public void readDataFile_onlyOtherFormatFound_throwsDataConversionException(@TempDir Path tempDir)
+            throws Exception {
+        Path file = tempDir.resolve("serialize.json");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        JsonUtil.saveDataFile(serializableTestClass, StorageFormat.SMILE.getDataFilePath(file), StorageFormat.SMILE);
+
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readDataFile(file, SerializableTestClass.class, StorageFormat.JSON));
+        assertEquals(SerializableTestClass.getNameTestValue(), JsonUtil.readDataFile(
+                StorageFormat.SMILE.getDataFilePath(file), SerializableTestClass.class, StorageFormat.SMILE).get()
+                .getName());
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
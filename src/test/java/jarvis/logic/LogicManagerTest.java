@@ -7,22 +7,28 @@ import static jarvis.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static jarvis.testutil.Assert.assertThrows;
 import static jarvis.testutil.TypicalStudents.AMY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jarvis.commons.core.DataLoadStatus;
 import jarvis.logic.commands.AddStudentCommand;
 import jarvis.logic.commands.CommandResult;
+import jarvis.logic.commands.ListAllCommand;
 import jarvis.logic.commands.ListStudentCommand;
 import jarvis.logic.commands.exceptions.CommandException;
 import jarvis.logic.parser.exceptions.ParseException;
 import jarvis.model.Model;
 import jarvis.model.ModelManager;
-import jarvis.model.ReadOnlyStudentBook;
 import jarvis.model.Student;
 import jarvis.model.UserPrefs;
 import jarvis.storage.JsonLessonBookStorage;
@@ -30,6 +36,7 @@ import jarvis.storage.JsonStudentBookStorage;
 import jarvis.storage.JsonTaskBookStorage;
 import jarvis.storage.JsonUserPrefsStorage;
 import jarvis.storage.StorageManager;
+import jarvis.storage.TextJournalStorage;
 import jarvis.testutil.StudentBuilder;
 
 public class LogicManagerTest {
@@ -49,9 +56,10 @@ public class LogicManagerTest {
                 new JsonTaskBookStorage(temporaryFolder.resolve("taskBook.json"));
         JsonLessonBookStorage lessonBookStorage =
                 new JsonLessonBookStorage(temporaryFolder.resolve("lessonBook.json"));
+        TextJournalStorage journalStorage = new TextJournalStorage(temporaryFolder.resolve("journal.txt"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(studentBookStorage, taskBookStorage, lessonBookStorage,
-                userPrefsStorage);
+                journalStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -73,19 +81,93 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListStudentCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotWriteToStorage() throws Exception {
+        model.markBooksAsSaved();
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("studentBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("taskBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("lessonBook.json")));
+    }
+
+    @Test
+    public void execute_modifyingCommand_appendsToJournalOnly() throws Exception {
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + MATRIC_NUM_DESC_AMY;
+        model.markBooksAsSaved();
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        logic.execute(addCommand);
+        assertEquals(Arrays.asList(ListAllCommand.COMMAND_WORD, addCommand),
+                Files.readAllLines(temporaryFolder.resolve("journal.txt")));
+        assertFalse(Files.exists(temporaryFolder.resolve("studentBook.json")));
+    }
+
+    @Test
+    public void recoverFromJournal_journalWithCommands_replaysAndSavesBooks() throws Exception {
+        String addCommand = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + MATRIC_NUM_DESC_AMY;
+        logic.execute(addCommand);
+
+        // a fresh model, as if the app crashed before the books were saved
+        model = new ModelManager();
+        setUp();
+        model.markBooksAsSaved();
+        logic.recoverFromJournal();
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addStudent(new StudentBuilder(AMY).build());
+        assertEquals(expectedModel, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("journal.txt")));
+        assertTrue(Files.exists(temporaryFolder.resolve("studentBook.json")));
+        // books the journal did not change are not rewritten
+        assertFalse(Files.exists(temporaryFolder.resolve("taskBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("lessonBook.json")));
+    }
+
+    @Test
+    public void compactJournal_noChanges_booksNotSaved() throws Exception {
+        logic.setDataLoadStatuses(DataLoadStatus.LOADED, DataLoadStatus.LOADED, DataLoadStatus.LOADED);
+        logic.compactJournal();
+        assertFalse(Files.exists(temporaryFolder.resolve("studentBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("taskBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("lessonBook.json")));
+    }
+
+    @Test
+    public void compactJournal_sampleData_sampleBooksSaved() throws Exception {
+        logic.setDataLoadStatuses(DataLoadStatus.SAMPLE_DATA, DataLoadStatus.LOADED, DataLoadStatus.SAMPLE_DATA);
+        logic.compactJournal();
+        assertTrue(Files.exists(temporaryFolder.resolve("studentBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("taskBook.json")));
+        assertTrue(Files.exists(temporaryFolder.resolve("lessonBook.json")));
+    }
+
+    @Test
+    public void compactJournal_bookFailedToLoad_dataFileNotOverwritten() throws Exception {
+        Path studentBookFilePath = temporaryFolder.resolve("studentBook.json");
+        Files.writeString(studentBookFilePath, "not a student book");
+        model.markBooksAsSaved();
+        logic.setDataLoadStatuses(DataLoadStatus.FAILED, DataLoadStatus.LOADED, DataLoadStatus.LOADED);
+
+        logic.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + MATRIC_NUM_DESC_AMY);
+        logic.compactJournal();
+        assertEquals("not a student book", Files.readString(studentBookFilePath));
+        assertFalse(Files.exists(temporaryFolder.resolve("journal.txt")));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonStudentBookIoExceptionThrowingStub
+        // Setup LogicManager with TextJournalIoExceptionThrowingStub
         JsonStudentBookStorage studentBookStorage =
-                new JsonStudentBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionStudentBook.json"));
+                new JsonStudentBookStorage(temporaryFolder.resolve("ioExceptionStudentBook.json"));
         JsonTaskBookStorage taskBookStorage =
                 new JsonTaskBookStorage(temporaryFolder.resolve("ioExceptionTaskBook.json"));
         JsonLessonBookStorage lessonBookStorage =
                 new JsonLessonBookStorage(temporaryFolder.resolve("ioExceptionLessonBook.json"));
+        TextJournalStorage journalStorage =
+                new TextJournalIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionJournal.txt"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(studentBookStorage, taskBookStorage, lessonBookStorage,
-                userPrefsStorage);
+                journalStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
 
         // Execute add command
@@ -156,15 +238,15 @@ public class LogicManagerTest {
     }
 
     /**
-     * A stub class to throw an {@code IOException} when the save method is called.
+     * A stub class to throw an {@code IOException} when the append method is called.
      */
-    private static class JsonStudentBookIoExceptionThrowingStub extends JsonStudentBookStorage {
-        private JsonStudentBookIoExceptionThrowingStub(Path filePath) {
+    private static class TextJournalIoExceptionThrowingStub extends TextJournalStorage {
+        private TextJournalIoExceptionThrowingStub(Path filePath) {
             super(filePath);
         }
 
         @Override
-        public void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+        public void appendToJournal(List<String> commandTexts) throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
     }
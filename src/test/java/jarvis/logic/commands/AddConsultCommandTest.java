@@ -9,7 +9,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -47,7 +46,8 @@ public class AddConsultCommandTest extends AddLessonCommandTest {
         assertEquals(String.format(AddConsultCommand.MESSAGE_SUCCESS, validConsult),
                 commandResult.getFeedbackToUser());
 
-        assertEquals(Arrays.asList(validConsult), modelStub.lessonsAdded);
+        assertEquals(1, modelStub.lessonsAdded.size());
+        assertTrue(validConsult.hasSameContent(modelStub.lessonsAdded.get(0)));
     }
 
     @Test
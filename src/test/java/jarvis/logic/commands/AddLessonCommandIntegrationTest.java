@@ -1,7 +1,6 @@
 package jarvis.logic.commands;
 
 import static jarvis.logic.commands.CommandTestUtil.assertCommandFailure;
-import static jarvis.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static jarvis.testutil.TypicalLessons.CONSULT_1;
 import static jarvis.testutil.TypicalLessons.CONSULT_DESCRIPTION_1;
 import static jarvis.testutil.TypicalLessons.MASTERY_CHECK_DESCRIPTION_1;
@@ -14,8 +13,11 @@ import static jarvis.testutil.TypicalLessons.getTypicalLessonBook;
 import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
 import static jarvis.testutil.TypicalStudents.getTypicalStudents;
 import static jarvis.testutil.TypicalTasks.getTypicalTaskBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import jarvis.commons.core.index.Index;
 import jarvis.model.Consult;
+import jarvis.model.Lesson;
 import jarvis.model.MasteryCheck;
 import jarvis.model.Model;
 import jarvis.model.ModelManager;
@@ -56,20 +59,16 @@ public class AddLessonCommandIntegrationTest {
     }
 
     @Test
-    public void execute_newStudio_success() {
+    public void execute_newStudio_success() throws Exception {
         Studio validStudio = new LessonBuilder(STUDIO_1).withStudents(getTypicalStudents())
                 .withTimePeriod(noClashTimePeriod).buildStudio();
 
-        Model expectedModel =
-                new ModelManager(model.getStudentBook(), model.getTaskBook(), model.getLessonBook(), new UserPrefs());
-        expectedModel.addLesson(validStudio);
-
-        assertCommandSuccess(new AddStudioCommand(STUDIO_DESCRIPTION_1, noClashTimePeriod), model,
-                String.format(AddStudioCommand.MESSAGE_SUCCESS, validStudio), expectedModel);
+        assertLessonAdded(new AddStudioCommand(STUDIO_DESCRIPTION_1, noClashTimePeriod),
+                String.format(AddStudioCommand.MESSAGE_SUCCESS, validStudio), validStudio);
     }
 
     @Test
-    public void execute_newMasteryCheck_success() {
+    public void execute_newMasteryCheck_success() throws Exception {
         // first 2 student in student list used for mastery check
         List<Student> studentsInMasteryCheck = studentsInLesson;
         Set<Index> studentIndexesForMasteryCheck = studentIndexesForLesson;
@@ -77,17 +76,13 @@ public class AddLessonCommandIntegrationTest {
         MasteryCheck validMasteryCheck = new LessonBuilder(MC_1).withStudents(studentsInMasteryCheck)
                 .withTimePeriod(noClashTimePeriod).buildMasteryCheck();
 
-        Model expectedModel =
-                new ModelManager(model.getStudentBook(), model.getTaskBook(), model.getLessonBook(), new UserPrefs());
-        expectedModel.addLesson(validMasteryCheck);
-
-        assertCommandSuccess(new AddMasteryCheckCommand(MASTERY_CHECK_DESCRIPTION_1, noClashTimePeriod,
-                        studentIndexesForMasteryCheck), model,
-                String.format(AddMasteryCheckCommand.MESSAGE_SUCCESS, validMasteryCheck), expectedModel);
+        assertLessonAdded(new AddMasteryCheckCommand(MASTERY_CHECK_DESCRIPTION_1, noClashTimePeriod,
+                        studentIndexesForMasteryCheck),
+                String.format(AddMasteryCheckCommand.MESSAGE_SUCCESS, validMasteryCheck), validMasteryCheck);
     }
 
     @Test
-    public void execute_newConsult_success() {
+    public void execute_newConsult_success() throws Exception {
         // first 2 student in student list used for consult
         List<Student> studentsInConsult = studentsInLesson;
         Set<Index> studentIndexesForConsult = studentIndexesForLesson;
@@ -95,12 +90,8 @@ public class AddLessonCommandIntegrationTest {
         Consult validConsult = new LessonBuilder(CONSULT_1).withStudents(studentsInConsult)
                 .withTimePeriod(noClashTimePeriod).buildConsult();
 
-        Model expectedModel =
-                new ModelManager(model.getStudentBook(), model.getTaskBook(), model.getLessonBook(), new UserPrefs());
-        expectedModel.addLesson(validConsult);
-
-        assertCommandSuccess(new AddConsultCommand(CONSULT_DESCRIPTION_1, noClashTimePeriod, studentIndexesForConsult),
-                model, String.format(AddConsultCommand.MESSAGE_SUCCESS, validConsult), expectedModel);
+        assertLessonAdded(new AddConsultCommand(CONSULT_DESCRIPTION_1, noClashTimePeriod, studentIndexesForConsult),
+                String.format(AddConsultCommand.MESSAGE_SUCCESS, validConsult), validConsult);
     }
 
     @Test
@@ -118,4 +109,19 @@ public class AddLessonCommandIntegrationTest {
         assertCommandFailure(new AddStudioCommand(STUDIO_DESCRIPTION_2, TP1), model,
                 AddStudioCommand.MESSAGE_TIME_PERIOD_CLASH);
     }
+
+    /**
+     * Executes {@code command} and confirms that it adds a new lesson with the same details as {@code expectedLesson}
+     * to {@code model}, and shows {@code expectedMessage}.
+     */
+    private void assertLessonAdded(Command command, String expectedMessage, Lesson expectedLesson) throws Exception {
+        List<Lesson> lessonsBefore = new ArrayList<>(model.getLessonBook().getLessonList());
+        CommandResult result = command.execute(model);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+
+        List<Lesson> lessonsAdded = new ArrayList<>(model.getLessonBook().getLessonList());
+        lessonsAdded.removeAll(lessonsBefore);
+        assertEquals(1, lessonsAdded.size());
+        assertTrue(expectedLesson.hasSameContent(lessonsAdded.get(0)));
+    }
 }
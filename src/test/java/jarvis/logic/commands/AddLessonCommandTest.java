@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import jarvis.commons.core.GuiSettings;
 import jarvis.commons.core.index.Index;
@@ -225,6 +226,31 @@ public abstract class AddLessonCommandTest {
         public boolean hasPeriodClash(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Lesson> getClashingLessons(Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markClashingLessons(Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearLessonClashes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markBooksAsSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markLessonBookAsWritten() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -280,6 +306,18 @@ public abstract class AddLessonCommandTest {
         public boolean hasPeriodClash(Lesson lessonToAdd) {
             return lesson.hasTimingConflict(lessonToAdd);
         }
+
+        @Override
+        public List<Lesson> getClashingLessons(Lesson lessonToAdd) {
+            return lesson.hasTimingConflict(lessonToAdd) ? List.of(lesson) : List.of();
+        }
+
+        @Override
+        public void markClashingLessons(Lesson lessonToAdd) {
+            if (lesson.hasTimingConflict(lessonToAdd)) {
+                lesson.markClash();
+            }
+        }
     }
 
     /**
@@ -339,5 +377,10 @@ public abstract class AddLessonCommandTest {
         public boolean hasPeriodClash(Lesson lesson) {
             return false;
         }
+
+        @Override
+        public List<Lesson> getClashingLessons(Lesson lesson) {
+            return lessonsAdded.stream().filter(lesson::hasTimingConflict).collect(Collectors.toList());
+        }
     }
 }
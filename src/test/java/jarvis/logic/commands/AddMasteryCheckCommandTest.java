@@ -9,7 +9,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -47,7 +46,8 @@ public class AddMasteryCheckCommandTest extends AddLessonCommandTest {
         assertEquals(String.format(AddMasteryCheckCommand.MESSAGE_SUCCESS, validMasteryCheck),
                 commandResult.getFeedbackToUser());
 
-        assertEquals(Arrays.asList(validMasteryCheck), modelStub.lessonsAdded);
+        assertEquals(1, modelStub.lessonsAdded.size());
+        assertTrue(validMasteryCheck.hasSameContent(modelStub.lessonsAdded.get(0)));
     }
 
     @Test
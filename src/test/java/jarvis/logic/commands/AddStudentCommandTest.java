@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -262,6 +263,31 @@ public class AddStudentCommandTest {
         public boolean hasPeriodClash(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Lesson> getClashingLessons(Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markClashingLessons(Lesson lesson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearLessonClashes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markBooksAsSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markLessonBookAsWritten() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
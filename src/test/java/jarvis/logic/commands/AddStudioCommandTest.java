@@ -9,7 +9,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -35,7 +34,8 @@ public class AddStudioCommandTest extends AddLessonCommandTest {
 
         assertEquals(String.format(AddStudioCommand.MESSAGE_SUCCESS, validStudio), commandResult.getFeedbackToUser());
 
-        assertEquals(Arrays.asList(validStudio), modelStub.lessonsAdded);
+        assertEquals(1, modelStub.lessonsAdded.size());
+        assertTrue(validStudio.hasSameContent(modelStub.lessonsAdded.get(0)));
     }
 
     @Test
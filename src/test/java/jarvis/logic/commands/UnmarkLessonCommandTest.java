@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -32,9 +33,10 @@ public class UnmarkLessonCommandTest {
 
     @BeforeEach
     public void setUp() {
-        List<Lesson> lessonList = model.getFilteredLessonList();
+        List<Lesson> lessonList = new ArrayList<>(model.getFilteredLessonList());
         for (Lesson l: lessonList) {
             l.markAsCompleted();
+            model.setLesson(l, l);
         }
     }
 
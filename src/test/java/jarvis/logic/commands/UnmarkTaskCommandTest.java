@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -32,9 +33,10 @@ public class UnmarkTaskCommandTest {
 
     @BeforeEach
     public void setUp() {
-        List<Task> taskList = model.getFilteredTaskList();
+        List<Task> taskList = new ArrayList<>(model.getFilteredTaskList());
         for (Task t: taskList) {
             t.markAsDone();
+            model.setTask(t, t);
         }
     }
 
@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -99,7 +101,7 @@ class ConsultIntegrationTest {
     }
 
     @Test
-    void testEquals() {
+    void hasSameContent() {
         Consult sameValues = new Consult(CONSULT_DESCRIPTION_1, new TimePeriod(DT3, DT4), CONSULT_STUDENTS);
         Consult differentStudents = new Consult(CONSULT_DESCRIPTION_1, new TimePeriod(DT3, DT4), List.of(HOON));
 
@@ -110,33 +112,57 @@ class ConsultIntegrationTest {
         Consult differentDesc = new Consult(CONSULT_DESCRIPTION_2, new TimePeriod(DT3, DT4), CONSULT_STUDENTS);
         Consult differentNotes = new Consult(CONSULT_DESCRIPTION_1, new TimePeriod(DT3, DT4), CONSULT_STUDENTS);
         differentNotes.addOverallNote("Note 1");
+        MasteryCheck differentType = new MasteryCheck(CONSULT_DESCRIPTION_1, new TimePeriod(DT3, DT4),
+                CONSULT_STUDENTS);
 
         // same values -> returns true
-        assertTrue(consult.equals(sameValues));
+        assertTrue(consult.hasSameContent(sameValues));
 
         // same object -> returns true
-        assertTrue(consult.equals(consult));
+        assertTrue(consult.hasSameContent(consult));
 
         // null -> returns false
-        assertFalse(consult.equals(null));
+        assertFalse(consult.hasSameContent(null));
 
         // different type -> returns false
-        assertFalse(consult.equals(5));
+        assertFalse(consult.hasSameContent(differentType));
 
         // same students but different attendance values -> returns false
-        assertFalse(consult.equals(differentAttendance));
+        assertFalse(consult.hasSameContent(differentAttendance));
 
         // different students -> returns false
-        assertFalse(consult.equals(differentStudents));
+        assertFalse(consult.hasSameContent(differentStudents));
 
         // different time period -> returns false
-        assertFalse(consult.equals(differentTime));
+        assertFalse(consult.hasSameContent(differentTime));
 
         // different description -> returns false
-        assertFalse(consult.equals(differentDesc));
+        assertFalse(consult.hasSameContent(differentDesc));
 
         // different notes -> returns true
-        assertTrue(consult.equals(differentNotes));
+        assertTrue(consult.hasSameContent(differentNotes));
+    }
+
+    @Test
+    void testEquals() {
+        Consult sameId = new Consult(consult.getId(), CONSULT_DESCRIPTION_2, new TimePeriod(DT2, DT4),
+                CONSULT_STUDENTS, new HashMap<>(), new ArrayList<>(), new HashMap<>());
+        Consult sameValues = new Consult(CONSULT_DESCRIPTION_1, new TimePeriod(DT3, DT4), CONSULT_STUDENTS);
+
+        // same id but different details -> returns true
+        assertTrue(consult.equals(sameId));
+
+        // same object -> returns true
+        assertTrue(consult.equals(consult));
+
+        // null -> returns false
+        assertFalse(consult.equals(null));
+
+        // different type -> returns false
+        assertFalse(consult.equals(5));
+
+        // same details but different id -> returns false
+        assertFalse(consult.equals(sameValues));
     }
 
     @Test
@@ -1,7 +1,9 @@
 package jarvis.model;
 
 import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -65,4 +67,29 @@ class GradeProfileTest {
         // different fields -> returns false
         assertFalse(gradeFirstProfile.equals(gradeSecondProfile));
     }
+
+    @Test
+    void getGradeString_cachedUntilGraded() {
+        GradeProfile gp = new GradeProfile();
+        assertEquals("-/18", gp.getRa1());
+        assertEquals("-", gp.getMc1());
+        assertSame(gp.getRa1(), gp.getRa1());
+
+        gp.grade(Assessment.RA1, 9);
+        gp.grade(Assessment.MC1, 1);
+        assertEquals(String.format("%.1f/%d (%.2f%%)", 9.0, 18, 50.0), gp.getRa1());
+        assertEquals("PASSED", gp.getMc1());
+    }
+
+    @Test
+    void getGradeMap_gradedComponents() {
+        GradeProfile gp = new GradeProfile();
+        gp.grade(Assessment.MIDTERM, 40);
+
+        GradeComponent midterm = new GradeComponent(Assessment.MIDTERM);
+        midterm.setGrade(40);
+        assertEquals(midterm, gp.getGradeMap().get(Assessment.MIDTERM));
+        assertEquals(new GradeComponent(Assessment.RA1), gp.getGradeMap().get(Assessment.RA1));
+        assertEquals(gp, new GradeProfile(gp.getGradeMap()));
+    }
 }
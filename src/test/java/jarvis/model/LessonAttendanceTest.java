@@ -2,6 +2,7 @@ package jarvis.model;
 
 import static jarvis.testutil.Assert.assertThrows;
 import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
 import static jarvis.testutil.TypicalStudents.HOON;
 import static jarvis.testutil.TypicalStudents.getTypicalStudents;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -9,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import jarvis.model.exceptions.NoStudentsInLessonException;
 import jarvis.model.exceptions.StudentNotFoundException;
+import jarvis.testutil.StudentBuilder;
 
 class LessonAttendanceTest {
 
@@ -74,6 +77,27 @@ class LessonAttendanceTest {
         assertEquals(students, lessonAttendance.getAllStudents());
     }
 
+    @Test
+    public void setStudent_studentInLesson_attendanceKept() {
+        lessonAttendance.markAsPresent(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Tan").build();
+
+        lessonAttendance.setStudent(ALICE, editedAlice);
+        assertTrue(lessonAttendance.isPresent(editedAlice));
+        assertFalse(lessonAttendance.isPresent(BENSON));
+    }
+
+    @Test
+    public void equals_sameAttendanceInDifferentOrder_returnsTrue() {
+        LessonAttendance attendance = new LessonAttendance(List.of(ALICE, BENSON));
+        attendance.markAsPresent(BENSON);
+        LessonAttendance reorderedAttendance = new LessonAttendance(List.of(BENSON, ALICE));
+        reorderedAttendance.markAsPresent(BENSON);
+
+        assertTrue(attendance.equals(reorderedAttendance));
+        assertEquals(attendance.hashCode(), reorderedAttendance.hashCode());
+    }
+
     @Test
     public void testEquals() {
         LessonAttendance sameValues = new LessonAttendance(students);
@@ -0,0 +1,61 @@
+package jarvis.model;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LessonIdTest {
+
+    private static final String VALID_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LessonId(null));
+    }
+
+    @Test
+    public void constructor_invalidLessonId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LessonId(""));
+        assertThrows(IllegalArgumentException.class, () -> new LessonId("123E4567-E89B-12D3-A456-426614174000"));
+    }
+
+    @Test
+    public void isValidLessonId() {
+        // invalid ids
+        assertFalse(LessonId.isValidLessonId("")); // empty string
+        assertFalse(LessonId.isValidLessonId("123e4567e89b12d3a456426614174000")); // no hyphens
+        assertFalse(LessonId.isValidLessonId("123e4567-e89b-12d3-a456-42661417400")); // too short
+        assertFalse(LessonId.isValidLessonId("123e4567-e89b-12d3-a456-42661417400g")); // not hexadecimal
+
+        // valid ids
+        assertTrue(LessonId.isValidLessonId(VALID_ID));
+        assertTrue(LessonId.isValidLessonId(LessonId.generate().value));
+    }
+
+    @Test
+    public void generate_returnsDifferentIds() {
+        assertFalse(LessonId.generate().equals(LessonId.generate()));
+    }
+
+    @Test
+    public void equals() {
+        LessonId lessonId = new LessonId(VALID_ID);
+
+        // same value -> returns true
+        assertTrue(lessonId.equals(new LessonId(VALID_ID)));
+
+        // same object -> returns true
+        assertTrue(lessonId.equals(lessonId));
+
+        // null -> returns false
+        assertFalse(lessonId.equals(null));
+
+        // different type -> returns false
+        assertFalse(lessonId.equals(VALID_ID));
+
+        // different value -> returns false
+        assertFalse(lessonId.equals(LessonId.generate()));
+    }
+}
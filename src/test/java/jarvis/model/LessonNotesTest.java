@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import jarvis.model.exceptions.InvalidNoteException;
 import jarvis.model.exceptions.NoStudentsInLessonException;
 import jarvis.model.exceptions.StudentNotFoundException;
+import jarvis.testutil.StudentBuilder;
 
 class LessonNotesTest {
 
@@ -129,4 +130,36 @@ class LessonNotesTest {
         // same students but different general notes -> returns false
         assertFalse(lessonNotes.equals(differentStudentNote));
     }
+
+    @Test
+    public void hashCode_sameNotesAddedAndDeleted_sameHashCode() {
+        LessonNotes sameNotes = new LessonNotes(students);
+        lessonNotes.addNote("Line 1");
+        lessonNotes.addNote(ALICE, "Line 2");
+        sameNotes.addNote("Line 0");
+        sameNotes.addNote("Line 1");
+        sameNotes.deleteNote(0);
+        sameNotes.addNote(ALICE, "Line 0");
+        sameNotes.addNote(ALICE, "Line 2");
+        sameNotes.deleteNote(ALICE, 0);
+
+        assertTrue(lessonNotes.equals(sameNotes));
+        assertEquals(lessonNotes.hashCode(), sameNotes.hashCode());
+    }
+
+    @Test
+    public void setStudent_studentNotesKept_sameAsNotesForEditedStudent() {
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alicia Pauline").build();
+        lessonNotes.addNote(ALICE, "Line 1");
+        lessonNotes.setStudent(ALICE, editedAlice);
+
+        Set<Student> editedStudents = new TreeSet<>(students);
+        editedStudents.remove(ALICE);
+        editedStudents.add(editedAlice);
+        LessonNotes editedNotes = new LessonNotes(editedStudents);
+        editedNotes.addNote(editedAlice, "Line 1");
+
+        assertTrue(lessonNotes.equals(editedNotes));
+        assertEquals(lessonNotes.hashCode(), editedNotes.hashCode());
+    }
 }
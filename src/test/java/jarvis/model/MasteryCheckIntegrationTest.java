@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -100,7 +102,7 @@ class MasteryCheckIntegrationTest {
     }
 
     @Test
-    void testEquals() {
+    void hasSameContent() {
         MasteryCheck sameValues = new MasteryCheck(MASTERY_CHECK_DESCRIPTION_1, new TimePeriod(DT3, DT4),
                 MASTERY_CHECK_STUDENTS);
         MasteryCheck differentStudents = new MasteryCheck(MASTERY_CHECK_DESCRIPTION_1, new TimePeriod(DT3, DT4),
@@ -117,33 +119,58 @@ class MasteryCheckIntegrationTest {
         MasteryCheck differentNotes = new MasteryCheck(MASTERY_CHECK_DESCRIPTION_1, new TimePeriod(DT3, DT4),
                 MASTERY_CHECK_STUDENTS);
         differentNotes.addOverallNote("Note 1");
+        Consult differentType = new Consult(MASTERY_CHECK_DESCRIPTION_1, new TimePeriod(DT3, DT4),
+                MASTERY_CHECK_STUDENTS);
 
         // same values -> returns true
-        assertTrue(masteryCheck.equals(sameValues));
+        assertTrue(masteryCheck.hasSameContent(sameValues));
 
         // same object -> returns true
-        assertTrue(masteryCheck.equals(masteryCheck));
+        assertTrue(masteryCheck.hasSameContent(masteryCheck));
 
         // null -> returns false
-        assertFalse(masteryCheck.equals(null));
+        assertFalse(masteryCheck.hasSameContent(null));
 
         // different type -> returns false
-        assertFalse(masteryCheck.equals(5));
+        assertFalse(masteryCheck.hasSameContent(differentType));
 
         // same students but different attendance values -> returns false
-        assertFalse(masteryCheck.equals(differentAttendance));
+        assertFalse(masteryCheck.hasSameContent(differentAttendance));
 
         // different students -> returns false
-        assertFalse(masteryCheck.equals(differentStudents));
+        assertFalse(masteryCheck.hasSameContent(differentStudents));
 
         // different time period -> returns false
-        assertFalse(masteryCheck.equals(differentTime));
+        assertFalse(masteryCheck.hasSameContent(differentTime));
 
         // different description -> returns false
-        assertFalse(masteryCheck.equals(differentDesc));
+        assertFalse(masteryCheck.hasSameContent(differentDesc));
 
         // different notes -> returns true
-        assertTrue(masteryCheck.equals(differentNotes));
+        assertTrue(masteryCheck.hasSameContent(differentNotes));
+    }
+
+    @Test
+    void testEquals() {
+        MasteryCheck sameId = new MasteryCheck(masteryCheck.getId(), MASTERY_CHECK_DESCRIPTION_2,
+                new TimePeriod(DT2, DT4), MASTERY_CHECK_STUDENTS, new HashMap<>(), new ArrayList<>(), new HashMap<>());
+        MasteryCheck sameValues = new MasteryCheck(MASTERY_CHECK_DESCRIPTION_1, new TimePeriod(DT3, DT4),
+                MASTERY_CHECK_STUDENTS);
+
+        // same id but different details -> returns true
+        assertTrue(masteryCheck.equals(sameId));
+
+        // same object -> returns true
+        assertTrue(masteryCheck.equals(masteryCheck));
+
+        // null -> returns false
+        assertFalse(masteryCheck.equals(null));
+
+        // different type -> returns false
+        assertFalse(masteryCheck.equals(5));
+
+        // same details but different id -> returns false
+        assertFalse(masteryCheck.equals(sameValues));
     }
 
     @Test
@@ -2,20 +2,29 @@ package jarvis.model;
 
 import static jarvis.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static jarvis.testutil.Assert.assertThrows;
+import static jarvis.testutil.TypicalLessons.CONSULT_1;
+import static jarvis.testutil.TypicalLessons.MC_1;
+import static jarvis.testutil.TypicalLessons.STUDIO_1;
+import static jarvis.testutil.TypicalLessons.TP1;
+import static jarvis.testutil.TypicalLessons.TP4;
 import static jarvis.testutil.TypicalStudents.ALICE;
 import static jarvis.testutil.TypicalStudents.BENSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import jarvis.commons.core.GuiSettings;
+import jarvis.testutil.LessonBuilder;
 import jarvis.testutil.StudentBookBuilder;
+import jarvis.testutil.StudentBuilder;
 
 public class ModelManagerTest {
 
@@ -92,6 +101,103 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void markClashingLessons_clashingLessons_marksOnlyClashingLessons() {
+        Lesson masteryCheck = new LessonBuilder(MC_1).buildMasteryCheck();
+        Lesson studio = new LessonBuilder(STUDIO_1).buildStudio();
+        Lesson consult = new LessonBuilder(CONSULT_1).buildConsult();
+        modelManager.addLesson(masteryCheck);
+        modelManager.addLesson(studio);
+        modelManager.addLesson(consult);
+        modelManager.markBooksAsSaved();
+
+        modelManager.markClashingLessons(new LessonBuilder().withTimePeriod(TP4).buildConsult());
+        assertFalse(masteryCheck.hasTimingConflict());
+        assertTrue(studio.hasTimingConflict());
+        assertTrue(consult.hasTimingConflict());
+
+        // earlier marks that no longer clash are removed
+        modelManager.markClashingLessons(new LessonBuilder().withTimePeriod(TP1).buildConsult());
+        assertTrue(masteryCheck.hasTimingConflict());
+        assertFalse(studio.hasTimingConflict());
+        assertFalse(consult.hasTimingConflict());
+
+        modelManager.clearLessonClashes();
+        assertFalse(masteryCheck.hasTimingConflict());
+
+        // clash marks are not saved
+        assertFalse(modelManager.getLessonBook().hasUnsavedChanges());
+    }
+
+    @Test
+    public void constructor_lessonBookWithClashingLessons_lessonsKeptAndMarked() {
+        Lesson masteryCheck = new LessonBuilder(MC_1).buildMasteryCheck();
+        Lesson studio = new LessonBuilder(STUDIO_1).buildStudio();
+        Lesson clashingConsult = new LessonBuilder().withTimePeriod(TP4).buildConsult();
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.setLessons(Arrays.asList(masteryCheck, studio, clashingConsult));
+
+        ModelManager model = new ModelManager(new StudentBook(), new TaskBook(), lessonBook, new UserPrefs());
+        assertEquals(3, model.getFilteredLessonList().size());
+        assertFalse(masteryCheck.hasTimingConflict());
+        assertTrue(studio.hasTimingConflict());
+        assertTrue(clashingConsult.hasTimingConflict());
+    }
+
+    @Test
+    public void setStudent_studentInSomeLessons_updatesOnlyThoseLessons() {
+        Lesson lessonWithAlice = new LessonBuilder().withStudents(Arrays.asList(ALICE, BENSON))
+                .withTimePeriod(TP1).buildConsult();
+        Lesson lessonWithoutAlice = new LessonBuilder().withStudents(Arrays.asList(BENSON))
+                .withTimePeriod(TP4).buildConsult();
+        modelManager.addStudent(ALICE);
+        modelManager.addLesson(lessonWithAlice);
+        modelManager.addLesson(lessonWithoutAlice);
+        modelManager.markBooksAsSaved();
+
+        // replacing a student with itself does not change the lessons
+        modelManager.setStudent(ALICE, ALICE);
+        assertFalse(modelManager.getLessonBook().hasUnsavedChanges());
+
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alicia").build();
+        modelManager.setStudent(ALICE, editedAlice);
+        assertSame(editedAlice, lessonWithAlice.getStudentList().stream()
+                .filter(editedAlice::equals).findFirst().get());
+        assertFalse(lessonWithoutAlice.hasStudent(editedAlice));
+        assertTrue(modelManager.getLessonBook().hasUnsavedChanges());
+    }
+
+    @Test
+    public void getChangedLessons_lessonsChangedAfterWrite_onlyChangedLessonsReturned() {
+        Lesson lessonWithAlice = new LessonBuilder().withStudents(Arrays.asList(ALICE))
+                .withTimePeriod(TP1).buildConsult();
+        Lesson lessonWithoutAlice = new LessonBuilder().withStudents(Arrays.asList(BENSON))
+                .withTimePeriod(TP4).buildConsult();
+        modelManager.addStudent(ALICE);
+        modelManager.addLesson(lessonWithAlice);
+        modelManager.addLesson(lessonWithoutAlice);
+
+        // not known until the lesson book is first written
+        assertFalse(modelManager.getLessonBook().getChangedLessons().isPresent());
+
+        modelManager.markLessonBookAsWritten();
+        modelManager.markBooksAsSaved();
+        assertEquals(List.of(), modelManager.getLessonBook().getChangedLessons().get());
+
+        // a deleted student is saved with the lessons it is still in
+        modelManager.deleteStudent(ALICE);
+        assertTrue(modelManager.getLessonBook().hasUnsavedChanges());
+        assertEquals(List.of(lessonWithAlice), modelManager.getLessonBook().getChangedLessons().get());
+
+        // saving the changes to the journal does not write them to the data file
+        modelManager.markBooksAsSaved();
+        modelManager.deleteLesson(lessonWithoutAlice);
+        assertEquals(2, modelManager.getLessonBook().getChangedLessons().get().size());
+
+        modelManager.setLessonBook(new LessonBook());
+        assertFalse(modelManager.getLessonBook().getChangedLessons().isPresent());
+    }
+
     @Test
     public void equals() {
         StudentBook studentBook = new StudentBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
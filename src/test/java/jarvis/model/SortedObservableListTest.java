@@ -0,0 +1,74 @@
+package jarvis.model;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class SortedObservableListTest {
+
+    private final SortedObservableList<Integer> sortedList = new SortedObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        sortedList.setAll(Arrays.asList(5, 1, 3));
+        sortedList.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    changes.add("updated " + change.getFrom());
+                } else if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getFrom());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getFrom());
+                } else {
+                    changes.add("removed " + change.getFrom());
+                }
+            }
+        });
+    }
+
+    @Test
+    public void setAll_unsortedElements_sortsElements() {
+        assertEquals(Arrays.asList(1, 3, 5), sortedList);
+    }
+
+    @Test
+    public void insert_element_addedAtSortedPosition() {
+        assertEquals(2, sortedList.insert(4));
+        assertEquals(Arrays.asList(1, 3, 4, 5), sortedList);
+        assertEquals(Arrays.asList("added 2"), changes);
+    }
+
+    @Test
+    public void replace_sameElement_firesUpdate() {
+        assertEquals(1, sortedList.replace(1, sortedList.get(1)));
+        assertEquals(Arrays.asList("updated 1"), changes);
+    }
+
+    @Test
+    public void replace_elementWithDifferentPosition_movesElement() {
+        assertEquals(2, sortedList.replace(0, 6));
+        assertEquals(Arrays.asList(3, 5, 6), sortedList);
+        assertEquals(Arrays.asList("removed 0", "added 2"), changes);
+    }
+
+    @Test
+    public void remove_index_firesRemove() {
+        assertEquals(Integer.valueOf(3), sortedList.remove(1));
+        assertEquals(Arrays.asList(1, 5), sortedList);
+        assertEquals(Arrays.asList("removed 1"), changes);
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> sortedList.add(2));
+    }
+}
@@ -73,6 +73,23 @@ public class StudentBookTest {
         assertTrue(studentBook.hasStudent(editedAlice));
     }
 
+    @Test
+    public void hasUnsavedChanges_newStudentBook_returnsFalse() {
+        assertFalse(studentBook.hasUnsavedChanges());
+    }
+
+    @Test
+    public void hasUnsavedChanges_afterModification_returnsTrue() {
+        studentBook.addStudent(ALICE);
+        assertTrue(studentBook.hasUnsavedChanges());
+
+        studentBook.markAsSaved();
+        assertFalse(studentBook.hasUnsavedChanges());
+
+        studentBook.removeStudent(ALICE);
+        assertTrue(studentBook.hasUnsavedChanges());
+    }
+
     @Test
     public void getStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> studentBook.getStudentList().remove(0));
@@ -92,6 +109,11 @@ public class StudentBookTest {
         public ObservableList<Student> getStudentList() {
             return students;
         }
+
+        @Override
+        public boolean hasUnsavedChanges() {
+            return true;
+        }
     }
 
 }
@@ -1,6 +1,7 @@
 package jarvis.model;
 
 import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -37,4 +38,14 @@ public class StudentNameTest {
         assertTrue(StudentName.isValidName("Capital Tan")); // with capital letters
         assertTrue(StudentName.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void compareTo() {
+        // case is ignored
+        assertEquals(0, new StudentName("Alice Tan").compareTo(new StudentName("alice tan")));
+
+        assertTrue(new StudentName("alice").compareTo(new StudentName("Bob")) < 0);
+        assertTrue(new StudentName("Bob").compareTo(new StudentName("alice")) > 0);
+        assertTrue(new StudentName("Al").compareTo(new StudentName("al Tan")) < 0);
+    }
 }
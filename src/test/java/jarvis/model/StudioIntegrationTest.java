@@ -13,17 +13,22 @@ import static jarvis.testutil.TypicalLessons.STUDIO_DESCRIPTION_1;
 import static jarvis.testutil.TypicalLessons.STUDIO_DESCRIPTION_2;
 import static jarvis.testutil.TypicalLessons.STUDIO_STUDENTS;
 import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
 import static jarvis.testutil.TypicalStudents.HOON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import jarvis.model.exceptions.InvalidParticipationException;
 import jarvis.model.exceptions.StudentNotFoundException;
+import jarvis.testutil.StudentBuilder;
 
 class StudioIntegrationTest {
     private final Studio studio = new Studio(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), STUDIO_STUDENTS);
@@ -136,7 +141,63 @@ class StudioIntegrationTest {
     }
 
     @Test
-    void testEquals() {
+    void getParticipationAndAttendance_dataChanged_viewsUpdated() {
+        Studio studio = new Studio(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), List.of(ALICE, BENSON));
+        Map<Integer, Integer> participation = studio.getParticipation();
+        Map<Integer, Boolean> attendance = studio.getAttendance();
+
+        studio.setParticipationForStudent(BENSON, 300);
+        studio.markAsPresent(ALICE);
+        assertEquals(Map.of(0, 0, 1, 300), participation);
+        assertEquals(Map.of(0, true, 1, false), attendance);
+    }
+
+    @Test
+    void getViews_takenBeforeIndexKeyedDataLoaded_viewsUpdated() {
+        Studio studio = new Studio(LessonId.generate(), STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4),
+                List.of(ALICE, BENSON), new HashMap<>(Map.of(0, false, 1, false)), new ArrayList<>(),
+                new HashMap<>(Map.of(0, new ArrayList<>(), 1, new ArrayList<>())), new HashMap<>(Map.of(0, 0, 1, 0)));
+        Map<Integer, Integer> participation = studio.getParticipation();
+        Map<Integer, Boolean> attendance = studio.getAttendance();
+        Map<Integer, ArrayList<String>> studentNotes = studio.getStudentNotes();
+
+        studio.setParticipationForStudent(BENSON, 300);
+        studio.markAsPresent(ALICE);
+        studio.addStudentNote("Good work", ALICE);
+        assertEquals(Map.of(0, 0, 1, 300), participation);
+        assertEquals(Map.of(0, true, 1, false), attendance);
+        assertEquals(List.of("Good work"), studentNotes.get(0));
+    }
+
+    @Test
+    void getGeneralNotes_takenBeforeNotesLoaded_readOnlyAndUpdated() {
+        Studio studio = new Studio(LessonId.generate(), STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4),
+                List.of(ALICE), new HashMap<>(Map.of(0, false)), new ArrayList<>(),
+                new HashMap<>(Map.of(0, new ArrayList<>())), new HashMap<>(Map.of(0, 0)));
+        List<String> generalNotes = studio.getGeneralNotes();
+        assertThrows(UnsupportedOperationException.class, () -> generalNotes.add("Not through the view"));
+
+        studio.addOverallNote("Recursion");
+        assertEquals(List.of("Recursion"), generalNotes);
+    }
+
+    @Test
+    void getParticipationAndAttendance_rosterReordered_indexesFollowRoster() {
+        Studio studio = new Studio(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), List.of(ALICE, BENSON));
+        studio.setParticipationForStudent(ALICE, 100);
+        studio.markAsPresent(ALICE);
+        assertEquals(Map.of(0, 100, 1, 0), studio.getParticipation());
+
+        // renaming Alice moves her after Benson in the roster
+        Student zoe = new StudentBuilder(ALICE).withName("Zoe").build();
+        studio.setStudent(ALICE, zoe);
+        assertEquals(List.of(BENSON, zoe), studio.getStudentList());
+        assertEquals(Map.of(0, 0, 1, 100), studio.getParticipation());
+        assertEquals(Map.of(0, false, 1, true), studio.getAttendance());
+    }
+
+    @Test
+    void hasSameContent() {
         Studio sameValues = new Studio(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), STUDIO_STUDENTS);
         Studio differentStudents = new Studio(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), List.of(ALICE));
 
@@ -150,36 +211,59 @@ class StudioIntegrationTest {
         Studio differentDesc = new Studio(STUDIO_DESCRIPTION_2, new TimePeriod(DT3, DT4), STUDIO_STUDENTS);
         Studio differentNotes = new Studio(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), STUDIO_STUDENTS);
         differentNotes.addOverallNote("Note 1");
+        Consult differentType = new Consult(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), STUDIO_STUDENTS);
 
         // same values -> returns true
-        assertTrue(studio.equals(sameValues));
+        assertTrue(studio.hasSameContent(sameValues));
 
         // same object -> returns true
-        assertTrue(studio.equals(studio));
+        assertTrue(studio.hasSameContent(studio));
 
         // null -> returns false
-        assertFalse(studio.equals(null));
+        assertFalse(studio.hasSameContent(null));
 
         // different type -> returns false
-        assertFalse(studio.equals(5));
+        assertFalse(studio.hasSameContent(differentType));
 
         // same students but different attendance values -> returns false
-        assertFalse(studio.equals(differentAttendance));
+        assertFalse(studio.hasSameContent(differentAttendance));
 
         // different students -> returns false
-        assertFalse(studio.equals(differentStudents));
+        assertFalse(studio.hasSameContent(differentStudents));
 
         // different participation -> returns false
-        assertFalse(studio.equals(differentParticipation));
+        assertFalse(studio.hasSameContent(differentParticipation));
 
         // different time period -> returns false
-        assertFalse(studio.equals(differentTime));
+        assertFalse(studio.hasSameContent(differentTime));
 
         // different description -> returns false
-        assertFalse(studio.equals(differentDesc));
+        assertFalse(studio.hasSameContent(differentDesc));
 
         // different notes -> returns true
-        assertTrue(studio.equals(differentNotes));
+        assertTrue(studio.hasSameContent(differentNotes));
+    }
+
+    @Test
+    void testEquals() {
+        Studio sameId = new Studio(studio.getId(), STUDIO_DESCRIPTION_2, new TimePeriod(DT2, DT4),
+                STUDIO_STUDENTS, new HashMap<>(), new ArrayList<>(), new HashMap<>(), new HashMap<>());
+        Studio sameValues = new Studio(STUDIO_DESCRIPTION_1, new TimePeriod(DT3, DT4), STUDIO_STUDENTS);
+
+        // same id but different details -> returns true
+        assertTrue(studio.equals(sameId));
+
+        // same object -> returns true
+        assertTrue(studio.equals(studio));
+
+        // null -> returns false
+        assertFalse(studio.equals(null));
+
+        // different type -> returns false
+        assertFalse(studio.equals(5));
+
+        // same details but different id -> returns false
+        assertFalse(studio.equals(sameValues));
     }
 
     @Test
@@ -2,12 +2,15 @@ package jarvis.model;
 
 import static jarvis.testutil.Assert.assertThrows;
 import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
 import static jarvis.testutil.TypicalStudents.HOON;
 import static jarvis.testutil.TypicalStudents.getTypicalStudents;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -68,6 +71,23 @@ class StudioParticipationTest {
         assertEquals(students, studioParticipation.getAllStudents());
     }
 
+    @Test
+    void constructor_indexMap_participationAtRosterIndexes() {
+        StudioParticipation participation = new StudioParticipation(List.of(ALICE, BENSON), Map.of(0, 20, 1, 300));
+        assertEquals(20, participation.getParticipationForStudent(ALICE));
+        assertEquals(300, participation.getParticipationForStudent(BENSON));
+    }
+
+    @Test
+    void equals_sameParticipationInDifferentOrder_returnsTrue() {
+        StudioParticipation participation = new StudioParticipation(List.of(ALICE, BENSON), Map.of(0, 20, 1, 300));
+        StudioParticipation reorderedParticipation =
+                new StudioParticipation(List.of(BENSON, ALICE), Map.of(0, 300, 1, 20));
+
+        assertTrue(participation.equals(reorderedParticipation));
+        assertEquals(participation.hashCode(), reorderedParticipation.hashCode());
+    }
+
     @Test
     void testEquals() {
         StudioParticipation sameValues = new StudioParticipation(students);
@@ -1,15 +1,23 @@
 package jarvis.model;
 
 import static jarvis.testutil.Assert.assertThrows;
+import static jarvis.testutil.TypicalLessons.CONSULT_1;
 import static jarvis.testutil.TypicalLessons.MC_1;
 import static jarvis.testutil.TypicalLessons.STUDIO_1;
+import static jarvis.testutil.TypicalLessons.STUDIO_2;
+import static jarvis.testutil.TypicalLessons.STUDIO_DESCRIPTION_2;
+import static jarvis.testutil.TypicalLessons.STUDIO_STUDENTS;
 import static jarvis.testutil.TypicalLessons.TP2;
+import static jarvis.testutil.TypicalLessons.TP4;
+import static jarvis.testutil.TypicalLessons.TP5;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -40,10 +48,16 @@ public class UniqueLessonListTest {
     }
 
     @Test
-    public void contains_lessonWithSameIdentityFieldsInList_returnsTrue() {
+    public void contains_lessonWithSameIdInList_returnsTrue() {
         uniqueLessonList.add(STUDIO_1);
-        Lesson editedLesson = new LessonBuilder(STUDIO_1).buildStudio();
-        assertTrue(uniqueLessonList.contains(editedLesson));
+        assertTrue(uniqueLessonList.contains(createStudioWithIdOf(STUDIO_1)));
+    }
+
+    @Test
+    public void contains_lessonWithSameDetailsInList_returnsFalse() {
+        uniqueLessonList.add(STUDIO_1);
+        Lesson lessonWithSameDetails = new LessonBuilder(STUDIO_1).buildStudio();
+        assertFalse(uniqueLessonList.contains(lessonWithSameDetails));
     }
 
     @Test
@@ -101,7 +115,7 @@ public class UniqueLessonListTest {
     @Test
     public void setLesson_editedLessonHasSameIdentity_success() {
         uniqueLessonList.add(STUDIO_1);
-        Lesson editedLesson = new LessonBuilder(STUDIO_1).buildStudio();
+        Lesson editedLesson = createStudioWithIdOf(STUDIO_1);
         uniqueLessonList.setLesson(STUDIO_1, editedLesson);
         UniqueLessonList expectedUniqueLessonList = new UniqueLessonList();
         expectedUniqueLessonList.add(editedLesson);
@@ -185,6 +199,45 @@ public class UniqueLessonListTest {
         assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.setLessons(listWithDuplicateLessons));
     }
 
+    @Test
+    public void setLessons_listWithClashingLessons_lessonsKept() {
+        Lesson lessonBeforeStudio = new LessonBuilder(MC_1).withTimePeriod(TP5).buildConsult();
+        uniqueLessonList.setLessons(Arrays.asList(STUDIO_1, lessonBeforeStudio));
+
+        assertTrue(uniqueLessonList.contains(STUDIO_1));
+        assertTrue(uniqueLessonList.contains(lessonBeforeStudio));
+        assertEquals(Arrays.asList(lessonBeforeStudio, STUDIO_1), uniqueLessonList.getLessonsWithClash());
+        assertEquals(Arrays.asList(lessonBeforeStudio, STUDIO_1), uniqueLessonList.getClashingLessons(STUDIO_2));
+
+        // lessons kept with their clashes can still be replaced without moving them
+        uniqueLessonList.setLesson(STUDIO_1, STUDIO_1);
+        assertThrows(LessonClashException.class, () -> uniqueLessonList.add(MC_1));
+
+        // once the clash is removed, the time period is free again
+        uniqueLessonList.remove(lessonBeforeStudio);
+        assertEquals(Collections.emptyList(), uniqueLessonList.getLessonsWithClash());
+        uniqueLessonList.add(MC_1);
+        assertEquals(Arrays.asList(MC_1, STUDIO_1), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getClashingLessons() {
+        // empty list
+        assertEquals(Collections.emptyList(), uniqueLessonList.getClashingLessons(STUDIO_1));
+
+        uniqueLessonList.add(CONSULT_1);
+        uniqueLessonList.add(MC_1);
+        uniqueLessonList.add(STUDIO_1);
+
+        // lessons that only touch the time period do not clash
+        Lesson lessonAfterMasteryCheck = new LessonBuilder(MC_1).withTimePeriod(TP4).buildConsult();
+        assertEquals(Arrays.asList(STUDIO_1, CONSULT_1), uniqueLessonList.getClashingLessons(lessonAfterMasteryCheck));
+
+        // lesson overlapping the start of the time period
+        Lesson lessonBeforeConsult = new LessonBuilder(MC_1).withTimePeriod(TP5).buildConsult();
+        assertEquals(Arrays.asList(MC_1, STUDIO_1), uniqueLessonList.getClashingLessons(lessonBeforeConsult));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -210,4 +263,12 @@ public class UniqueLessonListTest {
         uniqueLessonListCopy.add(STUDIO_1);
         assertFalse(uniqueLessonList.equals(uniqueLessonListCopy));
     }
+
+    /**
+     * Returns a studio with the id and time period of {@code lesson}, but with other details.
+     */
+    private static Studio createStudioWithIdOf(Lesson lesson) {
+        return new Studio(lesson.getId(), STUDIO_DESCRIPTION_2, lesson.getTimePeriod(), STUDIO_STUDENTS,
+                new HashMap<>(), new ArrayList<>(), new HashMap<>(), new HashMap<>());
+    }
 }
@@ -2,7 +2,9 @@ package jarvis.model;
 
 import static jarvis.testutil.Assert.assertThrows;
 import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
 import static jarvis.testutil.TypicalStudents.BOB;
+import static jarvis.testutil.TypicalStudents.CARL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -105,6 +107,15 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(ALICE, BOB));
     }
 
+    @Test
+    public void setStudent_editedStudentHasDifferentName_keepsListSorted() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(CARL);
+        Student editedAlice = new StudentBuilder(ALICE).withName("Daniel Meier").build();
+        uniqueStudentList.setStudent(ALICE, editedAlice);
+        assertEquals(Arrays.asList(CARL, editedAlice), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.remove(null));
@@ -152,6 +163,14 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void add_studentsOutOfOrder_keepsListSorted() {
+        uniqueStudentList.add(CARL);
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setStudents_listWithDuplicateStudents_throwsDuplicateStudentException() {
         List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, ALICE);
@@ -0,0 +1,201 @@
+package jarvis.storage;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.JsonUtil;
+import jarvis.storage.JsonSerializableBackup.BackedUpFile;
+
+public class ChunkedBackupStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFolder;
+    private Path backupFolder;
+    private Path studentBookFile;
+    private Path journalFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataFolder = Files.createDirectories(testFolder.resolve("data"));
+        backupFolder = dataFolder.resolve("backups");
+        studentBookFile = dataFolder.resolve("studentbook.json");
+        journalFile = dataFolder.resolve("journal.txt");
+    }
+
+    private ChunkedBackupStorage createStorage(int backupsKept) {
+        return new ChunkedBackupStorage(backupFolder, List.of(dataFolder, journalFile), backupsKept);
+    }
+
+    /**
+     * Returns bytes that do not repeat, so that they split into many different chunks.
+     */
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private long countChunks() throws IOException {
+        try (Stream<Path> chunks = Files.walk(backupFolder.resolve("chunks"))) {
+            return chunks.filter(Files::isRegularFile).count();
+        }
+    }
+
+    /**
+     * Writes {@code contents} to {@code file} with a different last modified time, so that the change is seen even
+     * if the file keeps its size and is written within the same millisecond.
+     */
+    private static void writeChanged(Path file, byte[] contents) throws IOException {
+        FileTime lastModifiedTime = Files.exists(file) ? Files.getLastModifiedTime(file) : FileTime.fromMillis(0);
+        Files.write(file, contents);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModifiedTime.toMillis() + 1000));
+    }
+
+    @Test
+    public void backUpAndRestore_changedFiles_originalRestored() throws Exception {
+        ChunkedBackupStorage storage = createStorage(5);
+        byte[] original = randomBytes(100_000);
+        writeChanged(studentBookFile, original);
+
+        String backupId = storage.backUp().get();
+        writeChanged(studentBookFile, randomBytes(5_000));
+
+        storage.restoreBackup(backupId);
+        assertArrayEquals(original, Files.readAllBytes(studentBookFile));
+    }
+
+    @Test
+    public void backUp_unchangedFiles_noBackup() throws Exception {
+        ChunkedBackupStorage storage = createStorage(5);
+        writeChanged(studentBookFile, randomBytes(10_000));
+
+        assertTrue(storage.backUp().isPresent());
+        assertEquals(Optional.empty(), storage.backUp());
+        assertEquals(1, storage.getBackupIds().size());
+    }
+
+    @Test
+    public void backUp_smallChange_mostChunksReused() throws Exception {
+        ChunkedBackupStorage storage = createStorage(5);
+        byte[] contents = randomBytes(500_000);
+        writeChanged(studentBookFile, contents);
+        storage.backUp();
+        long chunkCount = countChunks();
+
+        contents[250_000]++;
+        writeChanged(studentBookFile, contents);
+        storage.backUp();
+
+        // only the chunk with the changed byte, and at most the one after it, are new
+        long newChunkCount = countChunks() - chunkCount;
+        assertTrue(newChunkCount >= 1 && newChunkCount <= 2);
+    }
+
+    @Test
+    public void backUp_moreThanKept_oldestRemovedWithUnusedChunks() throws Exception {
+        ChunkedBackupStorage storage = createStorage(2);
+        writeChanged(studentBookFile, randomBytes(10_000));
+        String oldestBackupId = storage.backUp().get();
+
+        for (int i = 1; i <= 2; i++) {
+            writeChanged(studentBookFile, randomBytes(10_000 + i));
+            storage.backUp();
+        }
+
+        List<String> backupIds = storage.getBackupIds();
+        assertEquals(2, backupIds.size());
+        assertFalse(backupIds.contains(oldestBackupId));
+        // only the chunks of the remaining backups are kept
+        assertEquals(ContentDefinedChunker.findChunkEnds(randomBytes(10_001)).size()
+                + ContentDefinedChunker.findChunkEnds(randomBytes(10_002)).size(), countChunks());
+        storage.restoreBackup(backupIds.get(1));
+        assertArrayEquals(randomBytes(10_002), Files.readAllBytes(studentBookFile));
+    }
+
+    @Test
+    public void backUp_skippedFiles_notBackedUp() throws Exception {
+        ChunkedBackupStorage storage = createStorage(5);
+        writeChanged(studentBookFile, randomBytes(1_000));
+        Path tempFile = dataFolder.resolve("studentbook.json.tmp");
+        Files.write(tempFile, randomBytes(2_000));
+
+        String backupId = storage.backUp().get();
+        Files.delete(tempFile);
+        storage.restoreBackup(backupId);
+        assertFalse(Files.exists(tempFile));
+    }
+
+    @Test
+    public void restoreBackup_fileNotInBackup_deleted() throws Exception {
+        ChunkedBackupStorage storage = createStorage(5);
+        writeChanged(studentBookFile, randomBytes(1_000));
+        String backupId = storage.backUp().get();
+
+        Files.write(journalFile, "add student".getBytes());
+        storage.restoreBackup(backupId);
+        assertFalse(Files.exists(journalFile));
+        assertTrue(Files.exists(studentBookFile));
+    }
+
+    @Test
+    public void restoreBackup_missingBackup_throwsDataConversionException() {
+        ChunkedBackupStorage storage = createStorage(5);
+        assertThrows(DataConversionException.class, () -> storage.restoreBackup("20221101-100000-000"));
+    }
+
+    @Test
+    public void restoreBackup_damagedChunk_throwsDataConversionExceptionAndFilesUnchanged() throws Exception {
+        ChunkedBackupStorage storage = createStorage(5);
+        writeChanged(studentBookFile, randomBytes(10_000));
+        String backupId = storage.backUp().get();
+        try (Stream<Path> chunks = Files.walk(backupFolder.resolve("chunks"))) {
+            Files.write(chunks.filter(Files::isRegularFile).findFirst().get(), "damaged".getBytes());
+        }
+
+        byte[] current = randomBytes(3_000);
+        writeChanged(studentBookFile, current);
+        assertThrows(DataConversionException.class, () -> storage.restoreBackup(backupId));
+        assertArrayEquals(current, Files.readAllBytes(studentBookFile));
+    }
+
+    @Test
+    public void restoreBackup_fileOutsideDataFiles_throwsDataConversionExceptionAndNothingWritten() throws Exception {
+        ChunkedBackupStorage storage = createStorage(5);
+        writeChanged(studentBookFile, randomBytes(1_000));
+        String backupId = storage.backUp().get();
+
+        // a backup changed by hand to list a file outside the data folder, as well as a data file
+        Path backupFile = backupFolder.resolve(backupId + ".json");
+        BackedUpFile studentBook = JsonUtil.readJsonFile(backupFile, JsonSerializableBackup.class).get()
+                .getFiles().get(0);
+        Path outsideFile = dataFolder.resolve("..").resolve("outside.json");
+        BackedUpFile outside = new BackedUpFile(outsideFile.toString(), studentBook.getSize(),
+                studentBook.getLastModifiedMillis(), studentBook.getChunks());
+        JsonUtil.saveJsonFile(new JsonSerializableBackup(List.of(studentBook, outside)), backupFile);
+
+        byte[] current = randomBytes(3_000);
+        writeChanged(studentBookFile, current);
+        assertThrows(DataConversionException.class, () -> storage.restoreBackup(backupId));
+        assertFalse(Files.exists(outsideFile));
+        assertArrayEquals(current, Files.readAllBytes(studentBookFile));
+    }
+}
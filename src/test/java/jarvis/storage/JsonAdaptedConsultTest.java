@@ -3,10 +3,14 @@ package jarvis.storage;
 import static jarvis.storage.JsonAdaptedConsult.MISSING_FIELD_MESSAGE_FORMAT;
 import static jarvis.testutil.Assert.assertThrows;
 import static jarvis.testutil.TypicalLessons.CONSULT_1;
+import static jarvis.testutil.TypicalStudents.getTypicalStudents;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import jarvis.model.LessonAttendance;
 import jarvis.model.LessonNotes;
+import jarvis.model.MatricNum;
 import jarvis.model.Student;
 import jarvis.model.TimePeriod;
 
@@ -21,71 +26,113 @@ public class JsonAdaptedConsultTest {
     private static final String VALID_DESC = CONSULT_1.getDesc().toString();
     private static final LocalDateTime VALID_DT1 = CONSULT_1.startDateTime();
     private static final LocalDateTime VALID_DT2 = CONSULT_1.endDateTime();
+    private static final List<String> VALID_STUDENTS = CONSULT_1.getStudentList().stream()
+            .map(s -> s.getMatricNum().value).collect(Collectors.toList());
     private static final ArrayList<JsonAdaptedStudent> VALID_STUDENT_LIST = CONSULT_1.getStudentList().stream()
             .map(s -> new JsonAdaptedStudent(s)).collect(Collectors.toCollection(ArrayList::new));
     private static final Map<Integer, Boolean> VALID_ATTENDANCE = CONSULT_1.getAttendance();
-    private static final ArrayList<String> VALID_GENERAL_NOTES = CONSULT_1.getGeneralNotes();
+    private static final ArrayList<String> VALID_GENERAL_NOTES = new ArrayList<>(CONSULT_1.getGeneralNotes());
     private static final Map<Integer, ArrayList<String>> VALID_STUDENT_NOTES = CONSULT_1.getStudentNotes();
+    private static final Map<MatricNum, Student> STUDENTS_BY_MATRIC_NUM = getTypicalStudents().stream()
+            .collect(Collectors.toMap(Student::getMatricNum, student -> student));
 
 
     @Test
     public void toModelType_validConsultDetails_returnsConsult() throws Exception {
         JsonAdaptedConsult consult = new JsonAdaptedConsult(CONSULT_1);
-        assertEquals(CONSULT_1, consult.toModelType());
+        assertEquals(CONSULT_1, consult.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_invalidTimePeriod_throwsIllegalArgumentException() {
         JsonAdaptedConsult consult =
-                new JsonAdaptedConsult(VALID_DESC, VALID_DT2, VALID_DT1, VALID_STUDENT_LIST, VALID_ATTENDANCE,
+                new JsonAdaptedConsult(VALID_DESC, VALID_DT2, VALID_DT1, VALID_STUDENTS, null, VALID_ATTENDANCE,
                         VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false);
         String expectedMessage = TimePeriod.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalArgumentException.class, expectedMessage, consult::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage,
+                () -> consult.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullDate_throwsIllegalArgumentException() {
         JsonAdaptedConsult consult =
-                new JsonAdaptedConsult((String) null, (LocalDateTime) null, VALID_DT1, VALID_STUDENT_LIST,
+                new JsonAdaptedConsult((String) null, (LocalDateTime) null, VALID_DT1, VALID_STUDENTS, null,
                         VALID_ATTENDANCE, VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, TimePeriod.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, consult::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage,
+                () -> consult.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullStudents_throwsIllegalArgumentException() {
         JsonAdaptedConsult consult =
-                new JsonAdaptedConsult((String) null, VALID_DT1, VALID_DT2, null, VALID_ATTENDANCE,
+                new JsonAdaptedConsult((String) null, VALID_DT1, VALID_DT2, null, null, VALID_ATTENDANCE,
                         VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Student.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, consult::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage,
+                () -> consult.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullAttendance_throwsIllegalArgumentException() {
         JsonAdaptedConsult consult =
-                new JsonAdaptedConsult((String) null, VALID_DT1, VALID_DT2, VALID_STUDENT_LIST, null,
+                new JsonAdaptedConsult((String) null, VALID_DT1, VALID_DT2, VALID_STUDENTS, null, null,
                         VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, LessonAttendance.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, consult::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage,
+                () -> consult.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullGeneralNotes_throwsIllegalArgumentException() {
         JsonAdaptedConsult consult =
-                new JsonAdaptedConsult((String) null, VALID_DT1, VALID_DT2, VALID_STUDENT_LIST, VALID_ATTENDANCE,
+                new JsonAdaptedConsult((String) null, VALID_DT1, VALID_DT2, VALID_STUDENTS, null, VALID_ATTENDANCE,
                         null, VALID_STUDENT_NOTES, false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, LessonNotes.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, consult::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage,
+                () -> consult.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullStudentNotes_throwsIllegalArgumentException() {
         JsonAdaptedConsult consult =
-                new JsonAdaptedConsult((String) null, VALID_DT1, VALID_DT2, VALID_STUDENT_LIST, VALID_ATTENDANCE,
+                new JsonAdaptedConsult((String) null, VALID_DT1, VALID_DT2, VALID_STUDENTS, null, VALID_ATTENDANCE,
                         VALID_GENERAL_NOTES, null, false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, LessonNotes.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, consult::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage,
+                () -> consult.toModelType(STUDENTS_BY_MATRIC_NUM));
+    }
+
+    @Test
+    public void toModelType_unknownStudent_throwsIllegalArgumentException() {
+        JsonAdaptedConsult consult =
+                new JsonAdaptedConsult(VALID_DESC, VALID_DT1, VALID_DT2, List.of("A9999999Z"), null, VALID_ATTENDANCE,
+                        VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false);
+        String expectedMessage = String.format(JsonAdaptedLesson.MESSAGE_UNKNOWN_STUDENT, "A9999999Z");
+        assertThrows(IllegalArgumentException.class, expectedMessage,
+                () -> consult.toModelType(STUDENTS_BY_MATRIC_NUM));
+    }
+
+    @Test
+    public void toModelType_studentCopies_usesStudentsFromStudentBook() throws Exception {
+        JsonAdaptedConsult consult =
+                new JsonAdaptedConsult(VALID_DESC, VALID_DT1, VALID_DT2, null, VALID_STUDENT_LIST, VALID_ATTENDANCE,
+                        VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false);
+        Student student = consult.toModelType(STUDENTS_BY_MATRIC_NUM).getStudentList().get(0);
+        assertSame(STUDENTS_BY_MATRIC_NUM.get(student.getMatricNum()), student);
+    }
+
+    @Test
+    public void toModelType_validConsultDetails_keepsLessonId() throws Exception {
+        JsonAdaptedConsult consult = new JsonAdaptedConsult(CONSULT_1);
+        assertEquals(CONSULT_1.getId(), consult.toModelType(STUDENTS_BY_MATRIC_NUM).getId());
     }
-}
 
+    @Test
+    public void toModelType_savedWithoutLessonId_generatesLessonId() throws Exception {
+        JsonAdaptedConsult consult =
+                new JsonAdaptedConsult(VALID_DESC, VALID_DT1, VALID_DT2, VALID_STUDENTS, null, VALID_ATTENDANCE,
+                        VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false);
+        assertNotNull(consult.toModelType(STUDENTS_BY_MATRIC_NUM).getId());
+    }
+}
@@ -1,20 +1,26 @@
 package jarvis.storage;
 
+import static jarvis.storage.JsonAdaptedLesson.MESSAGE_UNKNOWN_STUDENT_INDEX;
 import static jarvis.storage.JsonAdaptedStudio.MISSING_FIELD_MESSAGE_FORMAT;
 import static jarvis.testutil.Assert.assertThrows;
 import static jarvis.testutil.TypicalLessons.STUDIO_1;
+import static jarvis.testutil.TypicalStudents.getTypicalStudents;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import jarvis.model.LessonAttendance;
 import jarvis.model.LessonNotes;
+import jarvis.model.MatricNum;
 import jarvis.model.Student;
+import jarvis.model.Studio;
 import jarvis.model.StudioParticipation;
 import jarvis.model.TimePeriod;
 import jarvis.testutil.TypicalLessons;
@@ -23,87 +29,113 @@ public class JsonAdaptedStudioTest {
     private static final String VALID_DESC = TypicalLessons.STUDIO_1.getDesc().toString();
     private static final LocalDateTime VALID_DT1 = TypicalLessons.STUDIO_1.startDateTime();
     private static final LocalDateTime VALID_DT2 = TypicalLessons.STUDIO_1.endDateTime();
-    private static final ArrayList<JsonAdaptedStudent> VALID_STUDENT_LIST = TypicalLessons.STUDIO_1.getStudentList()
-            .stream().map(s -> new JsonAdaptedStudent(s)).collect(Collectors.toCollection(ArrayList::new));
+    private static final List<String> VALID_STUDENTS = TypicalLessons.STUDIO_1.getStudentList().stream()
+            .map(s -> s.getMatricNum().value).collect(Collectors.toList());
     private static final Map<Integer, Boolean> VALID_ATTENDANCE = TypicalLessons.STUDIO_1.getAttendance();
-    private static final ArrayList<String> VALID_GENERAL_NOTES = TypicalLessons.STUDIO_1.getGeneralNotes();
+    private static final ArrayList<String> VALID_GENERAL_NOTES =
+            new ArrayList<>(TypicalLessons.STUDIO_1.getGeneralNotes());
     private static final Map<Integer, ArrayList<String>> VALID_STUDENT_NOTES = TypicalLessons.STUDIO_1
             .getStudentNotes();
     private static final Map<Integer, Integer> VALID_PARTICIPATION = STUDIO_1.getParticipation();
+    private static final Map<MatricNum, Student> STUDENTS_BY_MATRIC_NUM = getTypicalStudents().stream()
+            .collect(Collectors.toMap(Student::getMatricNum, student -> student));
 
     @Test
     public void toModelType_validStudioDetails_returnsStudio() throws Exception {
         JsonAdaptedStudio studio = new JsonAdaptedStudio(STUDIO_1);
-        assertEquals(STUDIO_1, studio.toModelType());
+        assertEquals(STUDIO_1, studio.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_invalidTimePeriod_throwsIllegalArgumentException() {
         JsonAdaptedStudio studio =
-                new JsonAdaptedStudio(VALID_DESC, VALID_DT2, VALID_DT1, VALID_STUDENT_LIST, VALID_ATTENDANCE,
+                new JsonAdaptedStudio(VALID_DESC, VALID_DT2, VALID_DT1, VALID_STUDENTS, null, VALID_ATTENDANCE,
                         VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false, VALID_PARTICIPATION);
         String expectedMessage = TimePeriod.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalArgumentException.class, expectedMessage, studio::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> studio.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullDate_throwsIllegalArgumentException() {
         JsonAdaptedStudio studio =
-                new JsonAdaptedStudio((String) null, (LocalDateTime) null, VALID_DT1, VALID_STUDENT_LIST,
+                new JsonAdaptedStudio((String) null, (LocalDateTime) null, VALID_DT1, VALID_STUDENTS, null,
                         VALID_ATTENDANCE, VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false,
                         VALID_PARTICIPATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, TimePeriod.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, studio::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> studio.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullStudents_throwsIllegalArgumentException() {
         JsonAdaptedStudio studio =
-                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, null, VALID_ATTENDANCE,
+                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, null, null, VALID_ATTENDANCE,
                         VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false, VALID_PARTICIPATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Student.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, studio::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> studio.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullAttendance_throwsIllegalArgumentException() {
         JsonAdaptedStudio studio =
-                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, VALID_STUDENT_LIST, null,
+                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, VALID_STUDENTS, null, null,
                         VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false, VALID_PARTICIPATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 LessonAttendance.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, studio::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> studio.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullGeneralNotes_throwsIllegalArgumentException() {
         JsonAdaptedStudio studio =
-                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, VALID_STUDENT_LIST, VALID_ATTENDANCE,
+                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, VALID_STUDENTS, null, VALID_ATTENDANCE,
                         null, VALID_STUDENT_NOTES, false, VALID_PARTICIPATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 LessonNotes.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, studio::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> studio.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullStudentNotes_throwsIllegalArgumentException() {
         JsonAdaptedStudio studio =
-                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, VALID_STUDENT_LIST, VALID_ATTENDANCE,
+                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, VALID_STUDENTS, null, VALID_ATTENDANCE,
                         VALID_GENERAL_NOTES, null, false, VALID_PARTICIPATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 LessonNotes.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, studio::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> studio.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
 
     @Test
     public void toModelType_nullParticipation_throwsIllegalArgumentException() {
         JsonAdaptedStudio studio =
-                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, VALID_STUDENT_LIST, VALID_ATTENDANCE,
+                new JsonAdaptedStudio((String) null, VALID_DT1, VALID_DT2, VALID_STUDENTS, null, VALID_ATTENDANCE,
                         VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false, null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 StudioParticipation.class.getSimpleName());
-        assertThrows(IllegalArgumentException.class, expectedMessage, studio::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> studio.toModelType(STUDENTS_BY_MATRIC_NUM));
+    }
+
+    @Test
+    public void toModelType_unknownStudentIndex_throwsIllegalArgumentException() {
+        Map<Integer, Integer> participation = new TreeMap<>(VALID_PARTICIPATION);
+        participation.put(VALID_STUDENTS.size(), 0);
+        JsonAdaptedStudio studio =
+                new JsonAdaptedStudio(VALID_DESC, VALID_DT1, VALID_DT2, VALID_STUDENTS, null, VALID_ATTENDANCE,
+                        VALID_GENERAL_NOTES, VALID_STUDENT_NOTES, false, participation);
+        String expectedMessage = String.format(MESSAGE_UNKNOWN_STUDENT_INDEX,
+                StudioParticipation.class.getSimpleName(), VALID_STUDENTS.size());
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> studio.toModelType(STUDENTS_BY_MATRIC_NUM));
     }
-}
 
+    @Test
+    public void toModelType_detailsUsedAfterLoading_sameAsStudio() throws Exception {
+        Studio studio = new JsonAdaptedStudio(STUDIO_1).toModelType(STUDENTS_BY_MATRIC_NUM);
+        Student student = STUDIO_1.getStudentList().get(0);
+        assertEquals(STUDIO_1.getParticipationForStudent(student), studio.getParticipationForStudent(student));
+        assertEquals(STUDIO_1.getStudentNotesString(student), studio.getStudentNotesString(student));
+
+        studio.markAsPresent(student);
+        assertEquals("Present", studio.isPresent(student));
+        assertEquals(Boolean.TRUE, new JsonAdaptedStudio(studio).getAttendance().get(0));
+    }
+}
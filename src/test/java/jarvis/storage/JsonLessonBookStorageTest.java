@@ -5,19 +5,28 @@ import static jarvis.testutil.TypicalLessons.CONSULT_1;
 import static jarvis.testutil.TypicalLessons.MC_1;
 import static jarvis.testutil.TypicalLessons.STUDIO_1;
 import static jarvis.testutil.TypicalLessons.getTypicalLessonBook;
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.JsonUtil;
 import jarvis.model.LessonBook;
 import jarvis.model.ReadOnlyLessonBook;
+import jarvis.model.StudentBook;
+import jarvis.model.Studio;
 
 public class JsonLessonBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonLessonBookStorageTest");
@@ -31,7 +40,8 @@ public class JsonLessonBookStorageTest {
     }
 
     private java.util.Optional<ReadOnlyLessonBook> readLessonBook(String filePath) throws Exception {
-        return new JsonLessonBookStorage(Paths.get(filePath)).readLessonBook(addToTestDataPathIfNotNull(filePath));
+        return new JsonLessonBookStorage(Paths.get(filePath))
+                .readLessonBook(addToTestDataPathIfNotNull(filePath), getTypicalStudentBook());
     }
 
     private Path addToTestDataPathIfNotNull(String prefsFileInTestDataFolder) {
@@ -50,40 +60,112 @@ public class JsonLessonBookStorageTest {
         assertThrows(DataConversionException.class, () -> readLessonBook("notJsonFormatLessonBook.json"));
     }
 
+    /**
+     * Reads a copy of the test data file, so that its quarantine file is written to the temporary folder.
+     */
+    private ReadOnlyLessonBook readCopyOfLessonBook(String fileInTestDataFolder) throws Exception {
+        Path filePath = testFolder.resolve(fileInTestDataFolder);
+        Files.copy(TEST_DATA_FOLDER.resolve(fileInTestDataFolder), filePath);
+        return new JsonLessonBookStorage(filePath).readLessonBook(getTypicalStudentBook()).get();
+    }
+
     @Test
-    public void readLessonBook_invalidLessonLessonBook_throwDataConversionException() {
-        assertThrows(DataConversionException.class, () -> readLessonBook("invalidLessonLessonBook.json"));
+    public void readLessonBook_invalidLessonLessonBook_lessonQuarantined() throws Exception {
+        assertEquals(0, readCopyOfLessonBook("invalidLessonLessonBook.json").getLessonList().size());
+        assertTrue(Files.exists(testFolder.resolve("invalidLessonLessonBook-quarantine.json")));
     }
 
     @Test
-    public void readLessonBook_invalidAndValidLessonLessonBook_throwDataConversionException() {
-        assertThrows(DataConversionException.class, () -> readLessonBook("invalidAndValidLessonLessonBook.json"));
+    public void readLessonBook_invalidAndValidLessonLessonBook_validLessonRead() throws Exception {
+        assertEquals(1, readCopyOfLessonBook("invalidAndValidLessonLessonBook.json").getLessonList().size());
+        assertTrue(Files.exists(testFolder.resolve("invalidAndValidLessonLessonBook-quarantine.json")));
+    }
+
+    @Test
+    public void readLessonBook_invalidAndValidLessonLessonBookReadTwice_lessonQuarantinedOnce() throws Exception {
+        Path filePath = testFolder.resolve("invalidAndValidLessonLessonBook.json");
+        Path quarantineFilePath = testFolder.resolve("invalidAndValidLessonLessonBook-quarantine.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidLessonLessonBook.json"), filePath);
+        JsonLessonBookStorage jsonLessonBookStorage = new JsonLessonBookStorage(filePath);
+
+        assertEquals(1, jsonLessonBookStorage.readLessonBook(getTypicalStudentBook()).get().getLessonList().size());
+        assertEquals(1, JsonUtil.readJsonFile(filePath, JsonSerializableLessonBook.class).get().getLessons().size());
+        assertEquals(1, JsonUtil.readJsonFile(quarantineFilePath, JsonSerializableQuarantine.class).get().size());
+
+        // the invalid lesson is read again if the data file could not be written without it
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidLessonLessonBook.json"), filePath,
+                StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(1, jsonLessonBookStorage.readLessonBook(getTypicalStudentBook()).get().getLessonList().size());
+        assertEquals(1, JsonUtil.readJsonFile(quarantineFilePath, JsonSerializableQuarantine.class).get().size());
+    }
+
+    @Test
+    public void readAndSaveLessonBook_studentIndexMissingFromLessonData_savedWithEmptyData() throws Exception {
+        ReadOnlyLessonBook lessonBook = readCopyOfLessonBook("missingStudentIndexLessonBook.json");
+        Studio studio = (Studio) lessonBook.getLessonList().get(0);
+        assertEquals(List.of(), studio.getStudentNotes().get(1));
+        assertEquals(Integer.valueOf(0), studio.getParticipation().get(1));
+
+        Path filePath = testFolder.resolve("TempLessonBook.json");
+        JsonLessonBookStorage jsonLessonBookStorage = new JsonLessonBookStorage(filePath);
+        jsonLessonBookStorage.saveLessonBook(lessonBook, getTypicalStudentBook(), filePath);
+        Studio readBack = (Studio) jsonLessonBookStorage.readLessonBook(filePath, getTypicalStudentBook()).get()
+                .getLessonList().get(0);
+        assertEquals(List.of("Good work"), readBack.getStudentNotes().get(0));
+        assertEquals(List.of(), readBack.getStudentNotes().get(1));
+        assertEquals(Integer.valueOf(100), readBack.getParticipation().get(0));
+        assertEquals(Integer.valueOf(0), readBack.getParticipation().get(1));
     }
 
     @Test
     public void readAndSaveLessonBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempLessonBook.json");
-        LessonBook original = getTypicalLessonBook();
+        LessonBook original = getTypicalLessonBook(List.of(MC_1, STUDIO_1, CONSULT_1));
         JsonLessonBookStorage jsonLessonBookStorage = new JsonLessonBookStorage(filePath);
 
         // Save in new file and read back
-        jsonLessonBookStorage.saveLessonBook(original, filePath);
-        ReadOnlyLessonBook readBack = jsonLessonBookStorage.readLessonBook(filePath).get();
+        jsonLessonBookStorage.saveLessonBook(original, getTypicalStudentBook(), filePath);
+        ReadOnlyLessonBook readBack = jsonLessonBookStorage.readLessonBook(filePath, getTypicalStudentBook()).get();
         assertEquals(original, new LessonBook(readBack));
 
         // Modify data, overwrite exiting file, and read back
         original.removeLesson(MC_1);
         original.removeLesson(STUDIO_1);
-        jsonLessonBookStorage.saveLessonBook(original, filePath);
-        readBack = jsonLessonBookStorage.readLessonBook(filePath).get();
+        jsonLessonBookStorage.saveLessonBook(original, getTypicalStudentBook(), filePath);
+        readBack = jsonLessonBookStorage.readLessonBook(filePath, getTypicalStudentBook()).get();
         assertEquals(original, new LessonBook(readBack));
 
         // Save and read without specifying file path
         original.removeLesson(CONSULT_1);
-        jsonLessonBookStorage.saveLessonBook(original); // file path not specified
-        readBack = jsonLessonBookStorage.readLessonBook().get(); // file path not specified
+        jsonLessonBookStorage.saveLessonBook(original, getTypicalStudentBook()); // file path not specified
+        readBack = jsonLessonBookStorage.readLessonBook(getTypicalStudentBook()).get(); // file path not specified
+        assertEquals(original, new LessonBook(readBack));
+
+    }
+
+    @Test
+    public void readLessonBook_studentsNotInStudentBook_usesSavedCopies() throws Exception {
+        Path filePath = testFolder.resolve("TempLessonBook.json");
+        LessonBook original = getTypicalLessonBook();
+        JsonLessonBookStorage jsonLessonBookStorage = new JsonLessonBookStorage(filePath);
+
+        jsonLessonBookStorage.saveLessonBook(original, new StudentBook(), filePath);
+        ReadOnlyLessonBook readBack = jsonLessonBookStorage.readLessonBook(filePath, new StudentBook()).get();
         assertEquals(original, new LessonBook(readBack));
+    }
 
+    @Test
+    public void saveLessonBook_studentsInStudentBook_onlyMissingStudentsCopied() throws Exception {
+        Path filePath = testFolder.resolve("TempLessonBook.json");
+        StudentBook studentBook = getTypicalStudentBook();
+        new JsonLessonBookStorage(filePath).saveLessonBook(getTypicalLessonBook(), studentBook, filePath);
+        assertTrue(JsonUtil.readJsonFile(filePath, JsonSerializableLessonBook.class).get().getStudents().isEmpty());
+
+        studentBook.removeStudent(ALICE);
+        new JsonLessonBookStorage(filePath).saveLessonBook(getTypicalLessonBook(), studentBook, filePath);
+        List<JsonAdaptedStudent> copies =
+                JsonUtil.readJsonFile(filePath, JsonSerializableLessonBook.class).get().getStudents();
+        assertEquals(List.of(ALICE), JsonAdaptedStudent.toModelList(copies));
     }
 
     @Test
@@ -97,7 +179,7 @@ public class JsonLessonBookStorageTest {
     private void saveLessonBook(ReadOnlyLessonBook lessonBook, String filePath) {
         try {
             new JsonLessonBookStorage(Paths.get(filePath))
-                    .saveLessonBook(lessonBook, addToTestDataPathIfNotNull(filePath));
+                    .saveLessonBook(lessonBook, getTypicalStudentBook(), addToTestDataPathIfNotNull(filePath));
         } catch (IOException ioe) {
             throw new AssertionError("There should not be an error writing to the file.", ioe);
         }
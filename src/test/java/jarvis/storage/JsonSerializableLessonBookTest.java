@@ -1,10 +1,14 @@
 package jarvis.storage;
 
 import static jarvis.testutil.Assert.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static jarvis.testutil.LessonUtil.hasSameLessons;
+import static jarvis.testutil.TypicalStudents.getTypicalStudents;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,6 +21,7 @@ public class JsonSerializableLessonBookTest {
 
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableLessonBookTest");
     private static final Path TYPICAL_LESSONS_FILE = TEST_DATA_FOLDER.resolve("typicalLessonsLessonBook.json");
+    private static final Path STUDENT_COPIES_FILE = TEST_DATA_FOLDER.resolve("studentCopiesLessonBook.json");
     private static final Path INVALID_LESSON_FILE = TEST_DATA_FOLDER.resolve("invalidLessonLessonBook.json");
     private static final Path CLASHING_LESSON_FILE = TEST_DATA_FOLDER.resolve("clashingLessonLessonBook.json");
 
@@ -24,16 +29,36 @@ public class JsonSerializableLessonBookTest {
     public void toModelType_typicalLessonsFile_success() throws Exception {
         JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_LESSONS_FILE,
                 JsonSerializableLessonBook.class).get();
-        LessonBook lessonBookFromFile = dataFromFile.toModelType();
+        assertFalse(dataFromFile.hasStudentCopies());
+        LessonBook lessonBookFromFile = dataFromFile.toModelType(getTypicalStudents());
         LessonBook typicalLessonBook = TypicalLessons.getTypicalLessonBook();
-        assertEquals(lessonBookFromFile, typicalLessonBook);
+        // lessons saved without ids are given new ids
+        assertTrue(hasSameLessons(typicalLessonBook.getLessonList(), lessonBookFromFile.getLessonList()));
+    }
+
+    @Test
+    public void toModelType_studentCopiesFile_success() throws Exception {
+        JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(STUDENT_COPIES_FILE,
+                JsonSerializableLessonBook.class).get();
+        assertTrue(dataFromFile.hasStudentCopies());
+        LessonBook lessonBookFromFile = dataFromFile.toModelType(getTypicalStudents());
+        LessonBook typicalLessonBook = TypicalLessons.getTypicalLessonBook();
+        // lessons saved without ids are given new ids
+        assertTrue(hasSameLessons(typicalLessonBook.getLessonList(), lessonBookFromFile.getLessonList()));
+    }
+
+    @Test
+    public void toModelType_unknownStudent_throwsIllegalArgumentException() throws Exception {
+        JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_LESSONS_FILE,
+                JsonSerializableLessonBook.class).get();
+        assertThrows(IllegalArgumentException.class, () -> dataFromFile.toModelType(List.of()));
     }
 
     @Test
     public void toModelType_invalidLessonFile_throwsIllegalArgumentException() throws Exception {
         JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(INVALID_LESSON_FILE,
                 JsonSerializableLessonBook.class).get();
-        assertThrows(IllegalArgumentException.class, dataFromFile::toModelType);
+        assertThrows(IllegalArgumentException.class, () -> dataFromFile.toModelType(getTypicalStudents()));
     }
 
     @Test
@@ -41,7 +66,7 @@ public class JsonSerializableLessonBookTest {
         JsonSerializableLessonBook dataFromFile = JsonUtil.readJsonFile(CLASHING_LESSON_FILE,
                 JsonSerializableLessonBook.class).get();
         assertThrows(LessonClashException.class, LessonClashException.MESSAGE,
-                dataFromFile::toModelType);
+                () -> dataFromFile.toModelType(getTypicalStudents()));
     }
 
 }
@@ -44,4 +44,22 @@ public class JsonSerializableStudentBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidStudentFileWithQuarantine_studentQuarantined() throws Exception {
+        JsonSerializableStudentBook dataFromFile = JsonUtil.readJsonFile(INVALID_STUDENT_FILE,
+                JsonSerializableStudentBook.class).get();
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        assertEquals(new StudentBook(), dataFromFile.toModelType(quarantine));
+        assertEquals(1, quarantine.size());
+    }
+
+    @Test
+    public void toModelType_duplicateStudentsWithQuarantine_firstStudentKept() throws Exception {
+        JsonSerializableStudentBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_STUDENT_FILE,
+                JsonSerializableStudentBook.class).get();
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        assertEquals(1, dataFromFile.toModelType(quarantine).getStudentList().size());
+        assertEquals(1, quarantine.size());
+    }
+
 }
@@ -0,0 +1,109 @@
+package jarvis.storage;
+
+import static jarvis.testutil.TypicalLessons.getTypicalLessonBook;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jarvis.model.Lesson;
+import jarvis.model.LessonBook;
+import jarvis.model.Studio;
+
+public class MvStoreLessonBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private MvStoreLessonBookStorage createStorage() {
+        Path filePath = testFolder.resolve("lessonbook.json");
+        return new MvStoreLessonBookStorage(filePath, new SegmentedLessonBookStorage(filePath));
+    }
+
+    @Test
+    public void readAndSaveLessonBook_allInOrder_success() throws Exception {
+        MvStoreLessonBookStorage storage = createStorage();
+        LessonBook original = getTypicalLessonBook();
+
+        storage.saveLessonBook(original, getTypicalStudentBook());
+        assertEquals(original, new LessonBook(storage.readLessonBook(getTypicalStudentBook()).get()));
+
+        Lesson lesson = original.getLessonList().get(0);
+        lesson.addOverallNote("Bring slides");
+        lesson.markAsPresent(lesson.getStudentList().get(0));
+        storage.saveLessonBook(original, getTypicalStudentBook());
+        assertEquals(original, new LessonBook(storage.readLessonBook(getTypicalStudentBook()).get()));
+    }
+
+    @Test
+    public void saveLessonBook_lessonDetailsKeptInOwnTables() throws Exception {
+        MvStoreLessonBookStorage storage = createStorage();
+        storage.saveLessonBook(getTypicalLessonBook(), getTypicalStudentBook());
+
+        Map<String, Map<String, byte[]>> tables = MvStoreUtil.readTables(storage.getLessonBookFilePath(),
+                "lessons", "attendance", "notes", "participation", "students");
+        assertEquals(3, tables.get("lessons").size());
+        for (byte[] row : tables.get("lessons").values()) {
+            ObjectNode lesson = MvStoreUtil.fromRow(row, ObjectNode.class);
+            assertFalse(lesson.has("attendance"));
+            assertFalse(lesson.has("generalNotes"));
+        }
+        assertEquals(3, tables.get("attendance").size());
+        assertEquals(3, tables.get("notes").size());
+        // only studios have participation
+        assertEquals(1, tables.get("participation").size());
+        // every student is in the student book
+        assertTrue(tables.get("students").isEmpty());
+    }
+
+    @Test
+    public void saveLessonBook_changesTracked_onlyChangedLessonsWritten() throws Exception {
+        MvStoreLessonBookStorage storage = createStorage();
+        LessonBook lessonBook = getTypicalLessonBook();
+        storage.saveLessonBook(lessonBook, getTypicalStudentBook());
+        lessonBook.markAsWritten();
+
+        Lesson untrackedLesson = lessonBook.getLessonList().get(0);
+        Studio studio = (Studio) lessonBook.getLessonList().get(1);
+        Lesson removedLesson = lessonBook.getLessonList().get(2);
+        // a change the lesson book does not know about is only saved if the lesson is written
+        untrackedLesson.addOverallNote("Not tracked");
+        studio.markAsPresent(studio.getStudentList().get(0));
+        studio.addOverallNote("Bring slides");
+        lessonBook.setLesson(studio, studio);
+        lessonBook.removeLesson(removedLesson);
+        storage.saveLessonBook(lessonBook, getTypicalStudentBook());
+
+        LessonBook savedLessonBook = new LessonBook(storage.readLessonBook(getTypicalStudentBook()).get());
+        assertEquals(2, savedLessonBook.getLessonList().size());
+        assertTrue(savedLessonBook.getLessonList().get(0).getGeneralNotes().isEmpty());
+        Lesson savedStudio = savedLessonBook.getLessonList().get(1);
+        assertEquals(studio.getGeneralNotes(), savedStudio.getGeneralNotes());
+        assertEquals(studio.getAttendance(), savedStudio.getAttendance());
+    }
+
+    @Test
+    public void readLessonBook_noDatabase_importsDataFiles() throws Exception {
+        LessonBook lessonBook = getTypicalLessonBook();
+        new SegmentedLessonBookStorage(testFolder.resolve("lessonbook.json"))
+                .saveLessonBook(lessonBook, getTypicalStudentBook());
+
+        MvStoreLessonBookStorage storage = createStorage();
+        assertEquals(lessonBook, new LessonBook(storage.readLessonBook(getTypicalStudentBook()).get()));
+        assertTrue(Files.exists(storage.getLessonBookFilePath()));
+    }
+
+    @Test
+    public void readLessonBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readLessonBook(getTypicalStudentBook()).isPresent());
+    }
+}
@@ -0,0 +1,60 @@
+package jarvis.storage;
+
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.model.StudentBook;
+
+public class MvStoreStudentBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private MvStoreStudentBookStorage createStorage() {
+        Path filePath = testFolder.resolve("studentbook.json");
+        return new MvStoreStudentBookStorage(filePath, new JsonStudentBookStorage(filePath));
+    }
+
+    @Test
+    public void getStudentBookFilePath_databaseNextToFile() {
+        assertEquals(testFolder.resolve("studentbook.mv.db"), createStorage().getStudentBookFilePath());
+    }
+
+    @Test
+    public void readAndSaveStudentBook_allInOrder_success() throws Exception {
+        MvStoreStudentBookStorage storage = createStorage();
+        StudentBook original = getTypicalStudentBook();
+
+        storage.saveStudentBook(original);
+        assertEquals(original, new StudentBook(storage.readStudentBook().get()));
+
+        original.removeStudent(ALICE);
+        storage.saveStudentBook(original);
+        assertEquals(original, new StudentBook(storage.readStudentBook().get()));
+    }
+
+    @Test
+    public void readStudentBook_noDatabase_importsDataFile() throws Exception {
+        new JsonStudentBookStorage(testFolder.resolve("studentbook.json")).saveStudentBook(getTypicalStudentBook());
+
+        MvStoreStudentBookStorage storage = createStorage();
+        assertEquals(getTypicalStudentBook(), new StudentBook(storage.readStudentBook().get()));
+        assertTrue(Files.exists(storage.getStudentBookFilePath()));
+    }
+
+    @Test
+    public void readStudentBook_missingFiles_emptyResult() throws Exception {
+        MvStoreStudentBookStorage storage = createStorage();
+        assertFalse(storage.readStudentBook().isPresent());
+        assertFalse(Files.exists(storage.getStudentBookFilePath()));
+    }
+}
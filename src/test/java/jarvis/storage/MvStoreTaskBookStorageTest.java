@@ -0,0 +1,53 @@
+package jarvis.storage;
+
+import static jarvis.testutil.TypicalTasks.QUEST1;
+import static jarvis.testutil.TypicalTasks.getTypicalTaskBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.model.TaskBook;
+
+public class MvStoreTaskBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private MvStoreTaskBookStorage createStorage() {
+        Path filePath = testFolder.resolve("taskbook.json");
+        return new MvStoreTaskBookStorage(filePath, new JsonTaskBookStorage(filePath));
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        MvStoreTaskBookStorage storage = createStorage();
+        TaskBook original = getTypicalTaskBook();
+
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+
+        original.removeTask(QUEST1);
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+    }
+
+    @Test
+    public void readTaskBook_noDatabase_importsDataFile() throws Exception {
+        new JsonTaskBookStorage(testFolder.resolve("taskbook.json")).saveTaskBook(getTypicalTaskBook());
+
+        MvStoreTaskBookStorage storage = createStorage();
+        assertEquals(getTypicalTaskBook(), new TaskBook(storage.readTaskBook().get()));
+        assertTrue(Files.exists(storage.getTaskBookFilePath()));
+    }
+
+    @Test
+    public void readTaskBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readTaskBook().isPresent());
+    }
+}
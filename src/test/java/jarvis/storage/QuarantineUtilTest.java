@@ -0,0 +1,66 @@
+package jarvis.storage;
+
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.commons.util.JsonUtil;
+
+public class QuarantineUtilTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getQuarantineFilePath_dataFile_quarantineNextToDataFile() {
+        assertEquals(testFolder.resolve("studentbook-quarantine.json"),
+                QuarantineUtil.getQuarantineFilePath(testFolder.resolve("studentbook.json")));
+        assertEquals(testFolder.resolve("studentbook-quarantine.json"),
+                QuarantineUtil.getQuarantineFilePath(testFolder.resolve("studentbook.mv.db")));
+    }
+
+    @Test
+    public void quarantine_emptyQuarantine_noFileSaved() {
+        Path dataFilePath = testFolder.resolve("studentbook.json");
+        QuarantineUtil.quarantine(dataFilePath, new JsonSerializableQuarantine());
+        assertFalse(Files.exists(QuarantineUtil.getQuarantineFilePath(dataFilePath)));
+    }
+
+    @Test
+    public void quarantine_twice_entriesAppended() throws Exception {
+        Path dataFilePath = testFolder.resolve("studentbook.json");
+        JsonSerializableQuarantine first = new JsonSerializableQuarantine();
+        first.addStudent(new JsonAdaptedStudent(ALICE), "first reason");
+        JsonSerializableQuarantine second = new JsonSerializableQuarantine();
+        second.addStudent(new JsonAdaptedStudent(BENSON), "second reason");
+
+        QuarantineUtil.quarantine(dataFilePath, first);
+        QuarantineUtil.quarantine(dataFilePath, second);
+
+        JsonSerializableQuarantine saved = JsonUtil.readJsonFile(QuarantineUtil.getQuarantineFilePath(dataFilePath),
+                JsonSerializableQuarantine.class).get();
+        assertEquals(2, saved.size());
+    }
+
+    @Test
+    public void quarantine_sameItemTwice_entrySavedOnce() throws Exception {
+        Path dataFilePath = testFolder.resolve("studentbook.json");
+        JsonSerializableQuarantine quarantine = new JsonSerializableQuarantine();
+        quarantine.addStudent(new JsonAdaptedStudent(ALICE), "reason");
+
+        assertTrue(QuarantineUtil.quarantine(dataFilePath, quarantine));
+        assertTrue(QuarantineUtil.quarantine(dataFilePath, quarantine));
+
+        JsonSerializableQuarantine saved = JsonUtil.readJsonFile(QuarantineUtil.getQuarantineFilePath(dataFilePath),
+                JsonSerializableQuarantine.class).get();
+        assertEquals(1, saved.size());
+    }
+}
@@ -0,0 +1,159 @@
+package jarvis.storage;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static jarvis.testutil.TypicalLessons.CONSULT_DESCRIPTION_1;
+import static jarvis.testutil.TypicalLessons.CONSULT_STUDENTS;
+import static jarvis.testutil.TypicalLessons.getTypicalLessonBook;
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.commons.exceptions.DataConversionException;
+import jarvis.commons.util.FileUtil;
+import jarvis.model.Consult;
+import jarvis.model.LessonBook;
+import jarvis.model.StudentBook;
+import jarvis.model.TimePeriod;
+
+public class SegmentedLessonBookStorageTest {
+
+    private static final LocalDateTime NOVEMBER = LocalDateTime.of(2022, 11, 1, 10, 0);
+    private static final LocalDateTime DECEMBER = LocalDateTime.of(2022, 12, 1, 10, 0);
+
+    @TempDir
+    public Path testFolder;
+
+    private Consult consultAt(LocalDateTime start) {
+        return new Consult(CONSULT_DESCRIPTION_1, new TimePeriod(start, start.plusHours(1)), CONSULT_STUDENTS);
+    }
+
+    @Test
+    public void readAndSaveLessonBook_allInOrder_success() throws Exception {
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(testFolder.resolve("lessonbook.json"));
+        LessonBook original = getTypicalLessonBook();
+        original.addLesson(consultAt(NOVEMBER));
+
+        storage.saveLessonBook(original, getTypicalStudentBook());
+        assertEquals(original, new LessonBook(storage.readLessonBook(getTypicalStudentBook()).get()));
+        assertTrue(Files.exists(testFolder.resolve("lessonbook-segments").resolve("2022-11.json")));
+        assertTrue(Files.exists(testFolder.resolve("lessonbook-segments").resolve("2022-12.json")));
+    }
+
+    @Test
+    public void saveLessonBook_oneMonthChanged_otherMonthNotRewritten() throws Exception {
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(testFolder.resolve("lessonbook.json"));
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.addLesson(consultAt(NOVEMBER));
+        lessonBook.addLesson(consultAt(DECEMBER));
+        storage.saveLessonBook(lessonBook, getTypicalStudentBook());
+
+        // a segment that is rewritten loses this marker
+        Path novemberSegment = testFolder.resolve("lessonbook-segments").resolve("2022-11.json");
+        FileUtil.writeToFile(novemberSegment, "unchanged");
+
+        lessonBook.addLesson(consultAt(DECEMBER.plusDays(1)));
+        storage.saveLessonBook(lessonBook, getTypicalStudentBook());
+        assertEquals("unchanged", FileUtil.readFromFile(novemberSegment));
+    }
+
+    @Test
+    public void saveLessonBook_changesTracked_onlyChangedMonthsSerialized() throws Exception {
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(testFolder.resolve("lessonbook.json"));
+        LessonBook lessonBook = new LessonBook();
+        Consult novemberConsult = consultAt(NOVEMBER);
+        lessonBook.addLesson(novemberConsult);
+        lessonBook.addLesson(consultAt(DECEMBER));
+        storage.saveLessonBook(lessonBook, getTypicalStudentBook());
+        lessonBook.markAsWritten();
+        Path novemberSegment = testFolder.resolve("lessonbook-segments").resolve("2022-11.json");
+        byte[] novemberContents = Files.readAllBytes(novemberSegment);
+
+        // a change the lesson book does not know about is only saved if its month is serialized
+        novemberConsult.addOverallNote("Not tracked");
+        lessonBook.addLesson(consultAt(DECEMBER.plusDays(1)));
+        storage.saveLessonBook(lessonBook, getTypicalStudentBook());
+        assertArrayEquals(novemberContents, Files.readAllBytes(novemberSegment));
+        assertEquals(3, storage.readLessonBook(getTypicalStudentBook()).get().getLessonList().size());
+    }
+
+    @Test
+    public void saveLessonBook_filesNotReadOrWrittenByStorage_allMonthsSerialized() throws Exception {
+        Path filePath = testFolder.resolve("lessonbook.json");
+        LessonBook lessonBook = new LessonBook();
+        Consult novemberConsult = consultAt(NOVEMBER);
+        lessonBook.addLesson(novemberConsult);
+        new SegmentedLessonBookStorage(filePath).saveLessonBook(lessonBook, getTypicalStudentBook());
+        lessonBook.markAsWritten();
+
+        novemberConsult.addOverallNote("Not tracked");
+        lessonBook.addLesson(consultAt(DECEMBER));
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        storage.saveLessonBook(lessonBook, getTypicalStudentBook());
+        assertEquals(lessonBook, new LessonBook(storage.readLessonBook(getTypicalStudentBook()).get()));
+    }
+
+    @Test
+    public void saveLessonBook_studentRemovedFromStudentBook_lessonsOfStudentKept() throws Exception {
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(testFolder.resolve("lessonbook.json"));
+        LessonBook lessonBook = new LessonBook();
+        lessonBook.addLesson(consultAt(NOVEMBER));
+        StudentBook studentBook = getTypicalStudentBook();
+        storage.saveLessonBook(lessonBook, studentBook);
+        lessonBook.markAsWritten();
+
+        studentBook.removeStudent(ALICE);
+        lessonBook.markStudentRemoved(ALICE);
+        storage.saveLessonBook(lessonBook, studentBook);
+        assertEquals(lessonBook, new LessonBook(storage.readLessonBook(studentBook).get()));
+    }
+
+    @Test
+    public void saveLessonBook_monthEmptied_segmentDeleted() throws Exception {
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(testFolder.resolve("lessonbook.json"));
+        LessonBook lessonBook = new LessonBook();
+        Consult novemberConsult = consultAt(NOVEMBER);
+        lessonBook.addLesson(novemberConsult);
+        lessonBook.addLesson(consultAt(DECEMBER));
+        storage.saveLessonBook(lessonBook, getTypicalStudentBook());
+
+        lessonBook.removeLesson(novemberConsult);
+        storage.saveLessonBook(lessonBook, getTypicalStudentBook());
+        assertFalse(Files.exists(testFolder.resolve("lessonbook-segments").resolve("2022-11.json")));
+        assertEquals(lessonBook, new LessonBook(storage.readLessonBook(getTypicalStudentBook()).get()));
+    }
+
+    @Test
+    public void readLessonBook_noSegments_readsSingleFile() throws Exception {
+        Path filePath = testFolder.resolve("lessonbook.json");
+        LessonBook lessonBook = getTypicalLessonBook();
+        new JsonLessonBookStorage(filePath).saveLessonBook(lessonBook, getTypicalStudentBook());
+
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(filePath);
+        assertEquals(lessonBook, new LessonBook(storage.readLessonBook(getTypicalStudentBook()).get()));
+    }
+
+    @Test
+    public void readLessonBook_missingFiles_emptyResult() throws Exception {
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(testFolder.resolve("lessonbook.json"));
+        assertFalse(storage.readLessonBook(getTypicalStudentBook()).isPresent());
+    }
+
+    @Test
+    public void readLessonBook_missingSegment_throwsDataConversionException() throws Exception {
+        SegmentedLessonBookStorage storage = new SegmentedLessonBookStorage(testFolder.resolve("lessonbook.json"));
+        storage.saveLessonBook(getTypicalLessonBook(), getTypicalStudentBook());
+        Files.delete(testFolder.resolve("lessonbook-segments").resolve("2022-12.json"));
+
+        assertThrows(DataConversionException.class, () -> storage.readLessonBook(getTypicalStudentBook()));
+    }
+}
@@ -0,0 +1,70 @@
+package jarvis.storage;
+
+import static jarvis.testutil.TypicalLessons.getTypicalLessonBook;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+import static jarvis.testutil.TypicalTasks.getTypicalTaskBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.commons.core.StorageFormat;
+import jarvis.model.LessonBook;
+import jarvis.model.StudentBook;
+import jarvis.model.TaskBook;
+import jarvis.model.UserPrefs;
+
+public class StorageFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToSmile_smileFilesReadBackSameBooks() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudentBookFilePath(testFolder.resolve("studentbook.json"));
+        userPrefs.setTaskBookFilePath(testFolder.resolve("taskbook.json"));
+        userPrefs.setLessonBookFilePath(testFolder.resolve("lessonbook.json"));
+
+        StudentBook studentBook = getTypicalStudentBook();
+        LessonBook lessonBook = getTypicalLessonBook();
+        new JsonStudentBookStorage(userPrefs.getStudentBookFilePath()).saveStudentBook(studentBook);
+        new JsonTaskBookStorage(userPrefs.getTaskBookFilePath()).saveTaskBook(getTypicalTaskBook());
+        new JsonLessonBookStorage(userPrefs.getLessonBookFilePath()).saveLessonBook(lessonBook, studentBook);
+
+        new StorageFormatConverter(userPrefs).convert(StorageFormat.JSON, StorageFormat.SMILE);
+
+        // the json files are kept
+        assertTrue(Files.exists(testFolder.resolve("studentbook.json")));
+        assertTrue(Files.exists(testFolder.resolve("studentbook.sml")));
+
+        // the smile files are read, even without the json files
+        Files.delete(testFolder.resolve("studentbook.json"));
+        Files.delete(testFolder.resolve("taskbook.json"));
+        Files.delete(testFolder.resolve("lessonbook.json"));
+        assertEquals(studentBook, new StudentBook(new JsonStudentBookStorage(userPrefs.getStudentBookFilePath(),
+                StorageFormat.SMILE).readStudentBook().get()));
+        assertEquals(getTypicalTaskBook(), new TaskBook(new JsonTaskBookStorage(userPrefs.getTaskBookFilePath(),
+                StorageFormat.SMILE).readTaskBook().get()));
+        assertEquals(lessonBook, new LessonBook(new SegmentedLessonBookStorage(
+                userPrefs.getLessonBookFilePath(), StorageFormat.SMILE).readLessonBook(studentBook).get()));
+    }
+
+    @Test
+    public void convert_missingFiles_noFilesCreated() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setStudentBookFilePath(testFolder.resolve("studentbook.json"));
+        userPrefs.setTaskBookFilePath(testFolder.resolve("taskbook.json"));
+        userPrefs.setLessonBookFilePath(testFolder.resolve("lessonbook.json"));
+
+        new StorageFormatConverter(userPrefs).convert(StorageFormat.JSON, StorageFormat.SMILE);
+
+        assertFalse(Files.exists(testFolder.resolve("studentbook.sml")));
+        assertFalse(Files.exists(testFolder.resolve("lessonbook.sml")));
+    }
+}
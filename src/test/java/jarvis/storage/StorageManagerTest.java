@@ -2,9 +2,13 @@ package jarvis.storage;
 
 import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,8 +31,10 @@ public class StorageManagerTest {
         JsonStudentBookStorage studentBookStorage = new JsonStudentBookStorage(getTempFilePath("sb"));
         JsonTaskBookStorage taskBookStorage = new JsonTaskBookStorage(getTempFilePath("tb"));
         JsonLessonBookStorage lessonBookStorage = new JsonLessonBookStorage(getTempFilePath("lb"));
+        TextJournalStorage journalStorage = new TextJournalStorage(getTempFilePath("journal"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
-        storageManager = new StorageManager(studentBookStorage, taskBookStorage, lessonBookStorage, userPrefsStorage);
+        storageManager = new StorageManager(studentBookStorage, taskBookStorage, lessonBookStorage, journalStorage,
+                userPrefsStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -62,6 +68,27 @@ public class StorageManagerTest {
         assertEquals(original, new StudentBook(retrieved));
     }
 
+    @Test
+    public void saveStudentBook_noUnsavedChanges_skipsWrite() throws Exception {
+        StudentBook original = getTypicalStudentBook();
+        original.markAsSaved();
+        storageManager.saveStudentBook(original);
+        assertFalse(Files.exists(storageManager.getStudentBookFilePath()));
+    }
+
+    @Test
+    public void journalAppendReadClear() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link TextJournalStorage} class.
+         * More extensive testing of journal reading/writing is done in {@link TextJournalStorageTest} class.
+         */
+        storageManager.appendToJournal(Arrays.asList("liststudent", "marktask 1"));
+        assertEquals(Arrays.asList("liststudent", "marktask 1"), storageManager.readJournal());
+        storageManager.clearJournal();
+        assertEquals(Collections.emptyList(), storageManager.readJournal());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getStudentBookFilePath());
@@ -0,0 +1,64 @@
+package jarvis.storage;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TextJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJournal_missingFile_emptyResult() throws Exception {
+        TextJournalStorage journalStorage = new TextJournalStorage(testFolder.resolve("NonExistentFile.txt"));
+        assertEquals(Collections.emptyList(), journalStorage.readJournal());
+        assertEquals(0, journalStorage.getJournalSize());
+    }
+
+    @Test
+    public void appendToJournal_nullCommands_throwsNullPointerException() {
+        TextJournalStorage journalStorage = new TextJournalStorage(testFolder.resolve("journal.txt"));
+        assertThrows(NullPointerException.class, () -> journalStorage.appendToJournal(null));
+    }
+
+    @Test
+    public void appendAndRead_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("journal.txt");
+        TextJournalStorage journalStorage = new TextJournalStorage(filePath);
+
+        // append to new file in missing folder
+        journalStorage.appendToJournal(Arrays.asList("addtask t/Mark midterms", "marktask 1"));
+        assertEquals(Arrays.asList("addtask t/Mark midterms", "marktask 1"), journalStorage.readJournal());
+
+        // append to existing file
+        journalStorage.appendToJournal(Collections.singletonList("deletetask 1"));
+        assertEquals(Arrays.asList("addtask t/Mark midterms", "marktask 1", "deletetask 1"),
+                journalStorage.readJournal());
+        assertEquals(Files.size(filePath), journalStorage.getJournalSize());
+
+        // multi-line input is kept as a single entry
+        journalStorage.clearJournal();
+        journalStorage.appendToJournal(Collections.singletonList("addtask t/Line one\nline two"));
+        assertEquals(Collections.singletonList("addtask t/Line one line two"), journalStorage.readJournal());
+    }
+
+    @Test
+    public void clearJournal_existingFile_fileRemoved() throws Exception {
+        Path filePath = testFolder.resolve("journal.txt");
+        TextJournalStorage journalStorage = new TextJournalStorage(filePath);
+        journalStorage.appendToJournal(Collections.singletonList("clear"));
+        journalStorage.clearJournal();
+        assertTrue(Files.notExists(filePath));
+        assertEquals(Collections.emptyList(), journalStorage.readJournal());
+    }
+
+}
@@ -0,0 +1,119 @@
+package jarvis.storage;
+
+import static jarvis.testutil.Assert.assertThrows;
+import static jarvis.testutil.TypicalStudents.ALICE;
+import static jarvis.testutil.TypicalStudents.HOON;
+import static jarvis.testutil.TypicalStudents.getTypicalStudentBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jarvis.model.ReadOnlyStudentBook;
+import jarvis.model.StudentBook;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindStorage writeBehindStorage;
+
+    @BeforeEach
+    public void setUp() {
+        writeBehindStorage = new WriteBehindStorage(createStorageManager(
+                new JsonStudentBookStorage(testFolder.resolve("sb"))));
+    }
+
+    private StorageManager createStorageManager(StudentBookStorage studentBookStorage) {
+        return new StorageManager(studentBookStorage, new JsonTaskBookStorage(testFolder.resolve("tb")),
+                new JsonLessonBookStorage(testFolder.resolve("lb")),
+                new TextJournalStorage(testFolder.resolve("journal")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+    }
+
+    @Test
+    public void saveStudentBook_laterChangesToModel_savesBookAsAtSave() throws Exception {
+        StudentBook original = getTypicalStudentBook();
+        writeBehindStorage.saveStudentBook(original);
+        StudentBook expected = new StudentBook(original);
+
+        original.addStudent(HOON);
+        original.removeStudent(ALICE);
+        writeBehindStorage.flush();
+
+        ReadOnlyStudentBook retrieved = new JsonStudentBookStorage(testFolder.resolve("sb")).readStudentBook().get();
+        assertEquals(expected, new StudentBook(retrieved));
+    }
+
+    @Test
+    public void readStudentBook_afterSave_readsSavedBook() throws Exception {
+        StudentBook original = getTypicalStudentBook();
+        writeBehindStorage.saveStudentBook(original);
+        assertEquals(original, new StudentBook(writeBehindStorage.readStudentBook().get()));
+    }
+
+    @Test
+    public void appendToJournal_withClear_keepsOrder() throws Exception {
+        writeBehindStorage.appendToJournal(Arrays.asList("liststudent"));
+        writeBehindStorage.clearJournal();
+        writeBehindStorage.appendToJournal(Arrays.asList("listtask", "marktask 1"));
+        assertEquals(Arrays.asList("listtask", "marktask 1"), writeBehindStorage.readJournal());
+
+        writeBehindStorage.clearJournal();
+        assertEquals(0, writeBehindStorage.getJournalSize());
+        assertEquals(Collections.emptyList(), writeBehindStorage.readJournal());
+    }
+
+    @Test
+    public void saveStudentBook_ioExceptionInBackground_errorHandlerCalled() throws Exception {
+        writeBehindStorage = new WriteBehindStorage(createStorageManager(
+                new JsonStudentBookIoExceptionThrowingStub(testFolder.resolve("sb"))));
+        List<IOException> errors = new ArrayList<>();
+        writeBehindStorage.setSaveErrorHandler(errors::add);
+
+        writeBehindStorage.saveStudentBook(getTypicalStudentBook());
+        assertThrows(IOException.class, "dummy", writeBehindStorage::flush);
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage().contains("dummy"));
+
+        // the error is only thrown once
+        writeBehindStorage.flush();
+    }
+
+    @Test
+    public void clearJournal_afterFailedSave_journalKept() throws Exception {
+        writeBehindStorage = new WriteBehindStorage(createStorageManager(
+                new JsonStudentBookIoExceptionThrowingStub(testFolder.resolve("sb"))));
+        writeBehindStorage.appendToJournal(Arrays.asList("addstudent n/Hoon m/A0123456B"));
+        writeBehindStorage.saveStudentBook(getTypicalStudentBook());
+        writeBehindStorage.clearJournal();
+        assertThrows(IOException.class, writeBehindStorage::flush);
+
+        assertEquals(Arrays.asList("addstudent n/Hoon m/A0123456B"), writeBehindStorage.readJournal());
+    }
+
+    /**
+     * A stub class that throws an {@code IOException} when the save method is called.
+     */
+    private static class JsonStudentBookIoExceptionThrowingStub extends JsonStudentBookStorage {
+        private JsonStudentBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveStudentBook(ReadOnlyStudentBook studentBook, Path filePath) throws IOException {
+            throw new IOException("dummy");
+        }
+    }
+}
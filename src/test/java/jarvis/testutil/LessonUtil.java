@@ -9,6 +9,7 @@ import static jarvis.logic.parser.ParserUtil.DATE_FORMATTER;
 import static jarvis.logic.parser.ParserUtil.TIME_FORMATTER;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import jarvis.logic.commands.AddConsultCommand;
 import jarvis.logic.commands.AddMasteryCheckCommand;
@@ -65,4 +66,19 @@ public class LessonUtil {
 
         return sb.toString();
     }
+
+    /**
+     * Returns true if both lists have lessons with the same details in the same order, whatever the ids of the lessons.
+     */
+    public static boolean hasSameLessons(List<Lesson> lessons, List<Lesson> otherLessons) {
+        if (lessons.size() != otherLessons.size()) {
+            return false;
+        }
+        for (int i = 0; i < lessons.size(); i++) {
+            if (!lessons.get(i).hasSameContent(otherLessons.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }